@@ -0,0 +1,25 @@
+package com.fullcycle.catalogo.application.castmember.delete;
+
+import com.fullcycle.catalogo.application.UnitUseCase;
+import com.fullcycle.catalogo.domain.castmember.CastMemberGateway;
+
+import java.util.Objects;
+import java.util.Set;
+
+public class DeleteAllCastMembersUseCase extends UnitUseCase<Set<String>> {
+
+  private final CastMemberGateway castMemberGateway;
+
+  public DeleteAllCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+    this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+  }
+
+  @Override
+  public void execute(final Set<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return;
+    }
+
+    this.castMemberGateway.deleteAllById(ids);
+  }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.catalogo.application.castmember.save;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.domain.castmember.CastMember;
+import com.fullcycle.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+public class SaveAllCastMembersUseCase extends UseCase<List<CastMember>, List<CastMember>> {
+
+  private final CastMemberGateway castMemberGateway;
+
+  public SaveAllCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+    this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+  }
+
+  @Override
+  public List<CastMember> execute(final List<CastMember> members) {
+    if (members == null || members.isEmpty()) {
+      return List.of();
+    }
+
+    final var valid = new ArrayList<CastMember>();
+    final var invalid = new LinkedHashMap<String, Notification>();
+    members.forEach(it -> {
+      final var notification = Notification.create();
+      it.validate(notification);
+      if (notification.hasError()) {
+        invalid.put(it.id(), notification);
+      } else {
+        valid.add(it);
+      }
+    });
+
+    final var invalidError = invalid.isEmpty()
+        ? null
+        : BulkNotificationException.with("Invalid cast members", invalid);
+
+    final List<CastMember> saved;
+    try {
+      saved = valid.isEmpty() ? List.of() : this.castMemberGateway.saveAll(valid);
+    } catch (final RuntimeException e) {
+      // a failed write still reports the invalid ones, so the caller fails both
+      if (invalidError != null) {
+        e.addSuppressed(invalidError);
+      }
+      throw e;
+    }
+
+    if (invalidError != null) {
+      throw invalidError;
+    }
+
+    return saved;
+  }
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.catalogo.application.category.delete;
+
+import com.fullcycle.catalogo.application.UnitUseCase;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.Set;
+
+public class DeleteAllCategoriesUseCase extends UnitUseCase<Set<String>> {
+
+    private final CategoryGateway categoryGateway;
+
+    public DeleteAllCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        this.categoryGateway.deleteAllById(ids);
+    }
+}
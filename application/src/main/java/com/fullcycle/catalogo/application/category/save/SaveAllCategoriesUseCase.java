@@ -0,0 +1,61 @@
+package com.fullcycle.catalogo.application.category.save;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+public class SaveAllCategoriesUseCase extends UseCase<List<Category>, List<Category>> {
+
+    private final CategoryGateway categoryGateway;
+
+    public SaveAllCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Category> execute(final List<Category> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return List.of();
+        }
+
+        final var valid = new ArrayList<Category>();
+        final var invalid = new LinkedHashMap<String, Notification>();
+        categories.forEach(it -> {
+            final var notification = Notification.create();
+            it.validate(notification);
+            if (notification.hasError()) {
+                invalid.put(it.id(), notification);
+            } else {
+                valid.add(it);
+            }
+        });
+
+        final var invalidError = invalid.isEmpty()
+                ? null
+                : BulkNotificationException.with("Invalid categories", invalid);
+
+        final List<Category> saved;
+        try {
+            saved = valid.isEmpty() ? List.of() : this.categoryGateway.saveAll(valid);
+        } catch (final RuntimeException e) {
+            // a failed write still reports the invalid ones, so the caller fails both
+            if (invalidError != null) {
+                e.addSuppressed(invalidError);
+            }
+            throw e;
+        }
+
+        if (invalidError != null) {
+            throw invalidError;
+        }
+
+        return saved;
+    }
+}
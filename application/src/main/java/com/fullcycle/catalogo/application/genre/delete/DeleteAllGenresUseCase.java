@@ -0,0 +1,25 @@
+package com.fullcycle.catalogo.application.genre.delete;
+
+import com.fullcycle.catalogo.application.UnitUseCase;
+import com.fullcycle.catalogo.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.Set;
+
+public class DeleteAllGenresUseCase extends UnitUseCase<Set<String>> {
+
+  private final GenreGateway genreGateway;
+
+  public DeleteAllGenresUseCase(final GenreGateway genreGateway) {
+    this.genreGateway = Objects.requireNonNull(genreGateway);
+  }
+
+  @Override
+  public void execute(final Set<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return;
+    }
+
+    this.genreGateway.deleteAllById(ids);
+  }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.catalogo.application.genre.save;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.domain.genre.Genre;
+import com.fullcycle.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+public class SaveAllGenresUseCase extends UseCase<List<Genre>, List<Genre>> {
+
+  private final GenreGateway genreGateway;
+
+  public SaveAllGenresUseCase(final GenreGateway genreGateway) {
+    this.genreGateway = Objects.requireNonNull(genreGateway);
+  }
+
+  @Override
+  public List<Genre> execute(final List<Genre> genres) {
+    if (genres == null || genres.isEmpty()) {
+      return List.of();
+    }
+
+    final var valid = new ArrayList<Genre>();
+    final var invalid = new LinkedHashMap<String, Notification>();
+    genres.forEach(it -> {
+      final var notification = Notification.create();
+      it.validate(notification);
+      if (notification.hasError()) {
+        invalid.put(it.id(), notification);
+      } else {
+        valid.add(it);
+      }
+    });
+
+    final var invalidError = invalid.isEmpty()
+        ? null
+        : BulkNotificationException.with("Invalid genres", invalid);
+
+    final List<Genre> saved;
+    try {
+      saved = valid.isEmpty() ? List.of() : this.genreGateway.saveAll(valid);
+    } catch (final RuntimeException e) {
+      // a failed write still reports the invalid ones, so the caller fails both
+      if (invalidError != null) {
+        e.addSuppressed(invalidError);
+      }
+      throw e;
+    }
+
+    if (invalidError != null) {
+      throw invalidError;
+    }
+
+    return saved;
+  }
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.catalogo.application.video.delete;
+
+import com.fullcycle.catalogo.application.UnitUseCase;
+import com.fullcycle.catalogo.domain.video.VideoGateway;
+
+import java.util.Objects;
+import java.util.Set;
+
+public class DeleteAllVideosUseCase extends UnitUseCase<Set<String>> {
+
+  private final VideoGateway videoGateway;
+
+  public DeleteAllVideosUseCase(final VideoGateway videoGateway) {
+    this.videoGateway = Objects.requireNonNull(videoGateway);
+  }
+
+  @Override
+  public void execute(final Set<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return;
+    }
+
+    this.videoGateway.deleteAllById(ids);
+  }
+}
@@ -30,7 +30,9 @@ public class ListVideoUseCase extends
         input.launchedAt(),
         input.categories(),
         input.castMembers(),
-        input.genres()
+        input.genres(),
+        input.after(),
+        input.fields()
     );
 
     return this.videoGateway.findAll(aQuery)
@@ -47,9 +49,43 @@ public class ListVideoUseCase extends
       Integer launchedAt,
       Set<String> categories,
       Set<String> castMembers,
-      Set<String> genres
+      Set<String> genres,
+      String after,
+      Set<String> fields
   ) {
 
+    public Input(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String rating,
+        final Integer launchedAt,
+        final Set<String> categories,
+        final Set<String> castMembers,
+        final Set<String> genres
+    ) {
+      this(page, perPage, terms, sort, direction, rating, launchedAt, categories, castMembers,
+          genres, null);
+    }
+
+    public Input(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String rating,
+        final Integer launchedAt,
+        final Set<String> categories,
+        final Set<String> castMembers,
+        final Set<String> genres,
+        final String after
+    ) {
+      this(page, perPage, terms, sort, direction, rating, launchedAt, categories, castMembers,
+          genres, after, Set.of());
+    }
   }
 
   public record Output(
@@ -0,0 +1,61 @@
+package com.fullcycle.catalogo.application.video.save;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.domain.video.Video;
+import com.fullcycle.catalogo.domain.video.VideoGateway;
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+public class SaveAllVideosUseCase extends UseCase<List<Video>, List<Video>> {
+
+  private final VideoGateway videoGateway;
+
+  public SaveAllVideosUseCase(final VideoGateway videoGateway) {
+    this.videoGateway = Objects.requireNonNull(videoGateway);
+  }
+
+  @Override
+  public List<Video> execute(final List<Video> videos) {
+    if (videos == null || videos.isEmpty()) {
+      return List.of();
+    }
+
+    final var valid = new ArrayList<Video>();
+    final var invalid = new LinkedHashMap<String, Notification>();
+    videos.forEach(it -> {
+      final var notification = Notification.create();
+      it.validate(notification);
+      if (notification.hasError()) {
+        invalid.put(it.id(), notification);
+      } else {
+        valid.add(it);
+      }
+    });
+
+    final var invalidError = invalid.isEmpty()
+        ? null
+        : BulkNotificationException.with("Invalid videos", invalid);
+
+    final List<Video> saved;
+    try {
+      saved = valid.isEmpty() ? List.of() : this.videoGateway.saveAll(valid);
+    } catch (final RuntimeException e) {
+      // a failed write still reports the invalid ones, so the caller fails both
+      if (invalidError != null) {
+        e.addSuppressed(invalidError);
+      }
+      throw e;
+    }
+
+    if (invalidError != null) {
+      throw invalidError;
+    }
+
+    return saved;
+  }
+}
@@ -0,0 +1,48 @@
+package com.fullcycle.catalogo.application.castmember.delete;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class DeleteAllCastMembersUseCaseTest extends UseCaseTest {
+
+  @InjectMocks
+  private DeleteAllCastMembersUseCase useCase;
+
+  @Mock
+  private CastMemberGateway castMemberGateway;
+
+  @Test
+  public void givenValidIds_whenCallsDeleteAll_shouldDeleteThemInOneCall() {
+    // given
+    final var expectedIds = Set.of(IdUtils.uniqueId(), IdUtils.uniqueId());
+
+    doNothing()
+        .when(this.castMemberGateway).deleteAllById(any());
+
+    // when
+    Assertions.assertDoesNotThrow(() -> this.useCase.execute(expectedIds));
+
+    // then
+    verify(this.castMemberGateway, times(1)).deleteAllById(eq(expectedIds));
+    verify(this.castMemberGateway, never()).deleteById(any());
+  }
+
+  @Test
+  public void givenEmptyIds_whenCallsDeleteAll_shouldBeOk() {
+    // when
+    Assertions.assertDoesNotThrow(() -> this.useCase.execute(Set.of()));
+    Assertions.assertDoesNotThrow(() -> this.useCase.execute(null));
+
+    // then
+    verify(this.castMemberGateway, never()).deleteAllById(any());
+  }
+}
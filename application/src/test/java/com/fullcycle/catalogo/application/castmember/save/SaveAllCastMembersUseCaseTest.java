@@ -0,0 +1,89 @@
+package com.fullcycle.catalogo.application.castmember.save;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.castmember.CastMember;
+import com.fullcycle.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.domain.castmember.CastMemberGateway;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SaveAllCastMembersUseCaseTest extends UseCaseTest {
+
+  @InjectMocks
+  private SaveAllCastMembersUseCase useCase;
+
+  @Mock
+  private CastMemberGateway castMemberGateway;
+
+  @Test
+  public void givenValidCastMembers_whenCallsSaveAll_shouldPersistThemInOneCall() {
+    // given
+    final var expectedItems = List.of(Fixture.CastMembers.gabriel(), Fixture.CastMembers.wesley());
+
+    when(castMemberGateway.saveAll(any()))
+        .thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualOutput = this.useCase.execute(expectedItems);
+
+    // then
+    Assertions.assertEquals(expectedItems, actualOutput);
+
+    verify(castMemberGateway, times(1)).saveAll(eq(expectedItems));
+    verify(castMemberGateway, never()).save(any());
+  }
+
+  @Test
+  public void givenEmptyList_whenCallsSaveAll_shouldNotCallGateway() {
+    // when
+    final var actualOutput = this.useCase.execute(List.of());
+
+    // then
+    Assertions.assertTrue(actualOutput.isEmpty());
+
+    verify(castMemberGateway, never()).saveAll(any());
+  }
+
+  @Test
+  public void givenOneInvalidCastMember_whenCallsSaveAll_shouldPersistTheOthersAndReportIt() {
+    // given
+    final var expectedErrorCount = 1;
+    final var expectedErrorMessage = "'name' should not be empty";
+
+    final var anInvalidMember = CastMember.with(
+        Fixture.CastMembers.gabriel().id(),
+        "",
+        CastMemberType.ACTOR,
+        InstantUtils.now(),
+        InstantUtils.now()
+    );
+
+    final var aValidMember = Fixture.CastMembers.wesley();
+    final var members = List.of(aValidMember, anInvalidMember);
+
+    when(castMemberGateway.saveAll(any()))
+        .thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualError =
+        Assertions.assertThrows(BulkNotificationException.class, () -> this.useCase.execute(members));
+
+    // then
+    Assertions.assertEquals(expectedErrorCount, actualError.getErrors().size());
+    Assertions.assertEquals(expectedErrorMessage, actualError.getErrors().get(0).message());
+    Assertions.assertEquals(Set.of(anInvalidMember.id()), actualError.getInvalidIds());
+
+    verify(castMemberGateway, times(1)).saveAll(eq(List.of(aValidMember)));
+  }
+}
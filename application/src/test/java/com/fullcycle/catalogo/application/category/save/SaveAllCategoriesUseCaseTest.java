@@ -0,0 +1,121 @@
+package com.fullcycle.catalogo.application.category.save;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SaveAllCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private SaveAllCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenValidCategories_whenCallsSaveAll_shouldPersistThemInOneCall() {
+        // given
+        final var expectedItems = List.of(Fixture.Categories.aulas(), Fixture.Categories.lives());
+
+        when(categoryGateway.saveAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = this.useCase.execute(expectedItems);
+
+        // then
+        Assertions.assertEquals(expectedItems, actualOutput);
+
+        verify(categoryGateway, times(1)).saveAll(eq(expectedItems));
+        verify(categoryGateway, never()).save(any());
+    }
+
+    @Test
+    public void givenEmptyList_whenCallsSaveAll_shouldNotCallGateway() {
+        // when
+        final var actualOutput = this.useCase.execute(List.of());
+
+        // then
+        Assertions.assertTrue(actualOutput.isEmpty());
+
+        verify(categoryGateway, never()).saveAll(any());
+    }
+
+    @Test
+    public void givenOneInvalidCategory_whenCallsSaveAll_shouldPersistTheOthersAndReportIt() {
+        // given
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'name' should not be empty";
+
+        final var anInvalidCategory = Category.with(
+                Fixture.Categories.talks().id(),
+                "",
+                "Conteudo ao vivo",
+                true,
+                InstantUtils.now(),
+                InstantUtils.now(),
+                null
+        );
+
+        final var aValidCategory = Fixture.Categories.aulas();
+        final var categories = List.of(aValidCategory, anInvalidCategory);
+
+        when(categoryGateway.saveAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualError =
+                Assertions.assertThrows(BulkNotificationException.class, () -> this.useCase.execute(categories));
+
+        // then
+        Assertions.assertEquals(expectedErrorCount, actualError.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualError.getErrors().get(0).message());
+        Assertions.assertEquals(Set.of(anInvalidCategory.id()), actualError.getInvalidIds());
+
+        verify(categoryGateway, times(1)).saveAll(eq(List.of(aValidCategory)));
+    }
+
+    @Test
+    public void givenOneInvalidCategoryAndAFailedWrite_whenCallsSaveAll_shouldReportBoth() {
+        // given
+        final var anInvalidCategory = Category.with(
+                Fixture.Categories.talks().id(),
+                "",
+                "Conteudo ao vivo",
+                true,
+                InstantUtils.now(),
+                InstantUtils.now(),
+                null
+        );
+
+        final var categories = List.of(Fixture.Categories.aulas(), anInvalidCategory);
+        final var expectedError = new IllegalStateException("Gateway error");
+
+        when(categoryGateway.saveAll(any()))
+                .thenThrow(expectedError);
+
+        // when
+        final var actualError =
+                Assertions.assertThrows(IllegalStateException.class, () -> this.useCase.execute(categories));
+
+        // then
+        Assertions.assertSame(expectedError, actualError);
+        Assertions.assertEquals(1, actualError.getSuppressed().length);
+
+        final var actualInvalid = (BulkNotificationException) actualError.getSuppressed()[0];
+        Assertions.assertEquals(Set.of(anInvalidCategory.id()), actualInvalid.getInvalidIds());
+    }
+}
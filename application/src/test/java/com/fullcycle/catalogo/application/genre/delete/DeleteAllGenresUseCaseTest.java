@@ -0,0 +1,48 @@
+package com.fullcycle.catalogo.application.genre.delete;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class DeleteAllGenresUseCaseTest extends UseCaseTest {
+
+  @InjectMocks
+  private DeleteAllGenresUseCase useCase;
+
+  @Mock
+  private GenreGateway genreGateway;
+
+  @Test
+  public void givenValidIds_whenCallsDeleteAll_shouldDeleteThemInOneCall() {
+    // given
+    final var expectedIds = Set.of(IdUtils.uniqueId(), IdUtils.uniqueId());
+
+    doNothing()
+        .when(this.genreGateway).deleteAllById(any());
+
+    // when
+    Assertions.assertDoesNotThrow(() -> this.useCase.execute(expectedIds));
+
+    // then
+    verify(this.genreGateway, times(1)).deleteAllById(eq(expectedIds));
+    verify(this.genreGateway, never()).deleteById(any());
+  }
+
+  @Test
+  public void givenEmptyIds_whenCallsDeleteAll_shouldBeOk() {
+    // when
+    Assertions.assertDoesNotThrow(() -> this.useCase.execute(Set.of()));
+    Assertions.assertDoesNotThrow(() -> this.useCase.execute(null));
+
+    // then
+    verify(this.genreGateway, never()).deleteAllById(any());
+  }
+}
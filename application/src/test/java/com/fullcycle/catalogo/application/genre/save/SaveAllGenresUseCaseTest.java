@@ -0,0 +1,82 @@
+package com.fullcycle.catalogo.application.genre.save;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.catalogo.domain.genre.GenreGateway;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SaveAllGenresUseCaseTest extends UseCaseTest {
+
+  @InjectMocks
+  private SaveAllGenresUseCase useCase;
+
+  @Mock
+  private GenreGateway genreGateway;
+
+  @Test
+  public void givenValidGenres_whenCallsSaveAll_shouldPersistThemInOneCall() {
+    // given
+    final var expectedItems = List.of(Fixture.Genres.tech(), Fixture.Genres.business());
+
+    when(genreGateway.saveAll(any()))
+        .thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualOutput = this.useCase.execute(expectedItems);
+
+    // then
+    Assertions.assertEquals(expectedItems, actualOutput);
+
+    verify(genreGateway, times(1)).saveAll(eq(expectedItems));
+    verify(genreGateway, never()).save(any());
+  }
+
+  @Test
+  public void givenEmptyList_whenCallsSaveAll_shouldNotCallGateway() {
+    // when
+    final var actualOutput = this.useCase.execute(List.of());
+
+    // then
+    Assertions.assertTrue(actualOutput.isEmpty());
+
+    verify(genreGateway, never()).saveAll(any());
+  }
+
+  @Test
+  public void givenOneInvalidGenre_whenCallsSaveAll_shouldPersistTheOthersAndReportIt() {
+    // given
+    final var expectedErrorMessage = "'name' should not be empty";
+
+    final var aValidGenre = Fixture.Genres.tech();
+    final var anInvalidGenre = spy(Fixture.Genres.business());
+    doAnswer(it -> it.<ValidationHandler>getArgument(0).append(new Error(expectedErrorMessage)))
+        .when(anInvalidGenre).validate(any());
+
+    when(genreGateway.saveAll(any()))
+        .thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualError = Assertions.assertThrows(
+        BulkNotificationException.class,
+        () -> this.useCase.execute(List.of(aValidGenre, anInvalidGenre))
+    );
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualError.getErrors().get(0).message());
+    Assertions.assertEquals(Set.of(anInvalidGenre.id()), actualError.getInvalidIds());
+
+    verify(genreGateway, times(1)).saveAll(eq(List.of(aValidGenre)));
+  }
+}
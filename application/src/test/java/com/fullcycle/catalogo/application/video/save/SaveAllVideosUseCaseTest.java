@@ -0,0 +1,82 @@
+package com.fullcycle.catalogo.application.video.save;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.catalogo.domain.video.VideoGateway;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SaveAllVideosUseCaseTest extends UseCaseTest {
+
+  @InjectMocks
+  private SaveAllVideosUseCase useCase;
+
+  @Mock
+  private VideoGateway videoGateway;
+
+  @Test
+  public void givenValidVideos_whenCallsSaveAll_shouldPersistThemInOneCall() {
+    // given
+    final var expectedItems = List.of(Fixture.Videos.java21(), Fixture.Videos.golang());
+
+    when(videoGateway.saveAll(any()))
+        .thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualOutput = this.useCase.execute(expectedItems);
+
+    // then
+    Assertions.assertEquals(expectedItems, actualOutput);
+
+    verify(videoGateway, times(1)).saveAll(eq(expectedItems));
+    verify(videoGateway, never()).save(any());
+  }
+
+  @Test
+  public void givenEmptyList_whenCallsSaveAll_shouldNotCallGateway() {
+    // when
+    final var actualOutput = this.useCase.execute(List.of());
+
+    // then
+    Assertions.assertTrue(actualOutput.isEmpty());
+
+    verify(videoGateway, never()).saveAll(any());
+  }
+
+  @Test
+  public void givenOneInvalidVideo_whenCallsSaveAll_shouldPersistTheOthersAndReportIt() {
+    // given
+    final var expectedErrorMessage = "'title' should not be empty";
+
+    final var aValidVideo = Fixture.Videos.java21();
+    final var anInvalidVideo = spy(Fixture.Videos.golang());
+    doAnswer(it -> it.<ValidationHandler>getArgument(0).append(new Error(expectedErrorMessage)))
+        .when(anInvalidVideo).validate(any());
+
+    when(videoGateway.saveAll(any()))
+        .thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualError = Assertions.assertThrows(
+        BulkNotificationException.class,
+        () -> this.useCase.execute(List.of(aValidVideo, anInvalidVideo))
+    );
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualError.getErrors().get(0).message());
+    Assertions.assertEquals(Set.of(anInvalidVideo.id()), actualError.getInvalidIds());
+
+    verify(videoGateway, times(1)).saveAll(eq(List.of(aValidVideo)));
+  }
+}
@@ -8,8 +8,12 @@ import java.util.Set;
 public interface CastMemberGateway {
   CastMember save(CastMember aMember);
 
+  List<CastMember> saveAll(List<CastMember> members);
+
   void deleteById(String anId);
 
+  void deleteAllById(Set<String> ids);
+
   Optional<CastMember> findById(String anId);
 
   List<CastMember> findAllById(Set<String> ids);
@@ -10,8 +10,12 @@ public interface CategoryGateway {
 
     Category save(Category aCategory);
 
+    List<Category> saveAll(List<Category> categories);
+
     void deleteById(String anId);
 
+    void deleteAllById(Set<String> ids);
+
     Optional<Category> findById(String anId);
 
     List<Category> findAllById(Set<String> ids);
@@ -0,0 +1,37 @@
+package com.fullcycle.catalogo.domain.exceptions;
+
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Raised by a bulk write after it persisted the valid entities, naming the ids it left out for
+ * being invalid, so the caller can fail only those.
+ */
+public class BulkNotificationException extends DomainException {
+
+    private final Set<String> invalidIds;
+
+    public BulkNotificationException(final String aMessage, final Map<String, Notification> invalid) {
+        super(aMessage, errorsOf(invalid));
+        this.invalidIds = Set.copyOf(invalid.keySet());
+    }
+
+    public static BulkNotificationException with(final String message, final Map<String, Notification> invalid) {
+        return new BulkNotificationException(message, invalid);
+    }
+
+    public Set<String> getInvalidIds() {
+        return invalidIds;
+    }
+
+    private static List<Error> errorsOf(final Map<String, Notification> invalid) {
+        final var errors = new ArrayList<Error>();
+        invalid.values().forEach(it -> errors.addAll(it.getErrors()));
+        return errors;
+    }
+}
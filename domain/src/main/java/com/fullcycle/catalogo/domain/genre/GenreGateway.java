@@ -11,8 +11,12 @@ public interface GenreGateway {
 
   Genre save(Genre aGenre);
 
+  List<Genre> saveAll(List<Genre> genres);
+
   void deleteById(String genreId);
 
+  void deleteAllById(Set<String> genreIds);
+
   Optional<Genre> findById(String genreId);
 
   Pagination<Genre> findAll(GenreSearchQuery aQuery);
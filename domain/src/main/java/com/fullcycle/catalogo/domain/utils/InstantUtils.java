@@ -21,4 +21,11 @@ public final class InstantUtils {
     }
     return new Timestamp(timestamp / UNIX_PRECISION).toInstant();
   }
+
+  public static Long toTimestamp(final Instant instant) {
+    if (instant == null) {
+      return null;
+    }
+    return instant.toEpochMilli() * UNIX_PRECISION;
+  }
 }
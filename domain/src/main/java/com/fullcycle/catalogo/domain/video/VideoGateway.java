@@ -2,14 +2,20 @@ package com.fullcycle.catalogo.domain.video;
 
 import com.fullcycle.catalogo.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface VideoGateway {
 
   Video save(Video video);
 
+  List<Video> saveAll(List<Video> videos);
+
   void deleteById(String videoId);
 
+  void deleteAllById(Set<String> videoIds);
+
   Optional<Video> findById(String videoId);
 
   Pagination<Video> findAll(VideoSearchQuery aQuery);
@@ -12,9 +12,44 @@ public record VideoSearchQuery(
     Integer launchedAt,
     Set<String> categories,
     Set<String> castMembers,
-    Set<String> genres
+    Set<String> genres,
+    String after,
+    Set<String> fields
 ) {
 
+  public VideoSearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction,
+      final String rating,
+      final Integer launchedAt,
+      final Set<String> categories,
+      final Set<String> castMembers,
+      final Set<String> genres
+  ) {
+    this(page, perPage, terms, sort, direction, rating, launchedAt, categories, castMembers, genres,
+        null);
+  }
+
+  public VideoSearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction,
+      final String rating,
+      final Integer launchedAt,
+      final Set<String> categories,
+      final Set<String> castMembers,
+      final Set<String> genres,
+      final String after
+  ) {
+    this(page, perPage, terms, sort, direction, rating, launchedAt, categories, castMembers, genres,
+        after, Set.of());
+  }
+
   @Override
   public String terms() {
     return terms != null ? terms : "";
@@ -44,4 +79,12 @@ public record VideoSearchQuery(
   public Set<String> genres() {
     return genres != null ? genres : Set.of();
   }
+
+  /**
+   * Names of the {@link Video} attributes the caller is going to read, empty meaning all of them.
+   */
+  @Override
+  public Set<String> fields() {
+    return fields != null ? fields : Set.of();
+  }
 }
@@ -0,0 +1,157 @@
+package com.fullcycle.catalogo.infrastructure.configuration.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fullcycle.catalogo.infrastructure.category.models.CategoryDTO;
+import com.fullcycle.catalogo.infrastructure.genre.models.GenreDTO;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Source;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.ValuePayload;
+import com.fullcycle.catalogo.infrastructure.video.models.GqlVideo;
+import com.fullcycle.catalogo.infrastructure.video.models.ImageResourceDTO;
+import com.fullcycle.catalogo.infrastructure.video.models.VideoDTO;
+import com.fullcycle.catalogo.infrastructure.video.models.VideoEvent;
+import com.fullcycle.catalogo.infrastructure.video.models.VideoResourceDTO;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reading and writing the admin API DTOs, the Kafka envelopes and a GraphQL page of videos with
+ * each {@link Json.Accelerator}. Run with
+ * {@code gradle :infrastructure:jmh -PjmhIncludes=JsonBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonBenchmark {
+
+  @Param({"NONE", "AFTERBURNER", "BLACKBIRD"})
+  private Json.Accelerator accelerator;
+
+  private VideoDTO video;
+  private GenreDTO genre;
+  private CategoryDTO category;
+  private MessageValue<VideoEvent> envelope;
+  private List<GqlVideo> videosPage;
+
+  private byte[] videoJson;
+  private byte[] genreJson;
+  private byte[] categoryJson;
+  private byte[] envelopeJson;
+
+  private ObjectWriter writer;
+  private ObjectReader videoReader;
+  private ObjectReader genreReader;
+  private ObjectReader categoryReader;
+  private ObjectReader envelopeReader;
+
+  @Setup
+  public void setUp() throws IOException {
+    final var mapper = Json.mapper(this.accelerator);
+    final var now = Instant.parse("2024-01-20T10:15:30Z");
+
+    this.video = new VideoDTO(
+        "0b4c0f7e3e5a4bb1a1f9d8c0e6b2a7f3",
+        "Sistemas distribuidos na pratica",
+        "Replicacao, particionamento e consenso explicados com exemplos de producao",
+        2022, "AGE_12", 4520.5, false, true,
+        new VideoResourceDTO("v1", "c0ffee", "video.mp4", "/videos/v1", "/videos/v1/enc", "COMPLETED"),
+        new VideoResourceDTO("t1", "c0ffee", "trailer.mp4", "/videos/t1", "/videos/t1/enc", "COMPLETED"),
+        new ImageResourceDTO("b1", "banner.png", "c0ffee", "/images/b1"),
+        new ImageResourceDTO("th1", "thumb.png", "c0ffee", "/images/th1"),
+        new ImageResourceDTO("thh1", "thumb-half.png", "c0ffee", "/images/thh1"),
+        Set.of("category-1", "category-2"),
+        Set.of("member-1", "member-2", "member-3"),
+        Set.of("genre-1"),
+        now.toString(), now.toString()
+    );
+    this.genre = new GenreDTO("genre-1", "Tecnologia", true,
+        Set.of("category-1", "category-2", "category-3"), now, now, null);
+    this.category = new CategoryDTO("category-1", "Aulas", "Conteudo gravado", true, now, now,
+        null);
+    this.envelope = new MessageValue<>(new ValuePayload<>(
+        new VideoEvent(this.video.id(), this.video.title(), this.video.description(), 2022, false,
+            true, "AGE_12", "4520.5", 1705745730000000L, 1705745730000000L),
+        null,
+        new Source("adm_videos_mysql", "adm_videos", "videos"),
+        Operation.CREATE
+    ));
+    this.videosPage = IntStream.range(0, 20)
+        .mapToObj(i -> new GqlVideo("video-" + i, this.video.title(), this.video.description(),
+            2022, "AGE_12", 4520.5, false, true, "/videos/v1", "/videos/t1", "/images/b1",
+            "/images/th1", "/images/thh1", this.video.categoriesId(), this.video.castMembersId(),
+            this.video.genresId(), now.toString(), now.toString(), "cursor-" + i))
+        .toList();
+
+    this.writer = mapper.writer();
+    this.videoReader = mapper.readerFor(VideoDTO.class);
+    this.genreReader = mapper.readerFor(GenreDTO.class);
+    this.categoryReader = mapper.readerFor(CategoryDTO.class);
+    this.envelopeReader = mapper.readerFor(new TypeReference<MessageValue<VideoEvent>>() {
+    });
+
+    this.videoJson = this.writer.writeValueAsBytes(this.video);
+    this.genreJson = this.writer.writeValueAsBytes(this.genre);
+    this.categoryJson = this.writer.writeValueAsBytes(this.category);
+    this.envelopeJson = this.writer.writeValueAsBytes(this.envelope);
+  }
+
+  @Benchmark
+  public VideoDTO readVideo() throws IOException {
+    return this.videoReader.readValue(this.videoJson);
+  }
+
+  @Benchmark
+  public byte[] writeVideo() throws IOException {
+    return this.writer.writeValueAsBytes(this.video);
+  }
+
+  @Benchmark
+  public GenreDTO readGenre() throws IOException {
+    return this.genreReader.readValue(this.genreJson);
+  }
+
+  @Benchmark
+  public byte[] writeGenre() throws IOException {
+    return this.writer.writeValueAsBytes(this.genre);
+  }
+
+  @Benchmark
+  public CategoryDTO readCategory() throws IOException {
+    return this.categoryReader.readValue(this.categoryJson);
+  }
+
+  @Benchmark
+  public byte[] writeCategory() throws IOException {
+    return this.writer.writeValueAsBytes(this.category);
+  }
+
+  @Benchmark
+  public MessageValue<VideoEvent> readEnvelope() throws IOException {
+    return this.envelopeReader.readValue(this.envelopeJson);
+  }
+
+  @Benchmark
+  public byte[] writeEnvelope() throws IOException {
+    return this.writer.writeValueAsBytes(this.envelope);
+  }
+
+  @Benchmark
+  public byte[] writeVideosPage() throws IOException {
+    return this.writer.writeValueAsBytes(this.videosPage);
+  }
+}
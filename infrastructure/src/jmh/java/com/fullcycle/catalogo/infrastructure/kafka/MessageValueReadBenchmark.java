@@ -0,0 +1,103 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValueReader;
+import com.fullcycle.catalogo.infrastructure.video.models.VideoEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parsing a Debezium update envelope of the videos table: from a String decoded out of the record
+ * bytes with the type resolved on each call, as the listeners did, against a cached reader on the
+ * bytes and the streaming reader the listeners use now. Run with {@code gradle :infrastructure:jmh -PjmhIncludes=MessageValueReadBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageValueReadBenchmark {
+
+  private static final TypeReference<MessageValue<VideoEvent>> VIDEO_MESSAGE_TYPE =
+      new TypeReference<>() {
+      };
+
+  private static final Json.Reader<MessageValue<VideoEvent>> VIDEO_MESSAGE_READER =
+      Json.reader(VIDEO_MESSAGE_TYPE);
+
+  private static final String ROW = """
+      {"id":"%s","title":"Sistemas distribuidos na pratica %d","description":"Replicacao, \
+      particionamento e consenso explicados com exemplos de producao","year_launched":2022,\
+      "opened":false,"published":true,"rating":"AGE_12","duration":"%s",\
+      "created_at":1700000000000000,"updated_at":%d}""";
+
+  private static final String SOURCE = """
+      {"version":"2.4.0.Final","connector":"mysql","name":"adm_videos_mysql",\
+      "ts_ms":1700000123000,"snapshot":"false","db":"adm_videos","sequence":null,\
+      "table":"videos","server_id":1,"gtid":null,"file":"binlog.000003","pos":48213,\
+      "row":0,"thread":12,"query":null}""";
+
+  // the field list the JSON converter sends with every record when schemas are enabled
+  private static final String SCHEMA = """
+      {"type":"struct","fields":[{"type":"struct","fields":[\
+      {"type":"string","optional":false,"field":"id"},\
+      {"type":"string","optional":false,"field":"title"},\
+      {"type":"string","optional":true,"field":"description"},\
+      {"type":"int32","optional":false,"field":"year_launched"},\
+      {"type":"int16","optional":false,"field":"opened"},\
+      {"type":"int16","optional":false,"field":"published"},\
+      {"type":"string","optional":false,"field":"rating"},\
+      {"type":"string","optional":false,"field":"duration"},\
+      {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","field":"created_at"},\
+      {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","field":"updated_at"}],\
+      "optional":true,"name":"adm_videos_mysql.adm_videos.videos.Value","field":"before"},\
+      {"type":"string","optional":false,"field":"op"},\
+      {"type":"int64","optional":true,"field":"ts_ms"}],\
+      "optional":false,"name":"adm_videos_mysql.adm_videos.videos.Envelope","version":1}""";
+
+  private static final MessageValueReader<VideoEvent> VIDEO_MESSAGE_STREAMING_READER =
+      MessageValueReader.of(VideoEvent.class, VideoEvent::new);
+
+  @Param({"false", "true"})
+  private boolean schemas;
+
+  private byte[] value;
+
+  @Setup
+  public void setUp() {
+    final var payload = """
+        {"before":%s,"after":%s,"source":%s,"op":"u","ts_ms":1700000123456,"transaction":null}"""
+        .formatted(row(1, 1700000100000000L), row(2, 1700000123000000L), SOURCE);
+    final var envelope = this.schemas
+        ? "{\"schema\":%s,\"payload\":%s}".formatted(SCHEMA, payload)
+        : "{\"payload\":%s}".formatted(payload);
+    this.value = envelope.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public MessageValue<VideoEvent> decodedString() {
+    return Json.readValue(new String(this.value, StandardCharsets.UTF_8), VIDEO_MESSAGE_TYPE);
+  }
+
+  @Benchmark
+  public MessageValue<VideoEvent> cachedReaderOnBytes() {
+    return VIDEO_MESSAGE_READER.read(this.value);
+  }
+
+  @Benchmark
+  public MessageValue<VideoEvent> streamingReader() {
+    return VIDEO_MESSAGE_STREAMING_READER.read(this.value);
+  }
+
+  private static String row(final int version, final long updatedAt) {
+    return ROW.formatted("0b4c0f7e3e5a4bb1a1f9d8c0e6b2a7f3", version, "4520.5", updatedAt);
+  }
+}
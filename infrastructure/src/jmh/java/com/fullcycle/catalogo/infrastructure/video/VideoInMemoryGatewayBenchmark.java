@@ -0,0 +1,93 @@
+package com.fullcycle.catalogo.infrastructure.video;
+
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.video.Rating;
+import com.fullcycle.catalogo.domain.video.Video;
+import com.fullcycle.catalogo.domain.video.VideoSearchQuery;
+import java.time.Instant;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Listing queries against the in-memory video engine. Run with
+ * {@code gradle :infrastructure:jmh -PjmhIncludes=VideoInMemoryGatewayBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VideoInMemoryGatewayBenchmark {
+
+  private static final String[] WORDS = {
+      "java", "golang", "kotlin", "system", "design", "arquitetura", "microsservicos", "kafka",
+      "elasticsearch", "docker", "kubernetes", "testes", "clean", "hexagonal", "eventos", "cache"
+  };
+
+  @Param({"10000", "100000"})
+  private int videos;
+
+  private VideoInMemoryGateway gateway;
+
+  @Setup
+  public void setUp() {
+    final var random = new SplittableRandom(42);
+    final var now = Instant.now();
+
+    this.gateway = new VideoInMemoryGateway();
+    this.gateway.saveAll(IntStream.range(0, videos)
+        .mapToObj(i -> Video.with(
+            "video-" + i,
+            word(random) + " " + word(random) + " " + i,
+            word(random) + " " + word(random) + " " + word(random),
+            2000 + random.nextInt(25),
+            random.nextDouble(10, 120),
+            Rating.values()[random.nextInt(Rating.values().length)].getName(),
+            true,
+            true,
+            now.minusSeconds(i).toString(),
+            now.minusSeconds(i).toString(),
+            "http://video", "http://trailer", "http://banner", "http://thumb", "http://thumbhalf",
+            Set.of("category-" + random.nextInt(50)),
+            Set.of("member-" + random.nextInt(1_000), "member-" + (1_000 + random.nextInt(1_000))),
+            Set.of("genre-" + random.nextInt(200))
+        ))
+        .toList());
+  }
+
+  @Benchmark
+  public Pagination<Video> browseByGenre() {
+    return this.gateway.findAll(new VideoSearchQuery(0, 20, "", "title", "asc", null, null,
+        Set.of(), Set.of(), Set.of("genre-7")));
+  }
+
+  @Benchmark
+  public Pagination<Video> browseByCategoryNewestFirst() {
+    return this.gateway.findAll(new VideoSearchQuery(0, 20, "", "created_at", "desc", null, null,
+        Set.of("category-3"), Set.of(), Set.of()));
+  }
+
+  @Benchmark
+  public Pagination<Video> searchAsYouType() {
+    return this.gateway.findAll(new VideoSearchQuery(0, 20, "system des", "title", "asc", null,
+        null, Set.of(), Set.of(), Set.of()));
+  }
+
+  @Benchmark
+  public Pagination<Video> deepPageOfEverything() {
+    return this.gateway.findAll(new VideoSearchQuery(200, 20, "", "title", "asc", null, null,
+        Set.of(), Set.of(), Set.of()));
+  }
+
+  private static String word(final SplittableRandom random) {
+    return WORDS[random.nextInt(WORDS.length)];
+  }
+}
@@ -2,7 +2,12 @@ package com.fullcycle.catalogo.infrastructure.authentication;
 
 import com.fullcycle.catalogo.infrastructure.authentication.AuthenticationGateway.ClientCredentialsInput;
 import com.fullcycle.catalogo.infrastructure.authentication.AuthenticationGateway.RefreshTokenInput;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
 import com.fullcycle.catalogo.infrastructure.configuration.properties.KeycloakProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.springframework.stereotype.Component;
@@ -14,10 +19,15 @@ public class ClientCredentialsManager implements GetClientCredentials, RefreshCl
       = AtomicReferenceFieldUpdater.newUpdater(ClientCredentialsManager.class,
       ClientCredentials.class, "credentials");
 
+  private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(5);
+  private static final Duration UNKNOWN_EXPIRY_REFRESH = Duration.ofMinutes(3);
+  private static final Duration FAILED_REFRESH_RETRY = Duration.ofSeconds(10);
+
   private volatile ClientCredentials credentials;
 
   private final AuthenticationGateway authenticationGateway;
   private final KeycloakProperties keycloakProperties;
+  private final Object refreshLock = new Object();
 
   public ClientCredentialsManager(
       final AuthenticationGateway authenticationGateway,
@@ -27,16 +37,55 @@ public class ClientCredentialsManager implements GetClientCredentials, RefreshCl
     this.keycloakProperties = Objects.requireNonNull(keycloakProperties);
   }
 
+  /**
+   * The scheduled refresh renews the token well before it expires, so this only goes to Keycloak
+   * when that refresh failed until the token was about to expire.
+   */
   @Override
   public String retrieve() {
-    return this.credentials.accessToken;
+    final var current = this.credentials;
+    if (current != null && !current.expiresBy(Instant.now().plus(EXPIRY_MARGIN))) {
+      return current.accessToken();
+    }
+    return renew(current != null ? current.accessToken() : null);
   }
 
   @Override
   public void refresh() {
-    final var result = this.credentials == null ? login() : refreshToken();
-    UPDATER.set(this,
-        new ClientCredentials(clientId(), result.accessToken(), result.refreshToken()));
+    synchronized (this.refreshLock) {
+      final var result = this.credentials == null ? login() : refreshToken();
+      UPDATER.set(this, credentialsOf(result));
+    }
+  }
+
+  @Override
+  public String renew(final String rejectedAccessToken) {
+    synchronized (this.refreshLock) {
+      final var current = this.credentials;
+      if (current == null || current.accessToken().equals(rejectedAccessToken)) {
+        refresh();
+      }
+      return this.credentials.accessToken();
+    }
+  }
+
+  @Override
+  public Instant nextRefreshAt() {
+    final var now = Instant.now();
+    final var current = this.credentials;
+    if (current == null || current.refreshAt() == null) {
+      return now.plus(UNKNOWN_EXPIRY_REFRESH);
+    }
+    return current.refreshAt().isAfter(now) ? current.refreshAt() : now.plus(FAILED_REFRESH_RETRY);
+  }
+
+  private ClientCredentials credentialsOf(final AuthenticationGateway.AuthenticationResult result) {
+    final var now = Instant.now();
+    final var expiresAt = expiresAt(result.accessToken());
+    final var refreshAt = expiresAt == null ? null : now.plusMillis(
+        (long) (Duration.between(now, expiresAt).toMillis() * tokenRefreshRatio()));
+    return new ClientCredentials(clientId(), result.accessToken(), result.refreshToken(),
+        expiresAt, refreshAt);
   }
 
   private AuthenticationGateway.AuthenticationResult login() {
@@ -60,7 +109,48 @@ public class ClientCredentialsManager implements GetClientCredentials, RefreshCl
     return this.keycloakProperties.clientSecret();
   }
 
-  record ClientCredentials(String clientId, String accessToken, String refreshToken) {
+  private double tokenRefreshRatio() {
+    return this.keycloakProperties.tokenRefreshRatio();
+  }
+
+  /**
+   * The {@code exp} claim of a JWT access token, or null when the token is not a JWT or has no
+   * expiry. The signature is not checked, the token is only read to know when to renew it.
+   */
+  static Instant expiresAt(final String accessToken) {
+    final var parts = accessToken == null ? new String[0] : accessToken.split("\\.");
+    if (parts.length != 3) {
+      return null;
+    }
+    try {
+      final var payload = new String(Base64.getUrlDecoder().decode(parts[1]),
+          StandardCharsets.UTF_8);
+      final var claims = Json.readValue(payload, TokenClaims.class);
+      return claims.exp() == null ? null : Instant.ofEpochSecond(claims.exp());
+    } catch (RuntimeException ex) {
+      return null;
+    }
+  }
+
+  record ClientCredentials(
+      String clientId,
+      String accessToken,
+      String refreshToken,
+      Instant expiresAt,
+      Instant refreshAt
+  ) {
+
+    ClientCredentials(String clientId, String accessToken, String refreshToken) {
+      this(clientId, accessToken, refreshToken, ClientCredentialsManager.expiresAt(accessToken),
+          null);
+    }
+
+    boolean expiresBy(final Instant instant) {
+      return expiresAt != null && !expiresAt.isAfter(instant);
+    }
+  }
+
+  record TokenClaims(Long exp) {
 
   }
 }
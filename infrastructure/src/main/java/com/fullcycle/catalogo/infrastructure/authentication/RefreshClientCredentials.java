@@ -1,5 +1,15 @@
 package com.fullcycle.catalogo.infrastructure.authentication;
 
+import java.time.Instant;
+
 public interface RefreshClientCredentials {
   void refresh();
+
+  /**
+   * Refreshes the credentials unless another caller already replaced the rejected access token,
+   * and returns the current one.
+   */
+  String renew(String rejectedAccessToken);
+
+  Instant nextRefreshAt();
 }
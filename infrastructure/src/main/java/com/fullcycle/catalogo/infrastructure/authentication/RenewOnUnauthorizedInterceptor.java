@@ -0,0 +1,44 @@
+package com.fullcycle.catalogo.infrastructure.authentication;
+
+import java.io.IOException;
+import java.util.Objects;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Sends a request rejected with 401 once more with renewed credentials, instead of failing it
+ * into the retries of the caller. The requests rejected with the same token share one renewal.
+ */
+public class RenewOnUnauthorizedInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final String BEARER = "bearer ";
+
+  private final RefreshClientCredentials refreshClientCredentials;
+
+  public RenewOnUnauthorizedInterceptor(final RefreshClientCredentials refreshClientCredentials) {
+    this.refreshClientCredentials = Objects.requireNonNull(refreshClientCredentials);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(
+      final HttpRequest request,
+      final byte[] body,
+      final ClientHttpRequestExecution execution
+  ) throws IOException {
+    final var response = execution.execute(request, body);
+    final var authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    if (response.getStatusCode() != HttpStatus.UNAUTHORIZED || authorization == null
+        || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+      return response;
+    }
+
+    response.close();
+    final var token = this.refreshClientCredentials.renew(authorization.substring(BEARER.length()));
+    request.getHeaders().set(HttpHeaders.AUTHORIZATION, BEARER + token);
+    return execution.execute(request, body);
+  }
+}
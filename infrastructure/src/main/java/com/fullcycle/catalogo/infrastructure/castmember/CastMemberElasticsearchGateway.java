@@ -1,7 +1,7 @@
 package com.fullcycle.catalogo.infrastructure.castmember;
 
 
-import static org.springframework.data.elasticsearch.core.query.Criteria.where;
+import static com.fullcycle.catalogo.infrastructure.utils.SearchQueries.searchAsYouType;
 
 import com.fullcycle.catalogo.domain.castmember.CastMember;
 import com.fullcycle.catalogo.domain.castmember.CastMemberGateway;
@@ -15,12 +15,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.StreamSupport;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchOperations;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 
@@ -33,13 +34,16 @@ public class CastMemberElasticsearchGateway implements CastMemberGateway {
 
   private final CastMemberRepository castMemberRepository;
   private final SearchOperations searchOperations;
+  private final int trackTotalHitsUpTo;
 
   public CastMemberElasticsearchGateway(
       final CastMemberRepository castMemberRepository,
-      final SearchOperations searchOperations
+      final SearchOperations searchOperations,
+      @Value("${elasticsearch.track-total-hits-up-to:10000}") final int trackTotalHitsUpTo
   ) {
     this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
     this.searchOperations = Objects.requireNonNull(searchOperations);
+    this.trackTotalHitsUpTo = trackTotalHitsUpTo;
   }
 
   @Override
@@ -48,17 +52,44 @@ public class CastMemberElasticsearchGateway implements CastMemberGateway {
     return aMember;
   }
 
+  @Override
+  public List<CastMember> saveAll(final List<CastMember> members) {
+    if (members == null || members.isEmpty()) {
+      return List.of();
+    }
+    this.castMemberRepository.saveAll(members.stream().map(CastMemberDocument::from).toList());
+    return members;
+  }
+
   @Override
   public void deleteById(final String anId) {
     this.castMemberRepository.deleteById(anId);
   }
 
+  @Override
+  public void deleteAllById(final Set<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return;
+    }
+    this.castMemberRepository.deleteAllById(ids);
+  }
+
   @Override
   public Optional<CastMember> findById(final String anId) {
     return this.castMemberRepository.findById(anId)
         .map(CastMemberDocument::toCastMember);
   }
 
+  // scrolls the whole index, meant for the small reference data indices only
+  public List<CastMember> findAll() {
+    try (final var hits = this.searchOperations.searchForStream(Query.findAll(), CastMemberDocument.class)) {
+      return hits.stream()
+          .map(SearchHit::getContent)
+          .map(CastMemberDocument::toCastMember)
+          .toList();
+    }
+  }
+
   @Override
   public List<CastMember> findAllById(final Set<String> ids) {
     if (ids == null || ids.isEmpty()) {
@@ -78,8 +109,9 @@ public class CastMemberElasticsearchGateway implements CastMemberGateway {
     final var pageRequest = PageRequest.of(currentPage, perPage, sort);
 
     final Query query = StringUtils.isNotEmpty(terms)
-        ? new CriteriaQuery(where("name").contains(terms), pageRequest)
+        ? NativeQuery.builder().withQuery(searchAsYouType(terms, "name")).withPageable(pageRequest).build()
         : Query.findAll().setPageable(pageRequest);
+    query.setTrackTotalHitsUpTo(this.trackTotalHitsUpTo);
 
     final var res = this.searchOperations.search(query, CastMemberDocument.class);
 
@@ -1,14 +1,17 @@
 package com.fullcycle.catalogo.infrastructure.castmember;
 
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+
 import com.fullcycle.catalogo.domain.castmember.CastMember;
 import com.fullcycle.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.catalogo.domain.castmember.CastMemberSearchQuery;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.utils.InMemorySearchIndex;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
@@ -16,26 +19,43 @@ import org.springframework.stereotype.Component;
 @Profile("development")
 public class CastMemberInMemoryGateway implements CastMemberGateway {
 
-  private final Map<String, CastMember> db;
+  private final InMemorySearchIndex<CastMember> db;
 
   public CastMemberInMemoryGateway() {
-    this.db = new ConcurrentHashMap<>();
+    this.db = InMemorySearchIndex.builder(CastMember::id)
+        .text(CastMember::name)
+        .sort("name", comparing(CastMember::name))
+        .sort("type", comparing(it -> it.type().name()))
+        .sort("created_at", comparing(CastMember::createdAt, nullsLast(naturalOrder())))
+        .sort("updated_at", comparing(CastMember::updatedAt, nullsLast(naturalOrder())))
+        .build();
   }
 
   @Override
   public CastMember save(final CastMember aCastMember) {
-    this.db.put(aCastMember.id(), aCastMember);
+    this.db.put(aCastMember);
     return aCastMember;
   }
 
+  @Override
+  public List<CastMember> saveAll(final List<CastMember> members) {
+    this.db.putAll(members);
+    return members;
+  }
+
   @Override
   public void deleteById(String genreId) {
     this.db.remove(genreId);
   }
 
+  @Override
+  public void deleteAllById(final Set<String> ids) {
+    this.db.removeAll(ids);
+  }
+
   @Override
   public Optional<CastMember> findById(String genreId) {
-    return Optional.ofNullable(this.db.get(genreId));
+    return this.db.get(genreId);
   }
 
   @Override
@@ -43,18 +63,14 @@ public class CastMemberInMemoryGateway implements CastMemberGateway {
     if (genreId == null || genreId.isEmpty()) {
       return List.of();
     }
-    return genreId.stream()
-        .map(this.db::get)
-        .toList();
+    return this.db.getAll(genreId);
   }
 
   @Override
   public Pagination<CastMember> findAll(CastMemberSearchQuery aQuery) {
-    return new Pagination<>(
-        aQuery.page(),
-        aQuery.perPage(),
-        this.db.values().size(),
-        this.db.values().stream().toList()
-    );
+    return this.db.query()
+        .terms(aQuery.terms())
+        .sort(aQuery.sort(), "desc".equalsIgnoreCase(aQuery.direction()))
+        .page(aQuery.page(), aQuery.perPage());
   }
 }
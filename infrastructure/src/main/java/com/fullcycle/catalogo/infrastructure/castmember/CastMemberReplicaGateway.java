@@ -0,0 +1,106 @@
+package com.fullcycle.catalogo.infrastructure.castmember;
+
+import static com.fullcycle.catalogo.infrastructure.utils.InMemoryReplica.matchesAsYouType;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+
+import com.fullcycle.catalogo.domain.castmember.CastMember;
+import com.fullcycle.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.domain.castmember.CastMemberSearchQuery;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.utils.ReplicatedIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves cast member reads from a local replica of the cast members index, writing through to
+ * Elasticsearch. Until the first load completes, and for sorts it doesn't know, it reads from
+ * Elasticsearch.
+ */
+@Primary
+@Component
+@Profile("!development")
+@ConditionalOnProperty(name = "elasticsearch.replica.enabled", havingValue = "true")
+public class CastMemberReplicaGateway implements CastMemberGateway {
+
+  private final CastMemberElasticsearchGateway elasticsearchGateway;
+  private final ReplicatedIndex<CastMember> replica;
+
+  public CastMemberReplicaGateway(final CastMemberElasticsearchGateway elasticsearchGateway) {
+    this.elasticsearchGateway = Objects.requireNonNull(elasticsearchGateway);
+    this.replica = new ReplicatedIndex<>(
+        "cast members",
+        CastMember::id,
+        Map.of(
+            "name", comparing(CastMember::name, nullsLast(naturalOrder())),
+            "type", comparing(it -> it.type() != null ? it.type().name() : null,
+                nullsLast(naturalOrder())),
+            "created_at", comparing(CastMember::createdAt, nullsLast(naturalOrder())),
+            "updated_at", comparing(CastMember::updatedAt, nullsLast(naturalOrder()))
+        ),
+        elasticsearchGateway::findAll
+    );
+  }
+
+  @Scheduled(fixedDelayString = "${elasticsearch.replica.refresh-interval}")
+  public void refresh() {
+    this.replica.refresh();
+  }
+
+  @Override
+  public CastMember save(final CastMember aMember) {
+    this.elasticsearchGateway.save(aMember);
+    this.replica.saved(aMember);
+    return aMember;
+  }
+
+  @Override
+  public List<CastMember> saveAll(final List<CastMember> members) {
+    this.elasticsearchGateway.saveAll(members);
+    this.replica.savedAll(members);
+    return members;
+  }
+
+  @Override
+  public void deleteById(final String anId) {
+    this.elasticsearchGateway.deleteById(anId);
+    this.replica.deleted(anId);
+  }
+
+  @Override
+  public void deleteAllById(final Set<String> ids) {
+    this.elasticsearchGateway.deleteAllById(ids);
+    this.replica.deletedAll(ids);
+  }
+
+  @Override
+  public Optional<CastMember> findById(final String anId) {
+    return this.replica.findById(anId, this.elasticsearchGateway::findById);
+  }
+
+  @Override
+  public List<CastMember> findAllById(final Set<String> ids) {
+    return this.replica.findAllById(ids, this.elasticsearchGateway::findAllById);
+  }
+
+  @Override
+  public Pagination<CastMember> findAll(final CastMemberSearchQuery aQuery) {
+    return this.replica.findAll(
+        aQuery.sort(),
+        aQuery.direction(),
+        aQuery.page(),
+        aQuery.perPage(),
+        it -> matchesAsYouType(aQuery.terms(), it.name()),
+        () -> this.elasticsearchGateway.findAll(aQuery)
+    );
+  }
+}
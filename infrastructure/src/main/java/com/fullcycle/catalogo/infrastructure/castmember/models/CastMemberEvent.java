@@ -12,6 +12,11 @@ public record CastMemberEvent(
     @JsonProperty("created_at") Long createdAt,
     @JsonProperty("updated_at") Long updatedAt
 ) {
+
+  public CastMemberEvent(final String id) {
+    this(id, null, null, null, null);
+  }
+
   public static CastMemberEvent from(final CastMember aMember) {
     return new CastMemberEvent(
         aMember.id(),
@@ -18,7 +18,10 @@ public class CastMemberDocument {
 
   @MultiField(
       mainField = @Field(type = FieldType.Text, name = "name"),
-      otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+      otherFields = {
+          @InnerField(suffix = "keyword", type = FieldType.Keyword),
+          @InnerField(suffix = "search", type = FieldType.Search_As_You_Type)
+      }
   )
   private String name;
 
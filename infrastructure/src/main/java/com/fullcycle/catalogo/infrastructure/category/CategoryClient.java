@@ -2,9 +2,22 @@ package com.fullcycle.catalogo.infrastructure.category;
 
 import com.fullcycle.catalogo.domain.category.Category;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface CategoryClient {
 
     Optional<Category> categoryOfId(String anId);
+
+    CompletableFuture<Optional<Category>> categoryOfIdAsync(String anId);
+
+    Map<String, Category> categoriesOfIds(Set<String> ids);
+
+    void reloadCategoriesOfIds(Set<String> ids);
+
+    void cacheCategory(Category aCategory);
+
+    void forgetCategoryOfId(String anId);
 }
@@ -10,19 +10,20 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.StreamSupport;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchOperations;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
 import java.util.Optional;
 
-import static org.springframework.data.elasticsearch.core.query.Criteria.where;
+import static com.fullcycle.catalogo.infrastructure.utils.SearchQueries.searchAsYouType;
 
 @Component
 @Profile("!development")
@@ -33,13 +34,16 @@ public class CategoryElasticsearchGateway implements CategoryGateway {
 
     private final CategoryRepository categoryRepository;
     private final SearchOperations searchOperations;
+    private final int trackTotalHitsUpTo;
 
     public CategoryElasticsearchGateway(
             final CategoryRepository categoryRepository,
-            final SearchOperations searchOperations
+            final SearchOperations searchOperations,
+            @Value("${elasticsearch.track-total-hits-up-to:10000}") final int trackTotalHitsUpTo
     ) {
         this.categoryRepository = Objects.requireNonNull(categoryRepository);
         this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.trackTotalHitsUpTo = trackTotalHitsUpTo;
     }
 
     @Override
@@ -48,17 +52,44 @@ public class CategoryElasticsearchGateway implements CategoryGateway {
         return aCategory;
     }
 
+    @Override
+    public List<Category> saveAll(final List<Category> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return List.of();
+        }
+        this.categoryRepository.saveAll(categories.stream().map(CategoryDocument::from).toList());
+        return categories;
+    }
+
     @Override
     public void deleteById(final String anId) {
         this.categoryRepository.deleteById(anId);
     }
 
+    @Override
+    public void deleteAllById(final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        this.categoryRepository.deleteAllById(ids);
+    }
+
     @Override
     public Optional<Category> findById(final String anId) {
         return this.categoryRepository.findById(anId)
                 .map(CategoryDocument::toCategory);
     }
 
+    // scrolls the whole index, meant for the small reference data indices only
+    public List<Category> findAll() {
+        try (final var hits = this.searchOperations.searchForStream(Query.findAll(), CategoryDocument.class)) {
+            return hits.stream()
+                    .map(SearchHit::getContent)
+                    .map(CategoryDocument::toCategory)
+                    .toList();
+        }
+    }
+
     @Override
     public List<Category> findAllById(final Set<String> ids) {
         if (ids == null || ids.isEmpty()) {
@@ -80,13 +111,14 @@ public class CategoryElasticsearchGateway implements CategoryGateway {
 
         final Query query;
         if (StringUtils.isNotEmpty(terms)) {
-            final var criteria = where("name").contains(terms)
-                    .or(where("description").contains(terms));
-
-            query = new CriteriaQuery(criteria, page);
+            query = NativeQuery.builder()
+                    .withQuery(searchAsYouType(terms, "name", "description"))
+                    .withPageable(page)
+                    .build();
         } else {
             query = Query.findAll().setPageable(page);
         }
+        query.setTrackTotalHitsUpTo(this.trackTotalHitsUpTo);
 
         final var res = this.searchOperations.search(query, CategoryDocument.class);
 
@@ -1,14 +1,17 @@
 package com.fullcycle.catalogo.infrastructure.category;
 
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+
 import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.utils.InMemorySearchIndex;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
@@ -16,26 +19,43 @@ import org.springframework.stereotype.Component;
 @Profile("development")
 public class CategoryInMemoryGateway implements CategoryGateway {
 
-  private final Map<String, Category> db;
+  private final InMemorySearchIndex<Category> db;
 
   public CategoryInMemoryGateway() {
-    this.db = new ConcurrentHashMap<>();
+    this.db = InMemorySearchIndex.builder(Category::id)
+        .text(Category::name)
+        .text(Category::description)
+        .sort("name", comparing(Category::name))
+        .sort("created_at", comparing(Category::createdAt, nullsLast(naturalOrder())))
+        .sort("updated_at", comparing(Category::updatedAt, nullsLast(naturalOrder())))
+        .build();
   }
 
   @Override
   public Category save(final Category aCategory) {
-    this.db.put(aCategory.id(), aCategory);
+    this.db.put(aCategory);
     return aCategory;
   }
 
+  @Override
+  public List<Category> saveAll(final List<Category> categories) {
+    this.db.putAll(categories);
+    return categories;
+  }
+
   @Override
   public void deleteById(String categoryId) {
     this.db.remove(categoryId);
   }
 
+  @Override
+  public void deleteAllById(final Set<String> ids) {
+    this.db.removeAll(ids);
+  }
+
   @Override
   public Optional<Category> findById(String categoryId) {
-    return Optional.ofNullable(this.db.get(categoryId));
+    return this.db.get(categoryId);
   }
 
   @Override
@@ -43,18 +63,14 @@ public class CategoryInMemoryGateway implements CategoryGateway {
     if (categoryId == null || categoryId.isEmpty()) {
       return List.of();
     }
-    return categoryId.stream()
-        .map(this.db::get)
-        .toList();
+    return this.db.getAll(categoryId);
   }
 
   @Override
   public Pagination<Category> findAll(CategorySearchQuery aQuery) {
-    return new Pagination<>(
-        aQuery.page(),
-        aQuery.perPage(),
-        this.db.values().size(),
-        this.db.values().stream().toList()
-    );
+    return this.db.query()
+        .terms(aQuery.terms())
+        .sort(aQuery.sort(), "desc".equalsIgnoreCase(aQuery.direction()))
+        .page(aQuery.page(), aQuery.perPage());
   }
 }
@@ -0,0 +1,104 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import static com.fullcycle.catalogo.infrastructure.utils.InMemoryReplica.matchesAsYouType;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.utils.ReplicatedIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves category reads from a local replica of the categories index, writing through to
+ * Elasticsearch. Until the first load completes, and for sorts it doesn't know, it reads from
+ * Elasticsearch.
+ */
+@Primary
+@Component
+@Profile("!development")
+@ConditionalOnProperty(name = "elasticsearch.replica.enabled", havingValue = "true")
+public class CategoryReplicaGateway implements CategoryGateway {
+
+  private final CategoryElasticsearchGateway elasticsearchGateway;
+  private final ReplicatedIndex<Category> replica;
+
+  public CategoryReplicaGateway(final CategoryElasticsearchGateway elasticsearchGateway) {
+    this.elasticsearchGateway = Objects.requireNonNull(elasticsearchGateway);
+    this.replica = new ReplicatedIndex<>(
+        "categories",
+        Category::id,
+        Map.of(
+            "name", comparing(Category::name, nullsLast(naturalOrder())),
+            "created_at", comparing(Category::createdAt, nullsLast(naturalOrder())),
+            "updated_at", comparing(Category::updatedAt, nullsLast(naturalOrder()))
+        ),
+        elasticsearchGateway::findAll
+    );
+  }
+
+  @Scheduled(fixedDelayString = "${elasticsearch.replica.refresh-interval}")
+  public void refresh() {
+    this.replica.refresh();
+  }
+
+  @Override
+  public Category save(final Category aCategory) {
+    this.elasticsearchGateway.save(aCategory);
+    this.replica.saved(aCategory);
+    return aCategory;
+  }
+
+  @Override
+  public List<Category> saveAll(final List<Category> categories) {
+    this.elasticsearchGateway.saveAll(categories);
+    this.replica.savedAll(categories);
+    return categories;
+  }
+
+  @Override
+  public void deleteById(final String anId) {
+    this.elasticsearchGateway.deleteById(anId);
+    this.replica.deleted(anId);
+  }
+
+  @Override
+  public void deleteAllById(final Set<String> ids) {
+    this.elasticsearchGateway.deleteAllById(ids);
+    this.replica.deletedAll(ids);
+  }
+
+  @Override
+  public Optional<Category> findById(final String anId) {
+    return this.replica.findById(anId, this.elasticsearchGateway::findById);
+  }
+
+  @Override
+  public List<Category> findAllById(final Set<String> ids) {
+    return this.replica.findAllById(ids, this.elasticsearchGateway::findAllById);
+  }
+
+  @Override
+  public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+    return this.replica.findAll(
+        aQuery.sort(),
+        aQuery.direction(),
+        aQuery.page(),
+        aQuery.perPage(),
+        it -> matchesAsYouType(aQuery.terms(), it.name(), it.description()),
+        () -> this.elasticsearchGateway.findAll(aQuery)
+    );
+  }
+}
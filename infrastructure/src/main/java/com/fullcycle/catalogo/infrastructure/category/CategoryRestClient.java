@@ -4,12 +4,25 @@ import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.infrastructure.authentication.GetClientCredentials;
 import com.fullcycle.catalogo.infrastructure.category.models.CategoryDTO;
 import com.fullcycle.catalogo.infrastructure.configuration.annotations.Categories;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.RestClientProperties;
+import com.fullcycle.catalogo.infrastructure.utils.AdaptiveBulkhead;
+import com.fullcycle.catalogo.infrastructure.utils.CachedBatchLoader;
+import com.fullcycle.catalogo.infrastructure.utils.CachedClient;
+import com.fullcycle.catalogo.infrastructure.utils.Hedged;
 import com.fullcycle.catalogo.infrastructure.utils.HttpClient;
+import com.fullcycle.catalogo.infrastructure.utils.SingleFlight;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
@@ -17,18 +30,28 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 @Component
-@CacheConfig(cacheNames = "admin-categories")
-public class CategoryRestClient implements CategoryClient, HttpClient {
+@CacheConfig(cacheNames = CategoryRestClient.CACHE)
+public class CategoryRestClient implements CategoryClient, CachedClient<Category>, HttpClient {
 
   public static final String NAMESPACE = "categories";
+  public static final String CACHE = "admin-categories";
 
   private final RestClient restClient;
+  private final RestClientProperties properties;
   private final GetClientCredentials getClientCredentials;
+  private final CachedBatchLoader batchLoader;
+  private final ObjectProvider<CategoryRestClient> self;
 
   public CategoryRestClient(@Categories final RestClient categoryHttpClient,
-      final GetClientCredentials getClientCredentials) {
+      @Categories final RestClientProperties properties,
+      final GetClientCredentials getClientCredentials,
+      final CachedBatchLoader batchLoader,
+      final ObjectProvider<CategoryRestClient> self) {
     this.restClient = Objects.requireNonNull(categoryHttpClient);
+    this.properties = Objects.requireNonNull(properties);
     this.getClientCredentials = Objects.requireNonNull(getClientCredentials);
+    this.batchLoader = Objects.requireNonNull(batchLoader);
+    this.self = Objects.requireNonNull(self);
   }
 
   @Override
@@ -36,11 +59,53 @@ public class CategoryRestClient implements CategoryClient, HttpClient {
     return NAMESPACE;
   }
 
-  @Cacheable(key = "#categoryId")
-  @Bulkhead(name = NAMESPACE)
+  @Override
+  public String cacheName() {
+    return CACHE;
+  }
+
+  @Cacheable(key = "#categoryId", sync = true)
+  @SingleFlight
+  @Hedged
+  @AdaptiveBulkhead
   @CircuitBreaker(name = NAMESPACE)
   @Retry(name = NAMESPACE)
   public Optional<Category> categoryOfId(final String categoryId) {
+    return load(categoryId);
+  }
+
+  @Override
+  public CompletableFuture<Optional<Category>> categoryOfIdAsync(final String categoryId) {
+    return this.batchLoader.loadAsync(this, categoryId);
+  }
+
+  @Override
+  public Map<String, Category> categoriesOfIds(final Set<String> categoryIds) {
+    return this.batchLoader.loadAll(this, categoryIds);
+  }
+
+  @Override
+  public void reloadCategoriesOfIds(final Set<String> categoryIds) {
+    this.batchLoader.reloadAll(this, categoryIds);
+  }
+
+  @Override
+  public void cacheCategory(final Category aCategory) {
+    this.batchLoader.put(this, aCategory.id(), aCategory);
+  }
+
+  @Override
+  public void forgetCategoryOfId(final String categoryId) {
+    this.batchLoader.put(this, categoryId, null);
+  }
+
+  @Override
+  @SingleFlight
+  @Hedged
+  @AdaptiveBulkhead
+  @CircuitBreaker(name = NAMESPACE)
+  @Retry(name = NAMESPACE)
+  public Optional<Category> load(final String categoryId) {
     final var token = this.getClientCredentials.retrieve();
     return doGet(categoryId, () -> this.restClient
         .get()
@@ -51,4 +116,37 @@ public class CategoryRestClient implements CategoryClient, HttpClient {
         .onStatus(is5xx, a5xxHandler(categoryId))
         .body(CategoryDTO.class)).map(CategoryDTO::toCategory);
   }
+
+  @Override
+  @Bulkhead(name = NAMESPACE, type = Bulkhead.Type.THREADPOOL)
+  @TimeLimiter(name = NAMESPACE)
+  public CompletableFuture<Optional<Category>> loadAsync(final String categoryId) {
+    // the thread-pool bulkhead runs this body off the caller's thread, and the request goes through
+    // the proxy so it gets the same single-flight and resilience aspects as a blocking lookup
+    return CompletableFuture.completedFuture(this.self.getObject().load(categoryId));
+  }
+
+  @Override
+  @AdaptiveBulkhead
+  @CircuitBreaker(name = NAMESPACE)
+  @Retry(name = NAMESPACE)
+  public Optional<Map<String, Category>> loadAll(final Set<String> categoryIds) {
+    if (this.properties.bulkPath() == null) {
+      return Optional.empty();
+    }
+
+    final var token = this.getClientCredentials.retrieve();
+    final var ids = String.join(",", categoryIds);
+    final var categories = doGet(ids, () -> this.restClient
+        .get()
+        .uri(uri -> uri.path(this.properties.bulkPath()).queryParam("ids", ids).build())
+        .header(HttpHeaders.AUTHORIZATION, "bearer " + token)
+        .retrieve()
+        .onStatus(is5xx, a5xxHandler(ids))
+        .body(CategoryDTO[].class)).orElseGet(() -> new CategoryDTO[0]);
+
+    return Optional.of(Arrays.stream(categories)
+        .map(CategoryDTO::toCategory)
+        .collect(Collectors.toMap(Category::id, it -> it)));
+  }
 }
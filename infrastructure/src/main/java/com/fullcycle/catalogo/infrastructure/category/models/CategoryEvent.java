@@ -1,8 +1,48 @@
 package com.fullcycle.catalogo.infrastructure.category.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.catalogo.domain.category.Category;
+
+import static com.fullcycle.catalogo.domain.utils.InstantUtils.fromTimestamp;
+import static com.fullcycle.catalogo.domain.utils.InstantUtils.toTimestamp;
 
 public record CategoryEvent(
-        @JsonProperty("id") String id
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("active") Boolean active,
+        @JsonProperty("created_at") Long createdAt,
+        @JsonProperty("updated_at") Long updatedAt,
+        @JsonProperty("deleted_at") Long deletedAt
 ) {
+
+    public CategoryEvent(final String id) {
+        this(id, null, null, null, null, null, null);
+    }
+
+    public static CategoryEvent from(final Category aCategory) {
+        return new CategoryEvent(
+                aCategory.id(),
+                aCategory.name(),
+                aCategory.description(),
+                aCategory.active(),
+                toTimestamp(aCategory.createdAt()),
+                toTimestamp(aCategory.updatedAt()),
+                toTimestamp(aCategory.deletedAt())
+        );
+    }
+
+    /**
+     * The row carries every column of a category, so it only needs the admin API when the
+     * connector did not ship them, e.g. events produced before the columns were mapped.
+     */
+    @JsonIgnore
+    public boolean isComplete() {
+        return id != null && name != null && active != null && createdAt != null && updatedAt != null;
+    }
+
+    public Category toCategory() {
+        return Category.with(id, name, description, active, fromTimestamp(createdAt), fromTimestamp(updatedAt), fromTimestamp(deletedAt));
+    }
 }
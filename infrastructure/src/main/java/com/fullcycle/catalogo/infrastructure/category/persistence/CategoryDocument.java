@@ -14,11 +14,17 @@ public class CategoryDocument {
 
     @MultiField(
             mainField = @Field(type = FieldType.Text, name = "name"),
-            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+            otherFields = {
+                    @InnerField(suffix = "keyword", type = FieldType.Keyword),
+                    @InnerField(suffix = "search", type = FieldType.Search_As_You_Type)
+            }
     )
     private String name;
 
-    @Field(type = FieldType.Text, name = "description")
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, name = "description"),
+            otherFields = @InnerField(suffix = "search", type = FieldType.Search_As_You_Type)
+    )
     private String description;
 
     @Field(type = FieldType.Boolean, name = "active")
@@ -1,25 +1,76 @@
 package com.fullcycle.catalogo.infrastructure.configuration;
 
+import com.fullcycle.catalogo.infrastructure.configuration.properties.Cache2kProperties;
+import com.fullcycle.catalogo.infrastructure.utils.CachedBatchLoader;
+import com.fullcycle.catalogo.infrastructure.utils.CachedClient;
+import com.fullcycle.catalogo.infrastructure.utils.SingleFlightAspect;
 import java.util.concurrent.TimeUnit;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.cache.Cache2kBuilderCustomizer;
+import org.cache2k.Cache2kBuilder;
+import org.cache2k.extra.spring.SpringCache2kCacheManager;
+import org.cache2k.io.CacheLoader;
+import org.cache2k.io.CacheLoaderException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-@EnableCaching
+// outermost, so a hit is served before request collapsing and resilience4j take part
+@EnableCaching(order = SingleFlightAspect.ORDER - 1)
 @Configuration(proxyBeanMethods = false)
 public class CacheConfig {
 
   @Bean
   @ConditionalOnProperty(name = "cache.type", havingValue = "cache2k")
-  Cache2kBuilderCustomizer cache2kBuilderCustomizer(
-      @Value("${cache.max-entries}") final int maxEntries,
-      @Value("${cache.ttl}") final int ttl
+  @ConfigurationProperties(prefix = "cache")
+  public Cache2kProperties cache2kProperties() {
+    return new Cache2kProperties();
+  }
+
+  /**
+   * Every cache is loader-backed: a miss is loaded once per key however many threads ask for it,
+   * and an entry is reloaded in the background when it expires, so hot entries are never missed.
+   * An entry that is not read again until its next expiry is dropped. Entries changed upstream are
+   * written over through {@link CachedBatchLoader#reloadAll} rather than evicted, an evict would let
+   * a refresh already running put the old copy back for a whole TTL.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "cache.type", havingValue = "cache2k")
+  SpringCache2kCacheManager cacheManager(
+      final Cache2kProperties properties,
+      final ObjectProvider<CachedClient<?>> clients
   ) {
-    return builder -> builder
-        .entryCapacity(maxEntries)
-        .expireAfterWrite(ttl, TimeUnit.SECONDS);
+    final var cacheManager = new SpringCache2kCacheManager();
+    properties.names().forEach(name -> cacheManager.addCache(name, builder ->
+        loading(builder, name, clients)
+            .entryCapacity(properties.maxEntries(name))
+            .expireAfterWrite(properties.ttl(name), TimeUnit.SECONDS)
+            .refreshAhead(true)
+    ));
+    cacheManager.setAllowUnknownCache(false);
+    return cacheManager;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Cache2kBuilder<Object, Object> loading(
+      final Cache2kBuilder<?, ?> builder,
+      final String cacheName,
+      final ObjectProvider<CachedClient<?>> clients
+  ) {
+    // the clients are looked up on the first load, they are proxied around this cache manager
+    final CacheLoader<Object, Object> loader = key -> clients.orderedStream()
+        .filter(it -> cacheName.equals(it.cacheName()))
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No client loads cache " + cacheName))
+        .load((String) key)
+        .orElse(null);
+
+    // rethrows what the client threw, the retry and circuit breaker rules match on it
+    return ((Cache2kBuilder<Object, Object>) builder)
+        .loader(loader)
+        .exceptionPropagator(info -> info.getException() instanceof RuntimeException ex
+            ? ex
+            : new CacheLoaderException(info.getException()));
   }
 }
@@ -1,10 +1,16 @@
 package com.fullcycle.catalogo.infrastructure.configuration;
 
 import com.fullcycle.catalogo.infrastructure.configuration.properties.KafkaProperties;
+import com.fullcycle.catalogo.infrastructure.kafka.KeyOrderedExecutor;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -12,6 +18,9 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 
 @Configuration(proxyBeanMethods = false)
@@ -26,15 +35,49 @@ public class KafkaConfig {
     }
 
     @Bean
-    KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, String>> kafkaListenerFactory() {
-        final var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
-        factory.setConsumerFactory(consumerFactory());
+    KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, byte[]>> kafkaListenerFactory(
+            final ConsumerFactory<String, byte[]> consumerFactory
+    ) {
+        final var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory);
         factory.getContainerProperties().setPollTimeout(properties.poolTimeout());
+        if (properties.batchListener()) {
+            // main topics are drained by the batch listeners, retry and DLT topics stay per record
+            factory.setContainerCustomizer(container -> {
+                if (container.getMainListenerId() == null) {
+                    container.setAutoStartup(false);
+                }
+            });
+        }
         return factory;
     }
 
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, byte[]>> kafkaBatchListenerFactory(
+            final ConsumerFactory<String, byte[]> consumerFactory
+    ) {
+        final var consumerProps = new Properties();
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+
+        final var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setPollTimeout(properties.poolTimeout());
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProps);
+        if (properties.coalesceWindow() > 0) {
+            // lets updates pile up between polls so more of them collapse into the same batch
+            factory.getContainerProperties().setIdleBetweenPolls(properties.coalesceWindow());
+        }
+        return factory;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    KeyOrderedExecutor keyOrderedExecutor() {
+        return new KeyOrderedExecutor(properties.workerThreads());
+    }
+
+    @Bean
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerConfigs());
     }
 
@@ -43,8 +86,23 @@ public class KafkaConfig {
         final var props = new HashMap<String, Object>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, properties.bootstrapServers());
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         props.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, properties.autoCreateTopics());
         return props;
     }
+
+    // republishes the consumed bytes untouched to the retry and DLT topics
+    @Bean
+    public ProducerFactory<String, byte[]> producerFactory() {
+        final var props = new HashMap<String, Object>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, properties.bootstrapServers());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> kafkaTemplate(final ProducerFactory<String, byte[]> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
 }
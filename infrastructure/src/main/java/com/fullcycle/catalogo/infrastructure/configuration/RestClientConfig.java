@@ -1,24 +1,76 @@
 package com.fullcycle.catalogo.infrastructure.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.catalogo.infrastructure.authentication.RefreshClientCredentials;
+import com.fullcycle.catalogo.infrastructure.authentication.RenewOnUnauthorizedInterceptor;
 import com.fullcycle.catalogo.infrastructure.configuration.annotations.Categories;
 import com.fullcycle.catalogo.infrastructure.configuration.annotations.Genres;
 import com.fullcycle.catalogo.infrastructure.configuration.annotations.Keycloak;
 import com.fullcycle.catalogo.infrastructure.configuration.annotations.Videos;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.ConcurrencyLimitProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.HedgingProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.HttpClientProperties;
 import com.fullcycle.catalogo.infrastructure.configuration.properties.RestClientProperties;
+import com.fullcycle.catalogo.infrastructure.utils.HttpClientMetrics;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration(proxyBeanMethods = false)
 public class RestClientConfig {
 
+  private static final String CATEGORIES = "categories";
+  private static final String GENRES = "genres";
+  private static final String VIDEOS = "videos";
+  private static final String KEYCLOAK = "keycloak";
+
+  @Bean
+  @ConfigurationProperties(prefix = "rest-client.http-client")
+  public HttpClientProperties httpClientProperties() {
+    return new HttpClientProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties(prefix = "rest-client.concurrency-limit")
+  public ConcurrencyLimitProperties concurrencyLimitProperties() {
+    return new ConcurrencyLimitProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties(prefix = "rest-client.hedging")
+  public HedgingProperties hedgingProperties() {
+    return new HedgingProperties();
+  }
+
+  @Bean
+  public HttpClientMetrics httpClientMetrics() {
+    return new HttpClientMetrics(httpClientExecutor());
+  }
+
+  @Bean
+  public HttpClient sharedHttpClient(final HttpClientProperties properties, final HttpClientMetrics metrics) {
+    final var builder = HttpClient.newBuilder()
+        .version(properties.version())
+        .executor(metrics.executor());
+
+    if (properties.connectTimeout() > 0) {
+      builder.connectTimeout(Duration.ofMillis(properties.connectTimeout()));
+    }
+    return builder.build();
+  }
+
   @Bean
   @Categories
   @ConfigurationProperties(prefix = "rest-client.categories")
@@ -49,35 +101,68 @@ public class RestClientConfig {
 
   @Bean
   @Categories
-  public RestClient categoryHttpClient(@Categories final RestClientProperties properties, final ObjectMapper objectMapper) {
-    return restClient(properties, objectMapper);
+  public RestClient categoryHttpClient(
+      @Categories final RestClientProperties properties,
+      final ObjectMapper objectMapper,
+      final HttpClient sharedHttpClient,
+      final HttpClientMetrics metrics,
+      final RefreshClientCredentials refreshClientCredentials
+  ) {
+    return restClient(properties, objectMapper, sharedHttpClient, metrics.inFlight(CATEGORIES),
+        new RenewOnUnauthorizedInterceptor(refreshClientCredentials));
   }
 
   @Bean
   @Genres
-  public RestClient genreHttpClient(@Genres final RestClientProperties properties, final ObjectMapper objectMapper) {
-    return restClient(properties, objectMapper);
+  public RestClient genreHttpClient(
+      @Genres final RestClientProperties properties,
+      final ObjectMapper objectMapper,
+      final HttpClient sharedHttpClient,
+      final HttpClientMetrics metrics,
+      final RefreshClientCredentials refreshClientCredentials
+  ) {
+    return restClient(properties, objectMapper, sharedHttpClient, metrics.inFlight(GENRES),
+        new RenewOnUnauthorizedInterceptor(refreshClientCredentials));
   }
 
   @Bean
   @Videos
-  public RestClient videoHttpClient(@Videos final RestClientProperties properties, final ObjectMapper objectMapper) {
-    return restClient(properties, objectMapper);
+  public RestClient videoHttpClient(
+      @Videos final RestClientProperties properties,
+      final ObjectMapper objectMapper,
+      final HttpClient sharedHttpClient,
+      final HttpClientMetrics metrics,
+      final RefreshClientCredentials refreshClientCredentials
+  ) {
+    return restClient(properties, objectMapper, sharedHttpClient, metrics.inFlight(VIDEOS),
+        new RenewOnUnauthorizedInterceptor(refreshClientCredentials));
   }
 
   @Bean
   @Keycloak
-  public RestClient keycloakHttpClient(@Keycloak final RestClientProperties properties, final ObjectMapper objectMapper) {
-    return restClient(properties, objectMapper);
+  public RestClient keycloakHttpClient(
+      @Keycloak final RestClientProperties properties,
+      final ObjectMapper objectMapper,
+      final HttpClient sharedHttpClient,
+      final HttpClientMetrics metrics
+  ) {
+    return restClient(properties, objectMapper, sharedHttpClient, metrics.inFlight(KEYCLOAK));
   }
 
-  private static RestClient restClient(final RestClientProperties properties, final ObjectMapper objectMapper) {
-    final var factory = new JdkClientHttpRequestFactory();
+  private static RestClient restClient(
+      final RestClientProperties properties,
+      final ObjectMapper objectMapper,
+      final HttpClient httpClient,
+      final ClientHttpRequestInterceptor... interceptors
+  ) {
+    // the read timeout is set on each request, so all clients share one connection pool
+    final var factory = new JdkClientHttpRequestFactory(httpClient);
     factory.setReadTimeout(properties.readTimeout());
 
     return RestClient.builder()
         .baseUrl(properties.baseUrl())
         .requestFactory(factory)
+        .requestInterceptors(it -> it.addAll(List.of(interceptors)))
         .messageConverters(converters -> {
           converters.removeIf(it -> it instanceof MappingJackson2HttpMessageConverter);
           converters.add(jsonConverter(objectMapper));
@@ -86,6 +171,14 @@ public class RestClientConfig {
         .build();
   }
 
+  // the JDK client uses it to send requests and complete their responses; the threads are daemons
+  // so they do not hold the JVM open on shutdown
+  private static ExecutorService httpClientExecutor() {
+    final var threadFactory = new CustomizableThreadFactory("http-client-");
+    threadFactory.setDaemon(true);
+    return Executors.newCachedThreadPool(threadFactory);
+  }
+
   private static MappingJackson2HttpMessageConverter jsonConverter(ObjectMapper objectMapper) {
     final var jsonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
     jsonConverter.setSupportedMediaTypes(List.of(MediaType.APPLICATION_JSON));
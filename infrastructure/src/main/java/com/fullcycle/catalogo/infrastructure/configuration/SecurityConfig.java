@@ -1,5 +1,6 @@
 package com.fullcycle.catalogo.infrastructure.configuration;
 
+import com.fullcycle.catalogo.infrastructure.configuration.security.CachingJwtAuthenticationManager;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -8,6 +9,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -21,6 +23,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -32,8 +35,21 @@ public class SecurityConfig {
 
   private static final String ROLE_ADMIN = "CATALOGO_ADMIN";
 
+  @Bean(destroyMethod = "close")
+  public CachingJwtAuthenticationManager jwtAuthenticationManager(
+      final JwtDecoder jwtDecoder,
+      @Value("${security.jwt-cache.max-entries:10000}") final int maxEntries,
+      @Value("${security.jwt-cache.max-ttl:3600}") final long maxTtl
+  ) {
+    return new CachingJwtAuthenticationManager(jwtDecoder, new KeycloakJwtConverter(), maxEntries,
+        maxTtl);
+  }
+
   @Bean
-  public SecurityFilterChain securityFilterChain(final HttpSecurity http) throws Exception {
+  public SecurityFilterChain securityFilterChain(
+      final HttpSecurity http,
+      final CachingJwtAuthenticationManager jwtAuthenticationManager
+  ) throws Exception {
     return http
         .csrf(csrf -> {
           csrf.disable();
@@ -44,7 +60,7 @@ public class SecurityConfig {
               .anyRequest().hasRole(ROLE_ADMIN);
         })
         .oauth2ResourceServer(oauth -> {
-          oauth.jwt(j -> j.jwtAuthenticationConverter(new KeycloakJwtConverter()));
+          oauth.jwt(j -> j.authenticationManager(jwtAuthenticationManager));
         })
         .sessionManagement(session -> {
           session.sessionCreationPolicy(SessionCreationPolicy.STATELESS);
@@ -1,16 +1,23 @@
 package com.fullcycle.catalogo.infrastructure.configuration.json;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 public enum Json {
@@ -20,6 +27,10 @@ public enum Json {
     return INSTANCE.mapper.copy();
   }
 
+  public static ObjectMapper mapper(final Accelerator accelerator) {
+    return newMapper(accelerator);
+  }
+
   public static String writeValueAsString(final Object obj) {
     return invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
   }
@@ -32,19 +43,49 @@ public enum Json {
     return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
   }
 
-  private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
-          .dateFormat(new StdDateFormat())
-          .featuresToDisable(
-                  DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
-                  DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
-                  DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
-                  SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
-          )
-          .modules(new JavaTimeModule(), new Jdk8Module(), afterburnerModule())
-          .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-          .build();
+  /**
+   * A reader resolving the type once, to be kept and reused for every value of that type.
+   */
+  public static <T> Reader<T> reader(final TypeReference<T> type) {
+    return new Reader<>(INSTANCE.mapper.readerFor(type));
+  }
+
+  public static <T> Reader<T> reader(final Class<T> type) {
+    return new Reader<>(INSTANCE.mapper.readerFor(type));
+  }
+
+  public static JsonParser parser(final byte[] json) {
+    return invoke(() -> INSTANCE.mapper.createParser(json));
+  }
+
+  private final ObjectMapper mapper = newMapper(Accelerator.fromSystemProperty());
 
-  private AfterburnerModule afterburnerModule() {
+  private static ObjectMapper newMapper(final Accelerator accelerator) {
+    return new Jackson2ObjectMapperBuilder()
+            .dateFormat(new StdDateFormat())
+            .featuresToDisable(
+                    DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                    DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
+                    DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
+                    SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
+            )
+            .modules(modules(accelerator))
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .build();
+  }
+
+  private static List<Module> modules(final Accelerator accelerator) {
+    final var modules = new ArrayList<Module>(List.of(new JavaTimeModule(), new Jdk8Module()));
+    switch (accelerator) {
+      case AFTERBURNER -> modules.add(afterburnerModule());
+      case BLACKBIRD -> modules.add(new BlackbirdModule());
+      case NONE -> {
+      }
+    }
+    return modules;
+  }
+
+  private static AfterburnerModule afterburnerModule() {
     var module = new AfterburnerModule();
     // make Afterburner generate bytecode only for public getters/setter and fields
     // without this, Java 9+ complains of "Illegal reflective access"
@@ -52,6 +93,60 @@ public enum Json {
     return module;
   }
 
+  /**
+   * How the mappers speed up reading and writing properties, chosen with the
+   * {@code json.accelerator} system property. Afterburner, the default, only generates bytecode for
+   * public accessors and fields; Blackbird binds through method handles and so also reaches the
+   * accessors and canonical constructors of records. An unknown value keeps the default.
+   */
+  public enum Accelerator {
+    NONE, AFTERBURNER, BLACKBIRD;
+
+    public static final String PROPERTY = "json.accelerator";
+    public static final Accelerator DEFAULT = AFTERBURNER;
+
+    static Accelerator fromSystemProperty() {
+      return of(System.getProperty(PROPERTY));
+    }
+
+    static Accelerator of(final String value) {
+      if (value == null || value.isBlank()) {
+        return DEFAULT;
+      }
+      try {
+        return valueOf(value.trim().toUpperCase());
+      } catch (IllegalArgumentException e) {
+        LoggerFactory.getLogger(Json.class).warn(
+            "Unknown '{}' value '{}', expected one of none, afterburner or blackbird; using {}",
+            PROPERTY, value, DEFAULT.name().toLowerCase());
+        return DEFAULT;
+      }
+    }
+  }
+
+  public static final class Reader<T> {
+
+    private final ObjectReader reader;
+
+    private Reader(final ObjectReader reader) {
+      this.reader = reader;
+    }
+
+    // parses the UTF-8 bytes as they are, with no String decoded first
+    public T read(final byte[] json) {
+      return invoke(() -> this.reader.readValue(json));
+    }
+
+    public T read(final String json) {
+      return invoke(() -> this.reader.readValue(json));
+    }
+
+    // reads the value the parser is at, leaving it on the last token of that value
+    public T read(final JsonParser parser) {
+      return invoke(() -> this.reader.readValue(parser));
+    }
+  }
+
   private static <T> T invoke(final Callable<T> callable) {
     try {
       return callable.call();
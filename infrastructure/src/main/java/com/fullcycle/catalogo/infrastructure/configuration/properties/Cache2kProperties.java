@@ -0,0 +1,81 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Cache2kProperties {
+
+  private List<String> names = List.of();
+
+  private int maxEntries;
+
+  private int ttl;
+
+  private Map<String, CacheSpec> specs = new HashMap<>();
+
+  public List<String> names() {
+    return names;
+  }
+
+  public void setNames(List<String> names) {
+    this.names = names;
+  }
+
+  public int maxEntries() {
+    return maxEntries;
+  }
+
+  public void setMaxEntries(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  public int ttl() {
+    return ttl;
+  }
+
+  public void setTtl(int ttl) {
+    this.ttl = ttl;
+  }
+
+  public Map<String, CacheSpec> specs() {
+    return specs;
+  }
+
+  public void setSpecs(Map<String, CacheSpec> specs) {
+    this.specs = specs;
+  }
+
+  public int maxEntries(final String cacheName) {
+    final var spec = specs.get(cacheName);
+    return spec != null && spec.maxEntries() != null ? spec.maxEntries() : maxEntries;
+  }
+
+  public int ttl(final String cacheName) {
+    final var spec = specs.get(cacheName);
+    return spec != null && spec.ttl() != null ? spec.ttl() : ttl;
+  }
+
+  public static class CacheSpec {
+
+    private Integer maxEntries;
+
+    private Integer ttl;
+
+    public Integer maxEntries() {
+      return maxEntries;
+    }
+
+    public void setMaxEntries(Integer maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    public Integer ttl() {
+      return ttl;
+    }
+
+    public void setTtl(Integer ttl) {
+      this.ttl = ttl;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+public class ConcurrencyLimitProperties {
+
+  private int minLimit = 1;
+
+  private int maxLimit = 100;
+
+  private double backoffRatio = 0.9;
+
+  private int latencyThreshold = 500;
+
+  public int minLimit() {
+    return minLimit;
+  }
+
+  public void setMinLimit(int minLimit) {
+    this.minLimit = minLimit;
+  }
+
+  public int maxLimit() {
+    return maxLimit;
+  }
+
+  public void setMaxLimit(int maxLimit) {
+    this.maxLimit = maxLimit;
+  }
+
+  public double backoffRatio() {
+    return backoffRatio;
+  }
+
+  public void setBackoffRatio(double backoffRatio) {
+    this.backoffRatio = backoffRatio;
+  }
+
+  public int latencyThreshold() {
+    return latencyThreshold;
+  }
+
+  public void setLatencyThreshold(int latencyThreshold) {
+    this.latencyThreshold = latencyThreshold;
+  }
+}
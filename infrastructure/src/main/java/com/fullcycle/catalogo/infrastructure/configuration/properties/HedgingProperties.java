@@ -0,0 +1,50 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class HedgingProperties {
+
+  private Map<String, HedgeSpec> specs = new HashMap<>();
+
+  private int maxThreads = 32;
+
+  public Map<String, HedgeSpec> specs() {
+    return specs;
+  }
+
+  public void setSpecs(Map<String, HedgeSpec> specs) {
+    this.specs = specs;
+  }
+
+  public int maxThreads() {
+    return maxThreads;
+  }
+
+  public void setMaxThreads(int maxThreads) {
+    this.maxThreads = maxThreads;
+  }
+
+  public static class HedgeSpec {
+
+    private double percentile = 0.95;
+
+    private double budget = 0.05;
+
+    public double percentile() {
+      return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+      this.percentile = percentile;
+    }
+
+    public double budget() {
+      return budget;
+    }
+
+    public void setBudget(double budget) {
+      this.budget = budget;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import java.net.http.HttpClient.Version;
+
+public class HttpClientProperties {
+
+  private int connectTimeout;
+
+  private Version version = Version.HTTP_2;
+
+  public int connectTimeout() {
+    return connectTimeout;
+  }
+
+  public void setConnectTimeout(int connectTimeout) {
+    this.connectTimeout = connectTimeout;
+  }
+
+  public Version version() {
+    return version;
+  }
+
+  public void setVersion(Version version) {
+    this.version = version;
+  }
+}
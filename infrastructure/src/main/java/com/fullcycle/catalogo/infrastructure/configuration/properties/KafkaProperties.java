@@ -13,6 +13,14 @@ public class KafkaProperties {
 
     private boolean autoCreateTopics;
 
+    private boolean batchListener;
+
+    private int maxPollRecords;
+
+    private long coalesceWindow;
+
+    private int workerThreads;
+
     public String bootstrapServers() {
         return bootstrapServers;
     }
@@ -36,4 +44,36 @@ public class KafkaProperties {
     public void setAutoCreateTopics(boolean autoCreateTopics) {
         this.autoCreateTopics = autoCreateTopics;
     }
+
+    public boolean batchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(boolean batchListener) {
+        this.batchListener = batchListener;
+    }
+
+    public int maxPollRecords() {
+        return maxPollRecords;
+    }
+
+    public void setMaxPollRecords(int maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    public long coalesceWindow() {
+        return coalesceWindow;
+    }
+
+    public void setCoalesceWindow(long coalesceWindow) {
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    public int workerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
 }
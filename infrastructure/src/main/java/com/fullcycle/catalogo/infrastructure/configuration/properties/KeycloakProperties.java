@@ -9,6 +9,7 @@ public class KeycloakProperties {
   private String clientId;
   private String clientSecret;
   private String tokenUri;
+  private double tokenRefreshRatio;
 
   public String clientId() {
     return clientId;
@@ -33,4 +34,12 @@ public class KeycloakProperties {
   public void setTokenUri(String tokenUri) {
     this.tokenUri = tokenUri;
   }
+
+  public double tokenRefreshRatio() {
+    return tokenRefreshRatio;
+  }
+
+  public void setTokenRefreshRatio(double tokenRefreshRatio) {
+    this.tokenRefreshRatio = tokenRefreshRatio;
+  }
 }
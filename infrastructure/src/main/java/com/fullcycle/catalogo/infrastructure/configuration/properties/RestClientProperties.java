@@ -5,6 +5,8 @@ public class RestClientProperties {
 
   private int readTimeout;
 
+  private String bulkPath;
+
   public String baseUrl() {
     return baseUrl;
   }
@@ -20,4 +22,12 @@ public class RestClientProperties {
   public void setReadTimeout(int readTimeout) {
     this.readTimeout = readTimeout;
   }
+
+  public String bulkPath() {
+    return bulkPath;
+  }
+
+  public void setBulkPath(String bulkPath) {
+    this.bulkPath = bulkPath;
+  }
 }
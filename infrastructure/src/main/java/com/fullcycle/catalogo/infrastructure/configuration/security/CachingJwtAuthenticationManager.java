@@ -0,0 +1,121 @@
+package com.fullcycle.catalogo.infrastructure.configuration.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.cache2k.expiry.ExpiryTimeValues;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * Authenticates bearer tokens as the resource server does, keeping each verified token with its
+ * authorities until the token expires: a client sending the same token again skips the signature
+ * check and the authorities conversion. Entries are keyed by the SHA-256 of the token, so the
+ * tokens themselves are not kept.
+ */
+public class CachingJwtAuthenticationManager implements AuthenticationManager, MeterBinder {
+
+  private static final String CACHE_NAME = "jwt";
+
+  private final JwtAuthenticationProvider provider;
+  private final Cache<String, JwtAuthenticationToken> cache;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public CachingJwtAuthenticationManager(
+      final JwtDecoder jwtDecoder,
+      final Converter<Jwt, ? extends AbstractAuthenticationToken> jwtAuthenticationConverter,
+      final int maxEntries,
+      final long maxTtl
+  ) {
+    this.provider = new JwtAuthenticationProvider(jwtDecoder);
+    this.provider.setJwtAuthenticationConverter(jwtAuthenticationConverter);
+    this.cache = Cache2kBuilder.of(String.class, JwtAuthenticationToken.class)
+        .entryCapacity(maxEntries)
+        .expireAfterWrite(maxTtl, TimeUnit.SECONDS)
+        .expiryPolicy((key, value, startTime, currentEntry) -> expiryOf(value))
+        .sharpExpiry(true)
+        .build();
+  }
+
+  @Override
+  public Authentication authenticate(final Authentication authentication) {
+    final var bearer = (BearerTokenAuthenticationToken) authentication;
+    final var key = hash(bearer.getToken());
+
+    final var cached = this.cache.peek(key);
+    if (cached != null) {
+      this.hits.increment();
+      // a token per request, so each one carries the details of its own request
+      final var token = new JwtAuthenticationToken(cached.getToken(), cached.getAuthorities(),
+          cached.getName());
+      token.setDetails(bearer.getDetails());
+      return token;
+    }
+
+    this.misses.increment();
+    final var authenticated = this.provider.authenticate(bearer);
+    if (authenticated instanceof JwtAuthenticationToken token) {
+      this.cache.put(key, token);
+    }
+    return authenticated;
+  }
+
+  public long size() {
+    return this.cache.asMap().size();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    FunctionCounter.builder("cache.gets", this.hits, LongAdder::sum)
+        .description("Bearer tokens authenticated from the cache")
+        .tags("cache", CACHE_NAME, "result", "hit")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", this.misses, LongAdder::sum)
+        .description("Bearer tokens decoded and verified")
+        .tags("cache", CACHE_NAME, "result", "miss")
+        .register(registry);
+    Gauge.builder("cache.size", this, CachingJwtAuthenticationManager::size)
+        .tags("cache", CACHE_NAME)
+        .register(registry);
+  }
+
+  public void close() {
+    this.cache.close();
+  }
+
+  private static long expiryOf(final JwtAuthenticationToken token) {
+    final var expiresAt = token.getToken().getExpiresAt();
+    if (expiresAt == null) {
+      return ExpiryTimeValues.ETERNAL;
+    }
+    final var millis = expiresAt.toEpochMilli();
+    return millis > System.currentTimeMillis() ? millis : ExpiryTimeValues.NOW;
+  }
+
+  private static String hash(final String token) {
+    try {
+      final var digest = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
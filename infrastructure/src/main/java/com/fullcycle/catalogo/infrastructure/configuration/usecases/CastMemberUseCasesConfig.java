@@ -1,8 +1,10 @@
 package com.fullcycle.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.catalogo.application.castmember.delete.DeleteAllCastMembersUseCase;
 import com.fullcycle.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
 import com.fullcycle.catalogo.application.castmember.get.GetAllCastMembersByIdUseCase;
 import com.fullcycle.catalogo.application.castmember.list.ListCastMemberUseCase;
+import com.fullcycle.catalogo.application.castmember.save.SaveAllCastMembersUseCase;
 import com.fullcycle.catalogo.application.castmember.save.SaveCastMemberUseCase;
 import com.fullcycle.catalogo.domain.castmember.CastMemberGateway;
 import java.util.Objects;
@@ -23,6 +25,11 @@ public class CastMemberUseCasesConfig {
     return new DeleteCastMemberUseCase(castMemberGateway);
   }
 
+  @Bean
+  DeleteAllCastMembersUseCase deleteAllCastMembersUseCase() {
+    return new DeleteAllCastMembersUseCase(castMemberGateway);
+  }
+
   @Bean
   ListCastMemberUseCase listCastMemberUseCase() {
     return new ListCastMemberUseCase(castMemberGateway);
@@ -33,6 +40,11 @@ public class CastMemberUseCasesConfig {
     return new SaveCastMemberUseCase(castMemberGateway);
   }
 
+  @Bean
+  SaveAllCastMembersUseCase saveAllCastMembersUseCase() {
+    return new SaveAllCastMembersUseCase(castMemberGateway);
+  }
+
   @Bean
   GetAllCastMembersByIdUseCase getAllCastMembersByIdUseCase() {
     return new GetAllCastMembersByIdUseCase(castMemberGateway);
@@ -1,7 +1,9 @@
 package com.fullcycle.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.catalogo.application.category.delete.DeleteAllCategoriesUseCase;
 import com.fullcycle.catalogo.application.category.delete.DeleteCategoryUseCase;
 import com.fullcycle.catalogo.application.category.list.ListCategoryUseCase;
+import com.fullcycle.catalogo.application.category.save.SaveAllCategoriesUseCase;
 import com.fullcycle.catalogo.application.category.save.SaveCategoryUseCase;
 import com.fullcycle.catalogo.application.category.get.GetAllCategoriesByIdUseCase;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
@@ -24,6 +26,11 @@ public class CategoryUseCasesConfig {
         return new DeleteCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    DeleteAllCategoriesUseCase deleteAllCategoriesUseCase() {
+        return new DeleteAllCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     ListCategoryUseCase listCategoryUseCase() {
         return new ListCategoryUseCase(categoryGateway);
@@ -34,6 +41,11 @@ public class CategoryUseCasesConfig {
         return new SaveCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    SaveAllCategoriesUseCase saveAllCategoriesUseCase() {
+        return new SaveAllCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     GetAllCategoriesByIdUseCase getAllCategoriesByIdUseCase(){
         return new GetAllCategoriesByIdUseCase(categoryGateway);
@@ -1,8 +1,10 @@
 package com.fullcycle.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.catalogo.application.genre.delete.DeleteAllGenresUseCase;
 import com.fullcycle.catalogo.application.genre.delete.DeleteGenreUseCase;
 import com.fullcycle.catalogo.application.genre.get.GetAllGenresByIdUseCase;
 import com.fullcycle.catalogo.application.genre.list.ListGenreUseCase;
+import com.fullcycle.catalogo.application.genre.save.SaveAllGenresUseCase;
 import com.fullcycle.catalogo.application.genre.save.SaveGenreUseCase;
 import com.fullcycle.catalogo.domain.genre.GenreGateway;
 import java.util.Objects;
@@ -23,11 +25,21 @@ public class GenreUseCasesConfig {
     return new SaveGenreUseCase(genreGateway);
   }
 
+  @Bean
+  SaveAllGenresUseCase saveAllGenresUseCase() {
+    return new SaveAllGenresUseCase(genreGateway);
+  }
+
   @Bean
   DeleteGenreUseCase deleteGenreUseCase() {
     return new DeleteGenreUseCase(genreGateway);
   }
 
+  @Bean
+  DeleteAllGenresUseCase deleteAllGenresUseCase() {
+    return new DeleteAllGenresUseCase(genreGateway);
+  }
+
   @Bean
   ListGenreUseCase listGenreUseCase() {
     return new ListGenreUseCase(genreGateway);
@@ -1,8 +1,10 @@
 package com.fullcycle.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.catalogo.application.video.delete.DeleteAllVideosUseCase;
 import com.fullcycle.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.catalogo.application.video.get.GetVideoUseCase;
 import com.fullcycle.catalogo.application.video.list.ListVideoUseCase;
+import com.fullcycle.catalogo.application.video.save.SaveAllVideosUseCase;
 import com.fullcycle.catalogo.application.video.save.SaveVideoUseCase;
 import com.fullcycle.catalogo.domain.video.VideoGateway;
 import java.util.Objects;
@@ -23,6 +25,11 @@ public class VideoUseCasesConfig {
     return new DeleteVideoUseCase(videoGateway);
   }
 
+  @Bean
+  DeleteAllVideosUseCase deleteAllVideosUseCase() {
+    return new DeleteAllVideosUseCase(videoGateway);
+  }
+
   @Bean
   ListVideoUseCase listVideoUseCase() {
     return new ListVideoUseCase(videoGateway);
@@ -33,6 +40,11 @@ public class VideoUseCasesConfig {
     return new SaveVideoUseCase(videoGateway);
   }
 
+  @Bean
+  SaveAllVideosUseCase saveAllVideosUseCase() {
+    return new SaveAllVideosUseCase(videoGateway);
+  }
+
   @Bean
   GetVideoUseCase getVideoUseCase() {
     return new GetVideoUseCase(videoGateway);
@@ -2,8 +2,19 @@ package com.fullcycle.catalogo.infrastructure.genre;
 
 import com.fullcycle.catalogo.infrastructure.genre.models.GenreDTO;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface GenreClient {
   Optional<GenreDTO> genreOfId(String genreId);
+
+  CompletableFuture<Optional<GenreDTO>> genreOfIdAsync(String genreId);
+
+  Map<String, GenreDTO> genresOfIds(Set<String> genreIds);
+
+  void reloadGenresOfIds(Set<String> genreIds);
+
+  void forgetGenreOfId(String genreId);
 }
@@ -1,9 +1,12 @@
 package com.fullcycle.catalogo.infrastructure.genre;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
-import static org.springframework.data.elasticsearch.core.query.Criteria.where;
+import static com.fullcycle.catalogo.infrastructure.utils.SearchQueries.searchAsYouType;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import com.fullcycle.catalogo.domain.genre.Genre;
 import com.fullcycle.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.catalogo.domain.genre.GenreSearchQuery;
@@ -16,13 +19,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.StreamSupport;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchOperations;
-import org.springframework.data.elasticsearch.core.query.Criteria;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 
@@ -34,13 +37,16 @@ public class GenreElasticsearchGateway implements GenreGateway {
   public static final String KEYWORD_SUFIX = ".keyword";
   private final GenreRepository genreRepository;
   private final SearchOperations searchOperations;
+  private final int trackTotalHitsUpTo;
 
   public GenreElasticsearchGateway(
       final GenreRepository genreRepository,
-      final SearchOperations searchOperations
+      final SearchOperations searchOperations,
+      @Value("${elasticsearch.track-total-hits-up-to:10000}") final int trackTotalHitsUpTo
   ) {
     this.genreRepository = Objects.requireNonNull(genreRepository);
     this.searchOperations = Objects.requireNonNull(searchOperations);
+    this.trackTotalHitsUpTo = trackTotalHitsUpTo;
   }
 
   @Override
@@ -49,11 +55,28 @@ public class GenreElasticsearchGateway implements GenreGateway {
     return aGenre;
   }
 
+  @Override
+  public List<Genre> saveAll(final List<Genre> genres) {
+    if (genres == null || genres.isEmpty()) {
+      return List.of();
+    }
+    this.genreRepository.saveAll(genres.stream().map(GenreDocument::from).toList());
+    return genres;
+  }
+
   @Override
   public void deleteById(final String genreId) {
     this.genreRepository.deleteById(genreId);
   }
 
+  @Override
+  public void deleteAllById(final Set<String> genreIds) {
+    if (genreIds == null || genreIds.isEmpty()) {
+      return;
+    }
+    this.genreRepository.deleteAllById(genreIds);
+  }
+
   @Override
   public Optional<Genre> findById(final String genreId) {
     return this.genreRepository.findById(genreId)
@@ -71,7 +94,8 @@ public class GenreElasticsearchGateway implements GenreGateway {
 
     final Query query = StringUtils.isEmpty(terms) && isEmpty(aQuery.categories())
         ? Query.findAll().setPageable(pageRequest)
-        : new CriteriaQuery(createCriteria(aQuery), pageRequest);
+        : createQuery(aQuery, pageRequest);
+    query.setTrackTotalHitsUpTo(this.trackTotalHitsUpTo);
 
     final var res = this.searchOperations.search(query, GenreDocument.class);
     final var total = res.getTotalHits();
@@ -83,6 +107,16 @@ public class GenreElasticsearchGateway implements GenreGateway {
     return new Pagination<>(currentPage, itemsPerPage, total, genres);
   }
 
+  // scrolls the whole index, meant for the small reference data indices only
+  public List<Genre> findAll() {
+    try (final var hits = this.searchOperations.searchForStream(Query.findAll(), GenreDocument.class)) {
+      return hits.stream()
+          .map(SearchHit::getContent)
+          .map(GenreDocument::toGenre)
+          .toList();
+    }
+  }
+
   @Override
   public List<Genre> findAllById(final Set<String> ids) {
     if (ids == null || ids.isEmpty()) {
@@ -93,19 +127,22 @@ public class GenreElasticsearchGateway implements GenreGateway {
         .toList();
   }
 
-  private static Criteria createCriteria(final GenreSearchQuery aQuery) {
-    Criteria criteria = null;
+  private static Query createQuery(final GenreSearchQuery aQuery, final PageRequest pageRequest) {
+    final var bool = new BoolQuery.Builder();
 
     if (isNotEmpty(aQuery.terms())) {
-      criteria = where("name").contains(aQuery.terms());
+      bool.must(searchAsYouType(aQuery.terms(), "name"));
     }
 
     if (!isEmpty(aQuery.categories())) {
-      final var categoriesWhere = where("categories").in(aQuery.categories());
-      criteria = criteria != null ? criteria.and(categoriesWhere) : categoriesWhere;
+      final var categories = aQuery.categories().stream().map(FieldValue::of).toList();
+      bool.must(QueryBuilders.terms(t -> t.field("categories").terms(it -> it.value(categories))));
     }
 
-    return criteria;
+    return NativeQuery.builder()
+        .withQuery(bool.build()._toQuery())
+        .withPageable(pageRequest)
+        .build();
   }
 
   private String buildSort(final String sort) {
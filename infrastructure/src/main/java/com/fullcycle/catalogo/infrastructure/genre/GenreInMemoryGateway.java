@@ -1,15 +1,18 @@
 package com.fullcycle.catalogo.infrastructure.genre;
 
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+
 import com.fullcycle.catalogo.domain.genre.Genre;
 import com.fullcycle.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.catalogo.domain.genre.GenreSearchQuery;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.utils.InMemorySearchIndex;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
@@ -17,26 +20,45 @@ import org.springframework.stereotype.Component;
 @Profile("development")
 public class GenreInMemoryGateway implements GenreGateway {
 
-  private final Map<String, Genre> db;
+  private static final String CATEGORIES = "categories";
+
+  private final InMemorySearchIndex<Genre> db;
 
   public GenreInMemoryGateway() {
-    this.db = new ConcurrentHashMap<>();
+    this.db = InMemorySearchIndex.builder(Genre::id)
+        .text(Genre::name)
+        .keyword(CATEGORIES, Genre::categories)
+        .sort("name", comparing(Genre::name))
+        .sort("created_at", comparing(Genre::createdAt, nullsLast(naturalOrder())))
+        .sort("updated_at", comparing(Genre::updatedAt, nullsLast(naturalOrder())))
+        .build();
   }
 
   @Override
   public Genre save(final Genre aGenre) {
-    this.db.put(aGenre.id(), aGenre);
+    this.db.put(aGenre);
     return aGenre;
   }
 
+  @Override
+  public List<Genre> saveAll(final List<Genre> genres) {
+    this.db.putAll(genres);
+    return genres;
+  }
+
   @Override
   public void deleteById(String genreId) {
     this.db.remove(genreId);
   }
 
+  @Override
+  public void deleteAllById(final Set<String> ids) {
+    this.db.removeAll(ids);
+  }
+
   @Override
   public Optional<Genre> findById(String genreId) {
-    return Optional.ofNullable(this.db.get(genreId));
+    return this.db.get(genreId);
   }
 
   @Override
@@ -44,18 +66,15 @@ public class GenreInMemoryGateway implements GenreGateway {
     if (genreId == null || genreId.isEmpty()) {
       return List.of();
     }
-    return genreId.stream()
-        .map(this.db::get)
-        .toList();
+    return this.db.getAll(genreId);
   }
 
   @Override
   public Pagination<Genre> findAll(GenreSearchQuery aQuery) {
-    return new Pagination<>(
-        aQuery.page(),
-        aQuery.perPage(),
-        this.db.values().size(),
-        this.db.values().stream().toList()
-    );
+    return this.db.query()
+        .filter(CATEGORIES, aQuery.categories())
+        .terms(aQuery.terms())
+        .sort(aQuery.sort(), "desc".equalsIgnoreCase(aQuery.direction()))
+        .page(aQuery.page(), aQuery.perPage());
   }
 }
@@ -0,0 +1,105 @@
+package com.fullcycle.catalogo.infrastructure.genre;
+
+import static com.fullcycle.catalogo.infrastructure.utils.InMemoryReplica.matchesAsYouType;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+
+import com.fullcycle.catalogo.domain.genre.Genre;
+import com.fullcycle.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.catalogo.domain.genre.GenreSearchQuery;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.utils.ReplicatedIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves genre reads from a local replica of the genres index, writing through to Elasticsearch.
+ * Until the first load completes, and for sorts it doesn't know, it reads from Elasticsearch.
+ */
+@Primary
+@Component
+@Profile("!development")
+@ConditionalOnProperty(name = "elasticsearch.replica.enabled", havingValue = "true")
+public class GenreReplicaGateway implements GenreGateway {
+
+  private final GenreElasticsearchGateway elasticsearchGateway;
+  private final ReplicatedIndex<Genre> replica;
+
+  public GenreReplicaGateway(final GenreElasticsearchGateway elasticsearchGateway) {
+    this.elasticsearchGateway = Objects.requireNonNull(elasticsearchGateway);
+    this.replica = new ReplicatedIndex<>(
+        "genres",
+        Genre::id,
+        Map.of(
+            "name", comparing(Genre::name, nullsLast(naturalOrder())),
+            "created_at", comparing(Genre::createdAt, nullsLast(naturalOrder())),
+            "updated_at", comparing(Genre::updatedAt, nullsLast(naturalOrder()))
+        ),
+        elasticsearchGateway::findAll
+    );
+  }
+
+  @Scheduled(fixedDelayString = "${elasticsearch.replica.refresh-interval}")
+  public void refresh() {
+    this.replica.refresh();
+  }
+
+  @Override
+  public Genre save(final Genre aGenre) {
+    this.elasticsearchGateway.save(aGenre);
+    this.replica.saved(aGenre);
+    return aGenre;
+  }
+
+  @Override
+  public List<Genre> saveAll(final List<Genre> genres) {
+    this.elasticsearchGateway.saveAll(genres);
+    this.replica.savedAll(genres);
+    return genres;
+  }
+
+  @Override
+  public void deleteById(final String genreId) {
+    this.elasticsearchGateway.deleteById(genreId);
+    this.replica.deleted(genreId);
+  }
+
+  @Override
+  public void deleteAllById(final Set<String> genreIds) {
+    this.elasticsearchGateway.deleteAllById(genreIds);
+    this.replica.deletedAll(genreIds);
+  }
+
+  @Override
+  public Optional<Genre> findById(final String genreId) {
+    return this.replica.findById(genreId, this.elasticsearchGateway::findById);
+  }
+
+  @Override
+  public Pagination<Genre> findAll(final GenreSearchQuery aQuery) {
+    final var categories = aQuery.categories();
+    return this.replica.findAll(
+        aQuery.sort(),
+        aQuery.direction(),
+        aQuery.page(),
+        aQuery.perPage(),
+        it -> matchesAsYouType(aQuery.terms(), it.name())
+            && (categories.isEmpty() || it.categories().stream().anyMatch(categories::contains)),
+        () -> this.elasticsearchGateway.findAll(aQuery)
+    );
+  }
+
+  @Override
+  public List<Genre> findAllById(final Set<String> ids) {
+    return this.replica.findAllById(ids, this.elasticsearchGateway::findAllById);
+  }
+}
@@ -2,12 +2,26 @@ package com.fullcycle.catalogo.infrastructure.genre;
 
 import com.fullcycle.catalogo.infrastructure.authentication.GetClientCredentials;
 import com.fullcycle.catalogo.infrastructure.configuration.annotations.Genres;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.RestClientProperties;
 import com.fullcycle.catalogo.infrastructure.genre.models.GenreDTO;
+import com.fullcycle.catalogo.infrastructure.utils.AdaptiveBulkhead;
+import com.fullcycle.catalogo.infrastructure.utils.CachedBatchLoader;
+import com.fullcycle.catalogo.infrastructure.utils.CachedClient;
+import com.fullcycle.catalogo.infrastructure.utils.Hedged;
 import com.fullcycle.catalogo.infrastructure.utils.HttpClient;
+import com.fullcycle.catalogo.infrastructure.utils.SingleFlight;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
@@ -15,26 +29,68 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 @Component
-@CacheConfig(cacheNames = "admin-genres")
-public class GenreRestClient implements GenreClient, HttpClient {
+@CacheConfig(cacheNames = GenreRestClient.CACHE)
+public class GenreRestClient implements GenreClient, CachedClient<GenreDTO>, HttpClient {
 
   public static final String NAMESPACE = "genres";
+  public static final String CACHE = "admin-genres";
 
   private final RestClient restClient;
+  private final RestClientProperties properties;
   private final GetClientCredentials getClientCredentials;
+  private final CachedBatchLoader batchLoader;
+  private final ObjectProvider<GenreRestClient> self;
 
   public GenreRestClient(@Genres final RestClient restClient,
-      final GetClientCredentials getClientCredentials) {
+      @Genres final RestClientProperties properties,
+      final GetClientCredentials getClientCredentials,
+      final CachedBatchLoader batchLoader,
+      final ObjectProvider<GenreRestClient> self) {
     this.restClient = restClient;
+    this.properties = properties;
     this.getClientCredentials = getClientCredentials;
+    this.batchLoader = batchLoader;
+    this.self = self;
   }
 
   @Override
-  @Cacheable(key = "#genreId")
-  @Bulkhead(name = NAMESPACE)
+  @Cacheable(key = "#genreId", sync = true)
+  @SingleFlight
+  @Hedged
+  @AdaptiveBulkhead
   @CircuitBreaker(name = NAMESPACE)
   @Retry(name = NAMESPACE)
   public Optional<GenreDTO> genreOfId(String genreId) {
+    return load(genreId);
+  }
+
+  @Override
+  public CompletableFuture<Optional<GenreDTO>> genreOfIdAsync(final String genreId) {
+    return this.batchLoader.loadAsync(this, genreId);
+  }
+
+  @Override
+  public Map<String, GenreDTO> genresOfIds(final Set<String> genreIds) {
+    return this.batchLoader.loadAll(this, genreIds);
+  }
+
+  @Override
+  public void reloadGenresOfIds(final Set<String> genreIds) {
+    this.batchLoader.reloadAll(this, genreIds);
+  }
+
+  @Override
+  public void forgetGenreOfId(final String genreId) {
+    this.batchLoader.put(this, genreId, null);
+  }
+
+  @Override
+  @SingleFlight
+  @Hedged
+  @AdaptiveBulkhead
+  @CircuitBreaker(name = NAMESPACE)
+  @Retry(name = NAMESPACE)
+  public Optional<GenreDTO> load(final String genreId) {
     final var token = this.getClientCredentials.retrieve();
     return doGet(genreId, () ->
         this.restClient.get()
@@ -47,8 +103,44 @@ public class GenreRestClient implements GenreClient, HttpClient {
     );
   }
 
+  @Override
+  @Bulkhead(name = NAMESPACE, type = Bulkhead.Type.THREADPOOL)
+  @TimeLimiter(name = NAMESPACE)
+  public CompletableFuture<Optional<GenreDTO>> loadAsync(final String genreId) {
+    return CompletableFuture.completedFuture(this.self.getObject().load(genreId));
+  }
+
+  @Override
+  @AdaptiveBulkhead
+  @CircuitBreaker(name = NAMESPACE)
+  @Retry(name = NAMESPACE)
+  public Optional<Map<String, GenreDTO>> loadAll(final Set<String> genreIds) {
+    if (this.properties.bulkPath() == null) {
+      return Optional.empty();
+    }
+
+    final var token = this.getClientCredentials.retrieve();
+    final var ids = String.join(",", genreIds);
+    final var genres = doGet(ids, () ->
+        this.restClient.get()
+            .uri(uri -> uri.path(this.properties.bulkPath()).queryParam("ids", ids).build())
+            .header(HttpHeaders.AUTHORIZATION, "bearer " + token)
+            .retrieve()
+            .onStatus(is5xx, a5xxHandler(ids))
+            .body(GenreDTO[].class)
+    ).orElseGet(() -> new GenreDTO[0]);
+
+    return Optional.of(Arrays.stream(genres)
+        .collect(Collectors.toMap(GenreDTO::id, Function.identity())));
+  }
+
   @Override
   public String namespace() {
     return NAMESPACE;
   }
+
+  @Override
+  public String cacheName() {
+    return CACHE;
+  }
 }
@@ -26,4 +26,8 @@ public record GenreDTO(
         genre.deletedAt()
     );
   }
+
+  public Genre toGenre() {
+    return Genre.with(id(), name(), isActive(), categoriesId(), createdAt(), updatedAt(), deletedAt());
+  }
 }
@@ -1,8 +1,46 @@
 package com.fullcycle.catalogo.infrastructure.genre.models;
 
+import static com.fullcycle.catalogo.domain.utils.InstantUtils.fromTimestamp;
+import static com.fullcycle.catalogo.domain.utils.InstantUtils.toTimestamp;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.catalogo.domain.genre.Genre;
+import java.util.Set;
 
 public record GenreEvent(
-    @JsonProperty("id") String id
+    @JsonProperty("id") String id,
+    @JsonProperty("name") String name,
+    @JsonProperty("active") Boolean active,
+    @JsonProperty("created_at") Long createdAt,
+    @JsonProperty("updated_at") Long updatedAt,
+    @JsonProperty("deleted_at") Long deletedAt
 ) {
+
+  public GenreEvent(final String id) {
+    this(id, null, null, null, null, null);
+  }
+
+  public static GenreEvent from(final Genre aGenre) {
+    return new GenreEvent(
+        aGenre.id(),
+        aGenre.name(),
+        aGenre.active(),
+        toTimestamp(aGenre.createdAt()),
+        toTimestamp(aGenre.updatedAt()),
+        toTimestamp(aGenre.deletedAt())
+    );
+  }
+
+  @JsonIgnore
+  public boolean isComplete() {
+    return id != null && name != null && active != null && createdAt != null && updatedAt != null;
+  }
+
+  /**
+   * Categories live in the genres_categories join table, so they are never part of the row.
+   */
+  public Genre toGenre(final Set<String> categories) {
+    return Genre.with(id, name, active, categories, fromTimestamp(createdAt), fromTimestamp(updatedAt), fromTimestamp(deletedAt));
+  }
 }
@@ -16,21 +16,30 @@ import com.fullcycle.catalogo.infrastructure.category.models.GqlCategory;
 import com.fullcycle.catalogo.infrastructure.genre.GqlGenrePresenter;
 import com.fullcycle.catalogo.infrastructure.genre.models.GqlGenre;
 import com.fullcycle.catalogo.infrastructure.video.GqlVideoPresenter;
+import com.fullcycle.catalogo.infrastructure.video.VideoCursors;
 import com.fullcycle.catalogo.infrastructure.video.models.GqlVideo;
 import com.fullcycle.catalogo.infrastructure.video.models.GqlVideoInput;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
-import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 
 @Controller
 public class VideoGraphQLController {
 
+  private static final String ID_SUFFIX = "Id";
+
   private final ListVideoUseCase listVideoUseCase;
   private final GetAllCastMembersByIdUseCase getAllCastMembersByIdUseCase;
   private final GetAllCategoriesByIdUseCase getAllCategoriesByIdUseCase;
@@ -63,40 +72,54 @@ public class VideoGraphQLController {
       @Argument final Integer yearLaunched,
       @Argument final Set<String> castMembers,
       @Argument final Set<String> categories,
-      @Argument final Set<String> genres
+      @Argument final Set<String> genres,
+      @Argument final String after,
+      @Argument final Integer first,
+      final DataFetchingFieldSelectionSet selectionSet
   ) {
-    final var input = new ListVideoUseCase.Input(page, perPage, search, sort, direction, rating,
-        yearLaunched, categories, castMembers, genres);
-    return this.listVideoUseCase.execute(input)
-        .map(GqlVideoPresenter::present)
-        .data();
+    final var input = new ListVideoUseCase.Input(page, first != null ? first : perPage, search,
+        sort, direction, rating, yearLaunched, categories, castMembers, genres, after,
+        selectedFields(selectionSet));
+
+    return this.listVideoUseCase.execute(input).data().stream()
+        .map(it -> GqlVideoPresenter.present(it, VideoCursors.of(it, sort)))
+        .toList();
   }
 
-  @SchemaMapping(typeName = "Video", field = "castMembers")
+  @BatchMapping(typeName = "Video", field = "castMembers")
   @Secured({ROLE_ADMIN, ROLE_SUBSCRIBER, ROLE_VIDEOS})
-  public List<GqlCastMember> castMembers(final GqlVideo video) {
-    return this.getAllCastMembersByIdUseCase.execute(
-            new GetAllCastMembersByIdUseCase.Input(video.castMembersId())).stream()
+  public Map<GqlVideo, List<GqlCastMember>> castMembers(final List<GqlVideo> videos) {
+    final var ids = collectIds(videos, GqlVideo::castMembersId);
+    final var castMembers = this.getAllCastMembersByIdUseCase.execute(
+            new GetAllCastMembersByIdUseCase.Input(ids)).stream()
         .map(GqlCastMemberPresenter::present)
-        .toList();
+        .collect(Collectors.toMap(GqlCastMember::id, Function.identity(), (a, b) -> a));
+
+    return fanOut(videos, GqlVideo::castMembersId, castMembers);
   }
 
-  @SchemaMapping(typeName = "Video", field = "categories")
+  @BatchMapping(typeName = "Video", field = "categories")
   @Secured({ROLE_ADMIN, ROLE_SUBSCRIBER, ROLE_VIDEOS})
-  public List<GqlCategory> categories(final GqlVideo video) {
-    return this.getAllCategoriesByIdUseCase.execute(
-            new GetAllCategoriesByIdUseCase.Input(video.categoriesId())).stream()
+  public Map<GqlVideo, List<GqlCategory>> categories(final List<GqlVideo> videos) {
+    final var ids = collectIds(videos, GqlVideo::categoriesId);
+    final var categories = this.getAllCategoriesByIdUseCase.execute(
+            new GetAllCategoriesByIdUseCase.Input(ids)).stream()
         .map(GqlCategoryPresenter::present)
-        .toList();
+        .collect(Collectors.toMap(GqlCategory::id, Function.identity(), (a, b) -> a));
+
+    return fanOut(videos, GqlVideo::categoriesId, categories);
   }
 
-  @SchemaMapping(typeName = "Video", field = "genres")
+  @BatchMapping(typeName = "Video", field = "genres")
   @Secured({ROLE_ADMIN, ROLE_SUBSCRIBER, ROLE_VIDEOS})
-  public List<GqlGenre> genres(final GqlVideo video) {
-    return this.getAllGenresByIdUseCase.execute(new GetAllGenresByIdUseCase.Input(video.genresId()))
-        .stream()
+  public Map<GqlVideo, List<GqlGenre>> genres(final List<GqlVideo> videos) {
+    final var ids = collectIds(videos, GqlVideo::genresId);
+    final var genres = this.getAllGenresByIdUseCase.execute(
+            new GetAllGenresByIdUseCase.Input(ids)).stream()
         .map(GqlGenrePresenter::present)
-        .toList();
+        .collect(Collectors.toMap(GqlGenre::id, Function.identity(), (a, b) -> a));
+
+    return fanOut(videos, GqlVideo::genresId, genres);
   }
 
   @MutationMapping
@@ -111,4 +134,40 @@ public class VideoGraphQLController {
 
     return this.saveVideoUseCase.execute(input);
   }
+
+  // castMembersId and castMembers both read the castMembers of the video, and so on
+  private static Set<String> selectedFields(final DataFetchingFieldSelectionSet selectionSet) {
+    return selectionSet.getImmediateFields().stream()
+        .map(SelectedField::getName)
+        .map(it -> it.endsWith(ID_SUFFIX) ? it.substring(0, it.length() - ID_SUFFIX.length()) : it)
+        .collect(Collectors.toSet());
+  }
+
+  private static Set<String> collectIds(
+      final List<GqlVideo> videos,
+      final Function<GqlVideo, Set<String>> idsOf
+  ) {
+    return videos.stream()
+        .map(idsOf)
+        .filter(Objects::nonNull)
+        .flatMap(Set::stream)
+        .collect(Collectors.toSet());
+  }
+
+  private static <T> Map<GqlVideo, List<T>> fanOut(
+      final List<GqlVideo> videos,
+      final Function<GqlVideo, Set<String>> idsOf,
+      final Map<String, T> loaded
+  ) {
+    final var result = new LinkedHashMap<GqlVideo, List<T>>(videos.size());
+    for (final var video : videos) {
+      final var ids = idsOf.apply(video);
+      final List<T> values = ids == null ? List.of() : ids.stream()
+          .map(loaded::get)
+          .filter(Objects::nonNull)
+          .toList();
+      result.put(video, values);
+    }
+    return result;
+  }
 }
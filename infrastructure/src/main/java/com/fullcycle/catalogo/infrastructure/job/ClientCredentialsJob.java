@@ -1,14 +1,14 @@
 package com.fullcycle.catalogo.infrastructure.job;
 
 import com.fullcycle.catalogo.infrastructure.authentication.RefreshClientCredentials;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
 @Component
-public class ClientCredentialsJob {
+public class ClientCredentialsJob implements SchedulingConfigurer {
 
   private final RefreshClientCredentials refreshClientCredentials;
 
@@ -16,7 +16,13 @@ public class ClientCredentialsJob {
     this.refreshClientCredentials = Objects.requireNonNull(refreshClientCredentials);
   }
 
-  @Scheduled(timeUnit = TimeUnit.MINUTES, fixedRate = 3, initialDelay = 3)
+  // each run is scheduled from the expiry of the token the previous one got
+  @Override
+  public void configureTasks(final ScheduledTaskRegistrar registrar) {
+    registrar.addTriggerTask(this::refreshClientCredentials,
+        context -> this.refreshClientCredentials.nextRefreshAt());
+  }
+
   public void refreshClientCredentials() {
     this.refreshClientCredentials.refresh();
   }
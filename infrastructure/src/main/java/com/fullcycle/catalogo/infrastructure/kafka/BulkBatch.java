@@ -0,0 +1,152 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.BulkFailureException;
+
+/**
+ * Coalesces the records of a polled batch by entity id, keeping only the last operation of each
+ * id, and applies them as one bulk save and one bulk delete. Saves are loaded lazily, so an id
+ * that changed many times inside the batch is fetched and indexed only once, and the loads of
+ * different ids run in parallel on the {@link KeyOrderedExecutor}.
+ */
+public class BulkBatch<T> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BulkBatch.class);
+
+  private final RetryTopicForwarder retryTopicForwarder;
+  private final KeyOrderedExecutor executor;
+  private final String listenerId;
+  private final Consumer<List<T>> saveAll;
+  private final Consumer<Set<String>> deleteAll;
+
+  private final Map<String, Operation<T>> operations = new LinkedHashMap<>();
+  private final Map<ConsumerRecord<String, byte[]>, Exception> failures = new LinkedHashMap<>();
+  private int received;
+
+  public BulkBatch(
+      final RetryTopicForwarder retryTopicForwarder,
+      final KeyOrderedExecutor executor,
+      final String listenerId,
+      final Consumer<List<T>> saveAll,
+      final Consumer<Set<String>> deleteAll
+  ) {
+    this.retryTopicForwarder = Objects.requireNonNull(retryTopicForwarder);
+    this.executor = Objects.requireNonNull(executor);
+    this.listenerId = Objects.requireNonNull(listenerId);
+    this.saveAll = Objects.requireNonNull(saveAll);
+    this.deleteAll = Objects.requireNonNull(deleteAll);
+  }
+
+  public void save(
+      final ConsumerRecord<String, byte[]> record,
+      final String id,
+      final Supplier<Optional<T>> loader
+  ) {
+    this.received++;
+    this.operations.put(id, new Operation<>(record, Objects.requireNonNull(loader)));
+  }
+
+  public void delete(final ConsumerRecord<String, byte[]> record, final String id) {
+    this.received++;
+    this.operations.put(id, new Operation<>(record, null));
+  }
+
+  public void fail(final ConsumerRecord<String, byte[]> record, final Exception cause) {
+    this.failures.put(record, cause);
+  }
+
+  public void complete() {
+    LOG.info("Batch coalesced [records:{}] [ids:{}]", this.received, this.operations.size());
+
+    final var loaded = new ConcurrentHashMap<String, T>();
+    final var loadFailures = new ConcurrentHashMap<String, Exception>();
+    final var loads = this.operations.entrySet().stream()
+        .filter(it -> !it.getValue().isDelete())
+        .toList();
+
+    this.executor.execute(loads, Entry::getKey, it -> {
+      try {
+        it.getValue().loader().get().ifPresentOrElse(
+            entity -> loaded.put(it.getKey(), entity),
+            () -> LOG.warn("Entity was not found {}", it.getKey()));
+      } catch (final Exception e) {
+        loadFailures.put(it.getKey(), e);
+      }
+    });
+
+    final var saves = new ArrayList<T>();
+    final var saveRecords = new LinkedHashMap<String, ConsumerRecord<String, byte[]>>();
+    final var deleteRecords = new LinkedHashMap<String, ConsumerRecord<String, byte[]>>();
+
+    this.operations.forEach((id, op) -> {
+      if (op.isDelete()) {
+        deleteRecords.put(id, op.record());
+      } else if (loaded.containsKey(id)) {
+        saves.add(loaded.get(id));
+        saveRecords.put(id, op.record());
+      } else if (loadFailures.containsKey(id)) {
+        fail(op.record(), loadFailures.get(id));
+      }
+    });
+
+    if (!deleteRecords.isEmpty()) {
+      try {
+        this.deleteAll.accept(Set.copyOf(deleteRecords.keySet()));
+      } catch (final Exception e) {
+        deleteRecords.values().forEach(record -> fail(record, e));
+      }
+    }
+
+    if (!saves.isEmpty()) {
+      try {
+        this.saveAll.accept(saves);
+      } catch (final BulkFailureException e) {
+        failAll(saveRecords, e.getFailedDocuments().keySet(), e);
+        // the entities rejected before the write are reported alongside it
+        Arrays.stream(e.getSuppressed())
+            .filter(BulkNotificationException.class::isInstance)
+            .map(BulkNotificationException.class::cast)
+            .forEach(it -> failAll(saveRecords, it.getInvalidIds(), it));
+      } catch (final BulkNotificationException e) {
+        failAll(saveRecords, e.getInvalidIds(), e);
+      } catch (final Exception e) {
+        saveRecords.values().forEach(record -> fail(record, e));
+      }
+    }
+
+    this.retryTopicForwarder.forward(this.listenerId, this.failures);
+  }
+
+  private void failAll(
+      final Map<String, ConsumerRecord<String, byte[]>> records,
+      final Set<String> ids,
+      final Exception cause
+  ) {
+    ids.stream()
+        .map(records::get)
+        .filter(Objects::nonNull)
+        .forEach(record -> fail(record, cause));
+  }
+
+  private record Operation<T>(ConsumerRecord<String, byte[]> record, Supplier<Optional<T>> loader) {
+
+    boolean isDelete() {
+      return loader == null;
+    }
+  }
+}
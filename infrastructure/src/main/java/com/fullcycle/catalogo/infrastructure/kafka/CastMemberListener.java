@@ -1,14 +1,19 @@
 package com.fullcycle.catalogo.infrastructure.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fullcycle.catalogo.application.castmember.delete.DeleteAllCastMembersUseCase;
 import com.fullcycle.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.catalogo.application.castmember.save.SaveAllCastMembersUseCase;
 import com.fullcycle.catalogo.application.castmember.save.SaveCastMemberUseCase;
+import com.fullcycle.catalogo.domain.castmember.CastMember;
 import com.fullcycle.catalogo.infrastructure.castmember.models.CastMemberEvent;
-import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
-import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValueReader;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
@@ -22,18 +27,33 @@ public class CastMemberListener {
 
   private static final Logger LOG = LoggerFactory.getLogger(CastMemberListener.class);
 
-  public static final TypeReference<MessageValue<CastMemberEvent>> CAST_MEMBER_MESSAGE = new TypeReference<>() {
-  };
+  public static final MessageValueReader<CastMemberEvent> CAST_MEMBER_MESSAGE =
+      MessageValueReader.of(CastMemberEvent.class, CastMemberEvent::new);
 
   private final SaveCastMemberUseCase saveCastMemberUseCase;
   private final DeleteCastMemberUseCase deleteCastMemberUseCase;
+  private final SaveAllCastMembersUseCase saveAllCastMembersUseCase;
+  private final DeleteAllCastMembersUseCase deleteAllCastMembersUseCase;
+  private final RetryTopicForwarder retryTopicForwarder;
+  private final KeyOrderedExecutor keyOrderedExecutor;
+  private final String listenerId;
 
   public CastMemberListener(
       final SaveCastMemberUseCase saveCastMemberUseCase,
-      final DeleteCastMemberUseCase deleteCastMemberUseCase
+      final DeleteCastMemberUseCase deleteCastMemberUseCase,
+      final SaveAllCastMembersUseCase saveAllCastMembersUseCase,
+      final DeleteAllCastMembersUseCase deleteAllCastMembersUseCase,
+      final RetryTopicForwarder retryTopicForwarder,
+      final KeyOrderedExecutor keyOrderedExecutor,
+      @Value("${kafka.consumers.cast-members.id}") final String listenerId
   ) {
     this.saveCastMemberUseCase = Objects.requireNonNull(saveCastMemberUseCase);
     this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
+    this.saveAllCastMembersUseCase = Objects.requireNonNull(saveAllCastMembersUseCase);
+    this.deleteAllCastMembersUseCase = Objects.requireNonNull(deleteAllCastMembersUseCase);
+    this.retryTopicForwarder = Objects.requireNonNull(retryTopicForwarder);
+    this.keyOrderedExecutor = Objects.requireNonNull(keyOrderedExecutor);
+    this.listenerId = Objects.requireNonNull(listenerId);
   }
 
   @KafkaListener(
@@ -50,14 +70,14 @@ public class CastMemberListener {
       attempts = "${kafka.consumers.cast-members.max-attempts}",
       topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
   )
-  public void onMessage(@Payload(required = false) final String payload, final ConsumerRecordMetadata metadata) {
+  public void onMessage(@Payload(required = false) final byte[] payload, final ConsumerRecordMetadata metadata) {
     if (payload == null) {
       LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", metadata.topic(), metadata.partition(), metadata.offset());
       return;
     }
     LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: {}",
-        metadata.topic(), metadata.partition(), metadata.offset(), payload);
-    final var messagePayload = Json.readValue(payload, CAST_MEMBER_MESSAGE).payload();
+        metadata.topic(), metadata.partition(), metadata.offset(), Payloads.text(payload));
+    final var messagePayload = CAST_MEMBER_MESSAGE.read(payload).payload();
     final var op = messagePayload.operation();
 
     if (op.isDelete()) {
@@ -67,9 +87,46 @@ public class CastMemberListener {
     }
   }
 
+  @KafkaListener(
+      autoStartup = "${kafka.batch-listener}",
+      concurrency = "${kafka.consumers.cast-members.concurrency}",
+      containerFactory = "kafkaBatchListenerFactory",
+      topics = "${kafka.consumers.cast-members.topics}",
+      groupId = "${kafka.consumers.cast-members.group-id}",
+      id = "${kafka.consumers.cast-members.id}-batch",
+      properties = {
+          "auto.offset.reset=${kafka.consumers.cast-members.auto-offset-reset}"
+      }
+  )
+  public void onMessages(final List<ConsumerRecord<String, byte[]>> records) {
+    LOG.info("Batch received from Kafka [size:{}]", records.size());
+    final var batch = new BulkBatch<CastMember>(this.retryTopicForwarder, this.keyOrderedExecutor,
+        this.listenerId, this.saveAllCastMembersUseCase::execute, this.deleteAllCastMembersUseCase::execute);
+
+    for (final var record : records) {
+      if (record.value() == null) {
+        continue;
+      }
+      try {
+        final var messagePayload = CAST_MEMBER_MESSAGE.read(record.value()).payload();
+
+        if (messagePayload.operation().isDelete()) {
+          batch.delete(record, messagePayload.before().id());
+        } else {
+          final var castMember = messagePayload.after().toCastMember();
+          batch.save(record, castMember.id(), () -> Optional.of(castMember));
+        }
+      } catch (final Exception e) {
+        batch.fail(record, e);
+      }
+    }
+
+    batch.complete();
+  }
+
   @DltHandler
-  public void onDLTMessage(@Payload final String payload, final ConsumerRecordMetadata metadata) {
+  public void onDLTMessage(@Payload final byte[] payload, final ConsumerRecordMetadata metadata) {
     LOG.warn("Message received from Kafka at DLT [topic:{}] [partition:{}] [offset:{}]: {}",
-        metadata.topic(), metadata.partition(), metadata.offset(), payload);
+        metadata.topic(), metadata.partition(), metadata.offset(), Payloads.text(payload));
   }
 }
@@ -1,15 +1,18 @@
 package com.fullcycle.catalogo.infrastructure.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fullcycle.catalogo.application.category.delete.DeleteAllCategoriesUseCase;
 import com.fullcycle.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.catalogo.application.category.save.SaveAllCategoriesUseCase;
 import com.fullcycle.catalogo.application.category.save.SaveCategoryUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.infrastructure.category.CategoryClient;
 import com.fullcycle.catalogo.infrastructure.category.models.CategoryEvent;
-import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
-import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValueReader;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
@@ -19,26 +22,45 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Component
 public class CategoryListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(CategoryListener.class);
-    public static final TypeReference<MessageValue<CategoryEvent>> CATEGORY_MESSAGE = new TypeReference<>() {
-    };
+    public static final MessageValueReader<CategoryEvent> CATEGORY_MESSAGE =
+            MessageValueReader.of(CategoryEvent.class, CategoryEvent::new);
 
     private final CategoryClient categoryClient;
     private final SaveCategoryUseCase saveCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final SaveAllCategoriesUseCase saveAllCategoriesUseCase;
+    private final DeleteAllCategoriesUseCase deleteAllCategoriesUseCase;
+    private final RetryTopicForwarder retryTopicForwarder;
+    private final KeyOrderedExecutor keyOrderedExecutor;
+    private final String listenerId;
 
     public CategoryListener(
             final CategoryClient categoryClient,
             final SaveCategoryUseCase saveCategoryUseCase,
-            final DeleteCategoryUseCase deleteCategoryUseCase) {
+            final DeleteCategoryUseCase deleteCategoryUseCase,
+            final SaveAllCategoriesUseCase saveAllCategoriesUseCase,
+            final DeleteAllCategoriesUseCase deleteAllCategoriesUseCase,
+            final RetryTopicForwarder retryTopicForwarder,
+            final KeyOrderedExecutor keyOrderedExecutor,
+            @Value("${kafka.consumers.categories.id}") final String listenerId) {
         this.categoryClient = Objects.requireNonNull(categoryClient);
         this.saveCategoryUseCase = Objects.requireNonNull(saveCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.saveAllCategoriesUseCase = Objects.requireNonNull(saveAllCategoriesUseCase);
+        this.deleteAllCategoriesUseCase = Objects.requireNonNull(deleteAllCategoriesUseCase);
+        this.retryTopicForwarder = Objects.requireNonNull(retryTopicForwarder);
+        this.keyOrderedExecutor = Objects.requireNonNull(keyOrderedExecutor);
+        this.listenerId = Objects.requireNonNull(listenerId);
     }
 
 
@@ -57,36 +79,99 @@ public class CategoryListener {
             attempts = "${kafka.consumers.categories.max-attempts}",
             topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
     )
-    public void onMessage(@Payload(required = false) final String payload, final ConsumerRecordMetadata metadata) {
+    public void onMessage(@Payload(required = false) final byte[] payload, final ConsumerRecordMetadata metadata) {
         if (payload == null) {
             LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", metadata.topic(), metadata.partition(), metadata.offset());
             return;
         }
-        LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), payload);
-        final var messagePayload = Json.readValue(payload, CATEGORY_MESSAGE).payload();
+        LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), Payloads.text(payload));
+        final var messagePayload = CATEGORY_MESSAGE.read(payload).payload();
         final var op = messagePayload.operation();
         if (Operation.isDelete(op)) {
+            this.categoryClient.forgetCategoryOfId(messagePayload.before().id());
             this.deleteCategoryUseCase.execute(messagePayload.before().id());
         } else {
-            this.categoryClient.categoryOfId(messagePayload.after().id())
+            categoryOf(messagePayload.after())
                     .ifPresentOrElse(this.saveCategoryUseCase::execute, () -> {
                         LOG.warn("Category was not found {}", messagePayload.after().id());
                     });
         }
     }
 
+    @KafkaListener(
+            autoStartup = "${kafka.batch-listener}",
+            concurrency = "${kafka.consumers.categories.concurrency}",
+            containerFactory = "kafkaBatchListenerFactory",
+            topics = "${kafka.consumers.categories.topics}",
+            groupId = "${kafka.consumers.categories.group-id}",
+            id = "${kafka.consumers.categories.id}-batch",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.categories.auto-offset-reset}"
+            }
+    )
+    public void onMessages(final List<ConsumerRecord<String, byte[]>> records) {
+        LOG.info("Batch received from Kafka [size:{}]", records.size());
+        final var batch = new BulkBatch<Category>(this.retryTopicForwarder, this.keyOrderedExecutor,
+                this.listenerId, this.saveAllCategoriesUseCase::execute, this.deleteAllCategoriesUseCase::execute);
+        final var toReload = new HashSet<String>();
+
+        for (final var record : records) {
+            if (record.value() == null) {
+                continue;
+            }
+            try {
+                final var messagePayload = CATEGORY_MESSAGE.read(record.value()).payload();
+                if (Operation.isDelete(messagePayload.operation())) {
+                    this.categoryClient.forgetCategoryOfId(messagePayload.before().id());
+                    toReload.remove(messagePayload.before().id());
+                    batch.delete(record, messagePayload.before().id());
+                } else {
+                    final var event = messagePayload.after();
+                    if (event.isComplete()) {
+                        final var category = event.toCategory();
+                        this.categoryClient.cacheCategory(category);
+                        toReload.remove(event.id());
+                        batch.save(record, event.id(), () -> Optional.of(category));
+                    } else {
+                        toReload.add(event.id());
+                        batch.save(record, event.id(), () -> this.categoryClient.categoryOfId(event.id()));
+                    }
+                }
+            } catch (final Exception e) {
+                batch.fail(record, e);
+            }
+        }
+
+        // complete row images are cached as they are, the other ids are reloaded in one batch
+        // lookup; ids it could not fetch are evicted and loaded again by their save
+        this.categoryClient.reloadCategoriesOfIds(toReload);
+        batch.complete();
+    }
+
     @DltHandler
-    public void onDLTMessage(@Payload final String payload, final ConsumerRecordMetadata metadata) {
-        LOG.warn("Message received from Kafka at DLT [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), payload);
-        final var messagePayload = Json.readValue(payload, CATEGORY_MESSAGE).payload();
+    public void onDLTMessage(@Payload final byte[] payload, final ConsumerRecordMetadata metadata) {
+        LOG.warn("Message received from Kafka at DLT [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), Payloads.text(payload));
+        final var messagePayload = CATEGORY_MESSAGE.read(payload).payload();
         final var op = messagePayload.operation();
         if (Operation.isDelete(op)) {
+            this.categoryClient.forgetCategoryOfId(messagePayload.before().id());
             this.deleteCategoryUseCase.execute(messagePayload.before().id());
         } else {
-            this.categoryClient.categoryOfId(messagePayload.after().id())
+            categoryOf(messagePayload.after())
                     .ifPresentOrElse(this.saveCategoryUseCase::execute, () -> {
                         LOG.warn("Category was not found {}", messagePayload.after().id());
                     });
         }
     }
+
+    private Optional<Category> categoryOf(final CategoryEvent event) {
+        // a cached copy predates this event; a complete row image replaces it without a lookup
+        if (event.isComplete()) {
+            final var category = event.toCategory();
+            this.categoryClient.cacheCategory(category);
+            return Optional.of(category);
+        }
+        this.categoryClient.reloadCategoriesOfIds(Set.of(event.id()));
+        return this.categoryClient.categoryOfId(event.id());
+    }
 }
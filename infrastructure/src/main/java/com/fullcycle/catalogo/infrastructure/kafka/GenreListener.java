@@ -1,15 +1,18 @@
 package com.fullcycle.catalogo.infrastructure.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fullcycle.catalogo.application.genre.delete.DeleteAllGenresUseCase;
 import com.fullcycle.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.catalogo.application.genre.save.SaveAllGenresUseCase;
 import com.fullcycle.catalogo.application.genre.save.SaveGenreUseCase;
-import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.catalogo.domain.genre.Genre;
 import com.fullcycle.catalogo.infrastructure.genre.GenreClient;
 import com.fullcycle.catalogo.infrastructure.genre.models.GenreEvent;
-import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValueReader;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
@@ -19,27 +22,46 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Component
 public class GenreListener {
 
   private static final Logger LOG = LoggerFactory.getLogger(GenreListener.class);
-  private static final TypeReference<MessageValue<GenreEvent>> GENRE_MESSAGE_TYPE = new TypeReference<>() {
-  };
+  private static final MessageValueReader<GenreEvent> GENRE_MESSAGE_TYPE =
+      MessageValueReader.of(GenreEvent.class, GenreEvent::new);
 
   private final GenreClient genreClient;
   private final SaveGenreUseCase saveGenreUseCase;
   private final DeleteGenreUseCase deleteGenreUseCase;
+  private final SaveAllGenresUseCase saveAllGenresUseCase;
+  private final DeleteAllGenresUseCase deleteAllGenresUseCase;
+  private final RetryTopicForwarder retryTopicForwarder;
+  private final KeyOrderedExecutor keyOrderedExecutor;
+  private final String listenerId;
 
   public GenreListener(
       final GenreClient genreClient,
       final SaveGenreUseCase saveGenreUseCase,
-      final DeleteGenreUseCase deleteGenreUseCase
+      final DeleteGenreUseCase deleteGenreUseCase,
+      final SaveAllGenresUseCase saveAllGenresUseCase,
+      final DeleteAllGenresUseCase deleteAllGenresUseCase,
+      final RetryTopicForwarder retryTopicForwarder,
+      final KeyOrderedExecutor keyOrderedExecutor,
+      @Value("${kafka.consumers.genres.id}") final String listenerId
   ) {
     this.genreClient = Objects.requireNonNull(genreClient);
     this.saveGenreUseCase = Objects.requireNonNull(saveGenreUseCase);
     this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
+    this.saveAllGenresUseCase = Objects.requireNonNull(saveAllGenresUseCase);
+    this.deleteAllGenresUseCase = Objects.requireNonNull(deleteAllGenresUseCase);
+    this.retryTopicForwarder = Objects.requireNonNull(retryTopicForwarder);
+    this.keyOrderedExecutor = Objects.requireNonNull(keyOrderedExecutor);
+    this.listenerId = Objects.requireNonNull(listenerId);
   }
 
   @KafkaListener(
@@ -57,28 +79,83 @@ public class GenreListener {
       attempts = "${kafka.consumers.genres.max-attempts}",
       topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
   )
-  public void onMessage(@Payload(required = false) final String payload, final ConsumerRecordMetadata metadata) {
+  public void onMessage(@Payload(required = false) final byte[] payload, final ConsumerRecordMetadata metadata) {
     if (payload == null) {
       LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY", metadata.topic(), metadata.partition(), metadata.offset());
       return;
     }
-    LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), payload);
-    final var messagePayload = Json.readValue(payload, GENRE_MESSAGE_TYPE).payload();
+    LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), Payloads.text(payload));
+    final var messagePayload = GENRE_MESSAGE_TYPE.read(payload).payload();
     final var op = messagePayload.operation();
 
     if (Operation.isDelete(op)) {
+      this.genreClient.forgetGenreOfId(messagePayload.before().id());
       this.deleteGenreUseCase.execute(new DeleteGenreUseCase.Input(messagePayload.before().id()));
     } else {
-      this.genreClient.genreOfId(messagePayload.after().id())
-          .map(it -> new SaveGenreUseCase.Input(it.id(), it.name(), it.isActive(), it.categoriesId(), it.createdAt(), it.updatedAt(), it.deletedAt()))
+      genreOf(messagePayload.after())
+          .map(it -> new SaveGenreUseCase.Input(it.id(), it.name(), it.active(), it.categories(), it.createdAt(), it.updatedAt(), it.deletedAt()))
           .ifPresentOrElse(this.saveGenreUseCase::execute, () -> {
             LOG.warn("Genre was not found {}", messagePayload.after().id());
           });
     }
   }
 
+  @KafkaListener(
+      autoStartup = "${kafka.batch-listener}",
+      concurrency = "${kafka.consumers.genres.concurrency}",
+      containerFactory = "kafkaBatchListenerFactory",
+      topics = "${kafka.consumers.genres.topics}",
+      groupId = "${kafka.consumers.genres.group-id}",
+      id = "${kafka.consumers.genres.id}-batch",
+      properties = {
+          "auto.offset.reset=${kafka.consumers.genres.auto-offset-reset}"
+      }
+  )
+  public void onMessages(final List<ConsumerRecord<String, byte[]>> records) {
+    LOG.info("Batch received from Kafka [size:{}]", records.size());
+    final var batch = new BulkBatch<Genre>(this.retryTopicForwarder, this.keyOrderedExecutor,
+        this.listenerId, this.saveAllGenresUseCase::execute, this.deleteAllGenresUseCase::execute);
+    final var toReload = new HashSet<String>();
+
+    for (final var record : records) {
+      if (record.value() == null) {
+        continue;
+      }
+      try {
+        final var messagePayload = GENRE_MESSAGE_TYPE.read(record.value()).payload();
+
+        if (Operation.isDelete(messagePayload.operation())) {
+          this.genreClient.forgetGenreOfId(messagePayload.before().id());
+          toReload.remove(messagePayload.before().id());
+          batch.delete(record, messagePayload.before().id());
+        } else {
+          final var event = messagePayload.after();
+          toReload.add(event.id());
+          batch.save(record, event.id(), () -> cachedGenreOf(event));
+        }
+      } catch (final Exception e) {
+        batch.fail(record, e);
+      }
+    }
+
+    // replaces the cached copies in one batch lookup; ids it could not fetch are evicted and loaded
+    // again by their save
+    this.genreClient.reloadGenresOfIds(toReload);
+    batch.complete();
+  }
+
+  private Optional<Genre> genreOf(final GenreEvent event) {
+    this.genreClient.reloadGenresOfIds(Set.of(event.id()));
+    return cachedGenreOf(event);
+  }
+
+  private Optional<Genre> cachedGenreOf(final GenreEvent event) {
+    return this.genreClient.genreOfId(event.id())
+        .map(it -> event.isComplete() ? event.toGenre(it.categoriesId()) : it.toGenre());
+  }
+
   @DltHandler
-  public void onDLTMessage(@Payload final String payload, final ConsumerRecordMetadata metadata) {
-    LOG.warn("Message received from Kafka at DLT [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), payload);
+  public void onDLTMessage(@Payload final byte[] payload, final ConsumerRecordMetadata metadata) {
+    LOG.warn("Message received from Kafka at DLT [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), Payloads.text(payload));
   }
 }
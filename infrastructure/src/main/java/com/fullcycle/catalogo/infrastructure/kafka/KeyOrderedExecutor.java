@@ -0,0 +1,52 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Runs the items of a polled batch on a bounded pool: items sharing a key run one after another
+ * in the order they were given, items of different keys run in parallel. {@link #execute} only
+ * returns once every item has been processed, so the container never commits past an unfinished
+ * record.
+ */
+public class KeyOrderedExecutor {
+
+  private final ExecutorService executor;
+
+  public KeyOrderedExecutor(final int threads) {
+    this.executor = Executors.newFixedThreadPool(threads,
+        new CustomizableThreadFactory("kafka-worker-"));
+  }
+
+  public <T> void execute(
+      final Collection<T> items,
+      final Function<T, String> keyOf,
+      final Consumer<T> task
+  ) {
+    final var chains = new LinkedHashMap<String, List<T>>();
+    items.forEach(it -> chains.computeIfAbsent(keyOf.apply(it), k -> new ArrayList<>()).add(it));
+
+    if (chains.size() <= 1) {
+      items.forEach(task);
+      return;
+    }
+
+    final var futures = chains.values().stream()
+        .map(chain -> CompletableFuture.runAsync(() -> chain.forEach(task), this.executor))
+        .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(futures).join();
+  }
+
+  public void shutdown() {
+    this.executor.shutdown();
+  }
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import java.nio.charset.StandardCharsets;
+
+final class Payloads {
+
+  private Payloads() {
+  }
+
+  /**
+   * The payload as a log argument, decoded only when the log line is written.
+   */
+  static Object text(final byte[] payload) {
+    return new Object() {
+      @Override
+      public String toString() {
+        return payload == null ? null : new String(payload, StandardCharsets.UTF_8);
+      }
+    };
+  }
+}
@@ -0,0 +1,85 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.retrytopic.DestinationTopicResolver;
+import org.springframework.kafka.retrytopic.RetryTopicHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes records that failed inside a batch listener to the retry topic the per record
+ * {@code @RetryableTopic} listener would have used, so they follow the same retry/DLT chain.
+ */
+@Component
+public class RetryTopicForwarder {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RetryTopicForwarder.class);
+
+  private final ObjectProvider<DestinationTopicResolver> destinationTopicResolver;
+  private final Clock clock;
+
+  public RetryTopicForwarder(final ObjectProvider<DestinationTopicResolver> destinationTopicResolver) {
+    this.destinationTopicResolver = Objects.requireNonNull(destinationTopicResolver);
+    this.clock = Clock.systemUTC();
+  }
+
+  public void forward(
+      final String listenerId,
+      final Map<ConsumerRecord<String, byte[]>, Exception> failures
+  ) {
+    if (failures.isEmpty()) {
+      return;
+    }
+
+    final var resolver = this.destinationTopicResolver.getObject();
+    final var sends = failures.entrySet().stream()
+        .map(it -> forward(resolver, listenerId, it.getKey(), it.getValue()))
+        .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(sends).join();
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompletableFuture<?> forward(
+      final DestinationTopicResolver resolver,
+      final String listenerId,
+      final ConsumerRecord<String, byte[]> record,
+      final Exception cause
+  ) {
+    final var destination =
+        resolver.resolveDestinationTopic(listenerId, record.topic(), 1, cause, record.timestamp());
+
+    if (destination.isNoOpsTopic()) {
+      LOG.warn("Message dropped after batch failure [topic:{}] [partition:{}] [offset:{}]",
+          record.topic(), record.partition(), record.offset(), cause);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    LOG.warn("Message forwarded after batch failure [topic:{}] [partition:{}] [offset:{}] [to:{}]",
+        record.topic(), record.partition(), record.offset(), destination.getDestinationName(), cause);
+
+    final var backoffTimestamp = this.clock.millis() + destination.getDestinationDelay();
+    final var headers = new RecordHeaders(record.headers().toArray());
+    headers.add(RetryTopicHeaders.DEFAULT_HEADER_ORIGINAL_TIMESTAMP,
+        BigInteger.valueOf(record.timestamp()).toByteArray());
+    headers.add(RetryTopicHeaders.DEFAULT_HEADER_ATTEMPTS,
+        ByteBuffer.allocate(Integer.BYTES).putInt(2).array());
+    headers.add(RetryTopicHeaders.DEFAULT_HEADER_BACKOFF_TIMESTAMP,
+        BigInteger.valueOf(backoffTimestamp).toByteArray());
+
+    final var kafkaOperations = (KafkaOperations<String, byte[]>) destination.getKafkaOperations();
+    return kafkaOperations.send(new ProducerRecord<>(destination.getDestinationName(), null,
+        record.key(), record.value(), headers));
+  }
+}
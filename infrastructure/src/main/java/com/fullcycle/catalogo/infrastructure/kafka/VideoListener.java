@@ -1,19 +1,26 @@
 package com.fullcycle.catalogo.infrastructure.kafka;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fullcycle.catalogo.application.video.delete.DeleteAllVideosUseCase;
 import com.fullcycle.catalogo.application.video.delete.DeleteVideoUseCase;
+import com.fullcycle.catalogo.application.video.save.SaveAllVideosUseCase;
 import com.fullcycle.catalogo.application.video.save.SaveVideoUseCase;
-import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
-import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import com.fullcycle.catalogo.domain.video.Video;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValueReader;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
 import com.fullcycle.catalogo.infrastructure.video.VideoClient;
 import com.fullcycle.catalogo.infrastructure.video.models.ImageResourceDTO;
 import com.fullcycle.catalogo.infrastructure.video.models.VideoDTO;
 import com.fullcycle.catalogo.infrastructure.video.models.VideoEvent;
 import com.fullcycle.catalogo.infrastructure.video.models.VideoResourceDTO;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
@@ -27,21 +34,36 @@ import org.springframework.stereotype.Component;
 public class VideoListener {
 
   private static final Logger LOG = LoggerFactory.getLogger(VideoListener.class);
-  private static final TypeReference<MessageValue<VideoEvent>> VIDEO_MESSAGE_TYPE = new TypeReference<>() {
-  };
+  private static final MessageValueReader<VideoEvent> VIDEO_MESSAGE_TYPE =
+      MessageValueReader.of(VideoEvent.class, VideoEvent::new);
 
   private final VideoClient videoClient;
   private final SaveVideoUseCase saveVideoUseCase;
   private final DeleteVideoUseCase deleteVideoUseCase;
+  private final SaveAllVideosUseCase saveAllVideosUseCase;
+  private final DeleteAllVideosUseCase deleteAllVideosUseCase;
+  private final RetryTopicForwarder retryTopicForwarder;
+  private final KeyOrderedExecutor keyOrderedExecutor;
+  private final String listenerId;
 
   public VideoListener(
       final VideoClient videoClient,
       final SaveVideoUseCase saveVideoUseCase,
-      final DeleteVideoUseCase deleteVideoUseCase
+      final DeleteVideoUseCase deleteVideoUseCase,
+      final SaveAllVideosUseCase saveAllVideosUseCase,
+      final DeleteAllVideosUseCase deleteAllVideosUseCase,
+      final RetryTopicForwarder retryTopicForwarder,
+      final KeyOrderedExecutor keyOrderedExecutor,
+      @Value("${kafka.consumers.videos.id}") final String listenerId
   ) {
     this.videoClient = Objects.requireNonNull(videoClient);
     this.saveVideoUseCase = Objects.requireNonNull(saveVideoUseCase);
     this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
+    this.saveAllVideosUseCase = Objects.requireNonNull(saveAllVideosUseCase);
+    this.deleteAllVideosUseCase = Objects.requireNonNull(deleteAllVideosUseCase);
+    this.retryTopicForwarder = Objects.requireNonNull(retryTopicForwarder);
+    this.keyOrderedExecutor = Objects.requireNonNull(keyOrderedExecutor);
+    this.listenerId = Objects.requireNonNull(listenerId);
   }
 
   @KafkaListener(
@@ -59,7 +81,7 @@ public class VideoListener {
       attempts = "${kafka.consumers.videos.max-attempts}",
       topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
   )
-  public void onMessage(@Payload(required = false) final String payload,
+  public void onMessage(@Payload(required = false) final byte[] payload,
       final ConsumerRecordMetadata metadata) {
     if (payload == null) {
       LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: EMPTY",
@@ -68,14 +90,16 @@ public class VideoListener {
     }
 
     LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: {}",
-        metadata.topic(), metadata.partition(), metadata.offset(), payload);
-    final var messagePayload = Json.readValue(payload, VIDEO_MESSAGE_TYPE).payload();
+        metadata.topic(), metadata.partition(), metadata.offset(), Payloads.text(payload));
+    final var messagePayload = VIDEO_MESSAGE_TYPE.read(payload).payload();
     final var op = messagePayload.operation();
 
     if (Operation.isDelete(op)) {
+      this.videoClient.forgetVideoOfId(messagePayload.before().id());
       this.deleteVideoUseCase.execute(new DeleteVideoUseCase.Input(messagePayload.before().id()));
     } else {
-      this.videoClient.videoOfId(messagePayload.after().id())
+      videoOf(messagePayload.after().id())
+          .map(messagePayload.after()::merge)
           .map(this::toUseCaseInput)
           .ifPresentOrElse(this.saveVideoUseCase::execute, () -> {
             LOG.warn("Genre was not found {}", messagePayload.after().id());
@@ -83,6 +107,57 @@ public class VideoListener {
     }
   }
 
+  @KafkaListener(
+      autoStartup = "${kafka.batch-listener}",
+      concurrency = "${kafka.consumers.videos.concurrency}",
+      containerFactory = "kafkaBatchListenerFactory",
+      topics = "${kafka.consumers.videos.topics}",
+      groupId = "${kafka.consumers.videos.group-id}",
+      id = "${kafka.consumers.videos.id}-batch",
+      properties = {
+          "auto.offset.reset=${kafka.consumers.videos.auto-offset-reset}"
+      }
+  )
+  public void onMessages(final List<ConsumerRecord<String, byte[]>> records) {
+    LOG.info("Batch received from Kafka [size:{}]", records.size());
+    final var batch = new BulkBatch<Video>(this.retryTopicForwarder, this.keyOrderedExecutor,
+        this.listenerId, this.saveAllVideosUseCase::execute, this.deleteAllVideosUseCase::execute);
+    final var toReload = new HashSet<String>();
+
+    for (final var record : records) {
+      if (record.value() == null) {
+        continue;
+      }
+      try {
+        final var messagePayload = VIDEO_MESSAGE_TYPE.read(record.value()).payload();
+
+        if (Operation.isDelete(messagePayload.operation())) {
+          this.videoClient.forgetVideoOfId(messagePayload.before().id());
+          toReload.remove(messagePayload.before().id());
+          batch.delete(record, messagePayload.before().id());
+        } else {
+          final var event = messagePayload.after();
+          toReload.add(event.id());
+          batch.save(record, event.id(), () -> this.videoClient.videoOfId(event.id())
+              .map(event::merge)
+              .map(VideoDTO::toVideo));
+        }
+      } catch (final Exception e) {
+        batch.fail(record, e);
+      }
+    }
+
+    // replaces the cached copies in one batch lookup; ids it could not fetch are evicted and loaded
+    // again by their save
+    this.videoClient.reloadVideosOfIds(toReload);
+    batch.complete();
+  }
+
+  private Optional<VideoDTO> videoOf(final String videoId) {
+    this.videoClient.reloadVideosOfIds(Set.of(videoId));
+    return this.videoClient.videoOfId(videoId);
+  }
+
   private SaveVideoUseCase.Input toUseCaseInput(final VideoDTO dto) {
     return new SaveVideoUseCase.Input(
         dto.id(),
@@ -107,8 +182,8 @@ public class VideoListener {
   }
 
   @DltHandler
-  public void onDLTMessage(@Payload final String payload, final ConsumerRecordMetadata metadata) {
+  public void onDLTMessage(@Payload final byte[] payload, final ConsumerRecordMetadata metadata) {
     LOG.warn("Message received from Kafka at DLT [topic:{}] [partition:{}] [offset:{}]: {}",
-        metadata.topic(), metadata.partition(), metadata.offset(), payload);
+        metadata.topic(), metadata.partition(), metadata.offset(), Payloads.text(payload));
   }
 }
@@ -0,0 +1,103 @@
+package com.fullcycle.catalogo.infrastructure.kafka.models.connect;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+/**
+ * Reads a Debezium envelope into a {@link MessageValue} in one pass over the tokens, binding only
+ * what the listeners use: {@code after} in full, and only the id of {@code before}, which is what
+ * a delete needs. The {@code schema} block, {@code source} and the rows the operation makes
+ * useless are skipped without being bound; {@code source} is always null.
+ */
+public final class MessageValueReader<T> {
+
+  private static final String PAYLOAD = "payload";
+  private static final String BEFORE = "before";
+  private static final String AFTER = "after";
+  private static final String OP = "op";
+  private static final String ID = "id";
+
+  private final Json.Reader<T> rowReader;
+  private final Function<String, T> rowOfId;
+
+  private MessageValueReader(final Json.Reader<T> rowReader, final Function<String, T> rowOfId) {
+    this.rowReader = rowReader;
+    this.rowOfId = rowOfId;
+  }
+
+  public static <T> MessageValueReader<T> of(
+      final Class<T> rowType,
+      final Function<String, T> rowOfId
+  ) {
+    return new MessageValueReader<>(Json.reader(rowType), rowOfId);
+  }
+
+  public MessageValue<T> read(final byte[] value) {
+    try (final var parser = Json.parser(value)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      ValuePayload<T> payload = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final var field = parser.currentName();
+        if (parser.nextToken() == JsonToken.START_OBJECT && PAYLOAD.equals(field)) {
+          payload = readPayload(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return new MessageValue<>(payload);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ValuePayload<T> readPayload(final JsonParser parser) throws IOException {
+    T before = null;
+    T after = null;
+    Operation op = null;
+
+    // Debezium writes op after the rows, a producer writing it first lets more of them be skipped
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final var field = parser.currentName();
+      final var token = parser.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case OP -> op = Operation.of(parser.getValueAsString());
+        case BEFORE -> before = op == null || op.isDelete() ? readId(parser) : skip(parser);
+        case AFTER -> after = op == null || !op.isDelete() ? this.rowReader.read(parser) : skip(parser);
+        default -> parser.skipChildren();
+      }
+    }
+    return new ValuePayload<>(after, before, null, op);
+  }
+
+  private T readId(final JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+    String id = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final var field = parser.currentName();
+      parser.nextToken();
+      if (ID.equals(field)) {
+        id = parser.getValueAsString();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return this.rowOfId.apply(id);
+  }
+
+  private T skip(final JsonParser parser) throws IOException {
+    parser.skipChildren();
+    return null;
+  }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the concurrent calls of an {@link HttpClient} method with the resilience4j bulkhead of
+ * its namespace, like {@code @Bulkhead(name = NAMESPACE)}, but adapting the bulkhead's limit to
+ * the latency and errors of the calls.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdaptiveBulkhead {
+
+}
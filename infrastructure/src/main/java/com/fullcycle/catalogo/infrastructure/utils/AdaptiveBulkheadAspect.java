@@ -0,0 +1,90 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.infrastructure.configuration.properties.ConcurrencyLimitProperties;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Takes the place of the resilience4j bulkhead aspect, innermost, so the latency sampled is the
+ * one of a single request. The bulkhead's configured {@code maxConcurrentCalls} is the initial
+ * limit, and the current one is metered as {@code http.client.concurrency.limit}.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class AdaptiveBulkheadAspect implements MeterBinder {
+
+  private final BulkheadRegistry bulkheadRegistry;
+  private final ConcurrencyLimitProperties properties;
+  private final ConcurrentMap<String, AimdLimiter> limiters;
+  private volatile MeterRegistry registry;
+
+  public AdaptiveBulkheadAspect(
+      final BulkheadRegistry bulkheadRegistry,
+      final ConcurrencyLimitProperties properties
+  ) {
+    this.bulkheadRegistry = Objects.requireNonNull(bulkheadRegistry);
+    this.properties = Objects.requireNonNull(properties);
+    this.limiters = new ConcurrentHashMap<>();
+  }
+
+  @Around("@annotation(com.fullcycle.catalogo.infrastructure.utils.AdaptiveBulkhead) && target(client)")
+  public Object limit(final ProceedingJoinPoint joinPoint, final HttpClient client)
+      throws Throwable {
+    return limiterOf(client.namespace()).execute(joinPoint::proceed);
+  }
+
+  /**
+   * Whether a namespace's limit leaves room for another request, so optional ones such as hedges
+   * don't take the permits of the calls waiting for one.
+   */
+  public boolean hasSpareCapacity(final String namespace) {
+    return limiterOf(namespace).available() > 0;
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    this.registry = registry;
+    this.limiters.forEach((namespace, limiter) -> register(registry, namespace, limiter));
+  }
+
+  private AimdLimiter limiterOf(final String namespace) {
+    return this.limiters.computeIfAbsent(namespace, it -> {
+      final var limiter = new AimdLimiter(
+          this.bulkheadRegistry.bulkhead(it),
+          this.properties.minLimit(),
+          this.properties.maxLimit(),
+          this.properties.backoffRatio(),
+          Duration.ofMillis(this.properties.latencyThreshold()).toNanos()
+      );
+      final var registry = this.registry;
+      if (registry != null) {
+        register(registry, it, limiter);
+      }
+      return limiter;
+    });
+  }
+
+  private static void register(
+      final MeterRegistry registry,
+      final String namespace,
+      final AimdLimiter limiter
+  ) {
+    Gauge.builder("http.client.concurrency.limit", limiter, AimdLimiter::limit)
+        .description("Concurrent requests allowed by the adaptive bulkhead")
+        .tag("namespace", namespace)
+        .register(registry);
+  }
+}
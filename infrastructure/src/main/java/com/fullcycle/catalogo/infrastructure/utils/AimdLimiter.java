@@ -0,0 +1,129 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive increase, multiplicative decrease of a concurrency limit: a call that fails or is slower
+ * than the latency threshold backs the limit off by the backoff ratio, and a call that succeeds
+ * while at least half of the limit was in use raises it by one.
+ * <p>
+ * The bulkhead gives the initial limit, the wait for a permit and the exception of a rejected
+ * call, but the limit is enforced with permits of the limiter's own: resizing the bulkhead blocks
+ * until enough permits come back when it shrinks, while {@link Semaphore#reducePermits} only leaves
+ * the next callers waiting for them. The bulkhead is raised once to {@code maxLimit} and stays a
+ * fixed ceiling, still acquired by each call so its metrics count the calls in flight.
+ */
+public class AimdLimiter {
+
+  private final Bulkhead bulkhead;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyThresholdNanos;
+  private final ResizableSemaphore permits;
+  private double limit;
+
+  public AimdLimiter(
+      final Bulkhead bulkhead,
+      final int minLimit,
+      final int maxLimit,
+      final double backoffRatio,
+      final long latencyThresholdNanos
+  ) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("'minLimit' should be between 1 and 'maxLimit'");
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("'backoffRatio' should be between 0 and 1");
+    }
+    this.bulkhead = Objects.requireNonNull(bulkhead);
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyThresholdNanos = latencyThresholdNanos;
+    this.limit = Math.max(minLimit,
+        Math.min(maxLimit, bulkhead.getBulkheadConfig().getMaxConcurrentCalls()));
+    this.permits = new ResizableSemaphore((int) this.limit);
+
+    final var config = bulkhead.getBulkheadConfig();
+    if (config.getMaxConcurrentCalls() < maxLimit) {
+      bulkhead.changeConfig(BulkheadConfig.from(config).maxConcurrentCalls(maxLimit).build());
+    }
+  }
+
+  public <T> T execute(final CheckedSupplier<T> call) throws Throwable {
+    acquirePermission();
+    final var inFlight = inFlight();
+    final var start = System.nanoTime();
+    var dropped = true;
+    try {
+      final var result = call.get();
+      dropped = System.nanoTime() - start > this.latencyThresholdNanos;
+      return result;
+    } finally {
+      this.bulkhead.onComplete();
+      this.permits.release();
+      onSample(inFlight, dropped);
+    }
+  }
+
+  public synchronized int limit() {
+    return (int) this.limit;
+  }
+
+  synchronized void onSample(final int inFlight, final boolean dropped) {
+    final var previous = (int) this.limit;
+    if (dropped) {
+      this.limit = Math.max(this.minLimit, this.limit * this.backoffRatio);
+    } else if (inFlight * 2 >= this.limit) {
+      this.limit = Math.min(this.maxLimit, this.limit + 1);
+    }
+    final var delta = (int) this.limit - previous;
+    if (delta > 0) {
+      this.permits.release(delta);
+    } else if (delta < 0) {
+      this.permits.reducePermits(-delta);
+    }
+  }
+
+  private void acquirePermission() throws InterruptedException {
+    final var maxWait = this.bulkhead.getBulkheadConfig().getMaxWaitDuration();
+    if (!this.permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+      throw BulkheadFullException.createBulkheadFullException(this.bulkhead);
+    }
+    if (!this.bulkhead.tryAcquirePermission()) {
+      this.permits.release();
+      throw BulkheadFullException.createBulkheadFullException(this.bulkhead);
+    }
+  }
+
+  /**
+   * Permits left under the current limit, negative while calls started under a higher limit are
+   * still in flight.
+   */
+  public int available() {
+    return this.permits.availablePermits();
+  }
+
+  int inFlight() {
+    return limit() - this.permits.availablePermits();
+  }
+
+  private static class ResizableSemaphore extends Semaphore {
+
+    ResizableSemaphore(final int permits) {
+      super(permits, true);
+    }
+
+    @Override
+    protected void reducePermits(final int reduction) {
+      super.reducePermits(reduction);
+    }
+  }
+}
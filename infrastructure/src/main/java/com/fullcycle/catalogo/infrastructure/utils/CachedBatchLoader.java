@@ -0,0 +1,217 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Looks ids up in the cache of a {@link CachedClient} without going through the cache's own
+ * loader, which blocks the caller and fetches one id at a time.
+ *
+ * <p>{@link #loadAll} serves the hits from the cache and fetches the misses through the client's
+ * bulk endpoint when it has one, otherwise one by one with at most
+ * {@code rest-client.batch-parallelism} requests at a time. {@link #loadAsync} fetches a miss
+ * through the client's non-blocking variant, sharing it with the callers asking for the same id
+ * meanwhile. Either way the results are written back to the cache.
+ */
+@Component
+public class CachedBatchLoader implements DisposableBean {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CachedBatchLoader.class);
+
+  private final CacheManager cacheManager;
+  private final ObjectProvider<CachedClient<?>> clients;
+  private final ExecutorService executor;
+  private final ConcurrentMap<String, CompletableFuture<?>> inFlight;
+
+  public CachedBatchLoader(
+      final CacheManager cacheManager,
+      final ObjectProvider<CachedClient<?>> clients,
+      @Value("${rest-client.batch-parallelism:8}") final int parallelism
+  ) {
+    this.cacheManager = Objects.requireNonNull(cacheManager);
+    this.clients = Objects.requireNonNull(clients);
+    this.executor = Executors.newFixedThreadPool(parallelism,
+        new CustomizableThreadFactory("admin-batch-"));
+    this.inFlight = new ConcurrentHashMap<>();
+  }
+
+  public <T> CompletableFuture<Optional<T>> loadAsync(final CachedClient<T> client,
+      final String id) {
+    final var cache = Objects.requireNonNull(this.cacheManager.getCache(client.cacheName()));
+    final var hit = peek(cache, id);
+    if (hit != null) {
+      return CompletableFuture.completedFuture(Optional.ofNullable(cast(hit.get())));
+    }
+
+    final var key = client.cacheName() + ":" + id;
+    final var call = new CompletableFuture<Optional<T>>();
+    final var leader = this.inFlight.putIfAbsent(key, call);
+    if (leader != null) {
+      return cast(leader);
+    }
+
+    try {
+      proxyOf(client).loadAsync(id).whenComplete((resource, error) -> {
+        if (error == null) {
+          cache.put(id, resource.orElse(null));
+        }
+        this.inFlight.remove(key, call);
+        complete(call, resource, error);
+      });
+    } catch (RuntimeException e) {
+      this.inFlight.remove(key, call);
+      call.completeExceptionally(e);
+    }
+    return call;
+  }
+
+  /**
+   * Returns the resources found, keyed by id. When some of the fetches fail, the others are still
+   * cached and the first failure is thrown.
+   */
+  public <T> Map<String, T> loadAll(final CachedClient<T> client, final Set<String> ids) {
+    final var cache = Objects.requireNonNull(this.cacheManager.getCache(client.cacheName()));
+    final var found = new HashMap<String, T>();
+    final var misses = new HashSet<String>();
+
+    for (final var id : ids) {
+      final var hit = peek(cache, id);
+      if (hit == null) {
+        misses.add(id);
+      } else if (hit.get() != null) {
+        found.put(id, cast(hit.get()));
+      }
+    }
+
+    if (misses.isEmpty()) {
+      return found;
+    }
+
+    final var failures = new ConcurrentHashMap<String, RuntimeException>();
+    found.putAll(fetch(client, cache, misses, failures));
+    if (!failures.isEmpty()) {
+      throw failures.values().iterator().next();
+    }
+    return found;
+  }
+
+  /**
+   * Fetches ids that changed and writes them over their cached copies. Unlike an evict, the write
+   * is applied after a load of the same id the cache already had running, so a refresh that read
+   * the id before the change can't put the old copy back. Only the ids that could not be fetched
+   * are evicted, their next read loads them.
+   */
+  public <T> void reloadAll(final CachedClient<T> client, final Set<String> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    final var cache = Objects.requireNonNull(this.cacheManager.getCache(client.cacheName()));
+    final var failures = new ConcurrentHashMap<String, RuntimeException>();
+    fetch(client, cache, ids, failures);
+    if (!failures.isEmpty()) {
+      LOG.warn("Could not reload {} [failed:{}] [size:{}], evicting them", client.cacheName(),
+          failures.size(), ids.size(), failures.values().iterator().next());
+      failures.keySet().forEach(cache::evict);
+    }
+  }
+
+  /**
+   * Writes a copy known to be current over the cached one, null for a deleted id. Like
+   * {@link #reloadAll}, it is applied after a load of the id the cache already had running.
+   */
+  public <T> void put(final CachedClient<T> client, final String id, final T resource) {
+    Objects.requireNonNull(this.cacheManager.getCache(client.cacheName())).put(id, resource);
+  }
+
+  // fetches and caches the ids, leaving the ones that failed in failures
+  private <T> Map<String, T> fetch(final CachedClient<T> client, final Cache cache,
+      final Set<String> ids, final Map<String, RuntimeException> failures) {
+    // the bean calling in is the target, its resilience and single-flight aspects live on the proxy
+    final var source = proxyOf(client);
+    final Optional<Map<String, T>> bulk;
+    try {
+      bulk = source.loadAll(ids);
+    } catch (RuntimeException e) {
+      ids.forEach(id -> failures.put(id, e));
+      return Map.of();
+    }
+    if (bulk.isPresent()) {
+      ids.forEach(id -> cache.put(id, bulk.get().get(id)));
+      return bulk.get();
+    }
+
+    final var loaded = new ConcurrentHashMap<String, T>();
+    final var fetches = new ArrayList<CompletableFuture<Void>>();
+    ids.forEach(id -> fetches.add(CompletableFuture.runAsync(() -> {
+      try {
+        final var resource = source.load(id);
+        cache.put(id, resource.orElse(null));
+        resource.ifPresent(it -> loaded.put(id, it));
+      } catch (RuntimeException e) {
+        failures.put(id, e);
+      }
+    }, this.executor)));
+
+    CompletableFuture.allOf(fetches.toArray(CompletableFuture[]::new)).join();
+    return loaded;
+  }
+
+  private static <T> void complete(final CompletableFuture<T> call, final T result,
+      final Throwable error) {
+    if (error == null) {
+      call.complete(result);
+    } else {
+      call.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    this.executor.shutdownNow();
+  }
+
+  // a plain get would make a loader-backed cache2k cache load every miss one by one
+  @SuppressWarnings("unchecked")
+  private static ValueWrapper peek(final Cache cache, final String id) {
+    if (cache.getNativeCache() instanceof org.cache2k.Cache<?, ?> nativeCache) {
+      final var entry = ((org.cache2k.Cache<Object, Object>) nativeCache).peekEntry(id);
+      return entry == null ? null : entry::getValue;
+    }
+    return cache.get(id);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> CachedClient<T> proxyOf(final CachedClient<T> client) {
+    return (CachedClient<T>) this.clients.orderedStream()
+        .filter(it -> client.cacheName().equals(it.cacheName()))
+        .findFirst()
+        .orElse(client);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T cast(final Object value) {
+    return (T) value;
+  }
+}
@@ -0,0 +1,30 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A client whose lookups are kept in a loader-backed cache. {@link #load} fetches without going
+ * through the cache, so the cache can load and refresh its entries by itself.
+ */
+public interface CachedClient<T> {
+
+  String cacheName();
+
+  Optional<T> load(String id);
+
+  /**
+   * Same as {@link #load}, without blocking the caller.
+   */
+  CompletableFuture<Optional<T>> loadAsync(String id);
+
+  /**
+   * Fetches many ids in one request, keyed by id and leaving out the ones not found; empty when
+   * the client has no bulk endpoint configured.
+   */
+  default Optional<Map<String, T>> loadAll(Set<String> ids) {
+    return Optional.empty();
+  }
+}
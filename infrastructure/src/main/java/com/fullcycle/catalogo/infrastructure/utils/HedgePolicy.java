@@ -0,0 +1,67 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import java.util.Arrays;
+
+/**
+ * When to hedge the calls of a namespace: once the first attempt has taken longer than the given
+ * percentile of the last {@value #WINDOW} successful ones, and only while the budget allows it.
+ * Every call earns {@code budget} of a hedge, up to {@value #MAX_HEDGES} saved, so hedges stay
+ * under that fraction of the calls.
+ */
+public class HedgePolicy {
+
+  static final int WINDOW = 1_000;
+  static final int MIN_SAMPLES = 100;
+  static final int MAX_HEDGES = 10;
+
+  private static final int RECOMPUTE_EVERY = 50;
+
+  private final double percentile;
+  private final double budget;
+  private final long[] latencies;
+  private long samples;
+  private double hedges;
+  private volatile long delayNanos;
+
+  public HedgePolicy(final double percentile, final double budget) {
+    if (percentile <= 0 || percentile >= 1) {
+      throw new IllegalArgumentException("'percentile' should be between 0 and 1");
+    }
+    if (budget < 0 || budget > 1) {
+      throw new IllegalArgumentException("'budget' should be between 0 and 1");
+    }
+    this.percentile = percentile;
+    this.budget = budget;
+    this.latencies = new long[WINDOW];
+    this.delayNanos = -1;
+  }
+
+  /**
+   * How long to wait for the first attempt before hedging, or -1 while there are too few
+   * latencies recorded to tell.
+   */
+  public long delayNanos() {
+    return this.delayNanos;
+  }
+
+  public synchronized void record(final long latencyNanos) {
+    this.latencies[(int) (this.samples++ % WINDOW)] = latencyNanos;
+    if (this.samples >= MIN_SAMPLES && this.samples % RECOMPUTE_EVERY == 0) {
+      final var window = Arrays.copyOf(this.latencies, (int) Math.min(this.samples, WINDOW));
+      Arrays.sort(window);
+      this.delayNanos = window[(int) Math.ceil(this.percentile * window.length) - 1];
+    }
+  }
+
+  public synchronized void onCall() {
+    this.hedges = Math.min(MAX_HEDGES, this.hedges + this.budget);
+  }
+
+  public synchronized boolean tryHedge() {
+    if (this.hedges < 1) {
+      return false;
+    }
+    this.hedges -= 1;
+    return true;
+  }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sends a second call of an {@link HttpClient} method when the first one is slower than usual for
+ * its namespace, and returns whichever succeeds first. Only the namespaces with a hedging spec
+ * under {@code rest-client.hedging} are hedged.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Hedged {
+
+}
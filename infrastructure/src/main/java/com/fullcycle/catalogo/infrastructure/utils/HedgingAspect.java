@@ -0,0 +1,163 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.infrastructure.configuration.properties.HedgingProperties;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs outside resilience4j, so each attempt is retried, counted by the circuit breaker and holds
+ * a bulkhead permit of its own. Once a namespace has enough latencies recorded, its attempts run on
+ * a pool of this aspect and the caller waits for the first one to succeed; the error of the first
+ * attempt is thrown when all of them fail.
+ * <p>
+ * The pool has at most {@code rest-client.hedging.max-threads} threads: when they are all busy a
+ * call runs unhedged on the caller's thread, and a hedge is skipped. A hedge is also skipped when
+ * the {@link AdaptiveBulkhead} limit of its namespace has no permit to spare.
+ */
+@Aspect
+@Component
+@Order(HedgingAspect.ORDER)
+public class HedgingAspect implements DisposableBean {
+
+  public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 5;
+
+  private final HedgingProperties properties;
+  private final AdaptiveBulkheadAspect bulkheads;
+  private final ConcurrentMap<String, Optional<HedgePolicy>> policies;
+  private final ExecutorService executor;
+
+  public HedgingAspect(
+      final HedgingProperties properties,
+      final AdaptiveBulkheadAspect bulkheads
+  ) {
+    this.properties = Objects.requireNonNull(properties);
+    this.bulkheads = Objects.requireNonNull(bulkheads);
+    this.policies = new ConcurrentHashMap<>();
+    final var threadFactory = new CustomizableThreadFactory("admin-hedge-");
+    threadFactory.setDaemon(true);
+    this.executor = new ThreadPoolExecutor(0, properties.maxThreads(), 60, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), threadFactory);
+  }
+
+  @Around("@annotation(com.fullcycle.catalogo.infrastructure.utils.Hedged) && target(client)")
+  public Object hedge(final ProceedingJoinPoint joinPoint, final HttpClient client)
+      throws Throwable {
+    final var policy = policyOf(client.namespace());
+    if (policy.isEmpty()) {
+      return joinPoint.proceed();
+    }
+    return hedge(joinPoint, client.namespace(), policy.get());
+  }
+
+  @Override
+  public void destroy() {
+    this.executor.shutdownNow();
+  }
+
+  private Object hedge(
+      final ProceedingJoinPoint joinPoint,
+      final String namespace,
+      final HedgePolicy policy
+  ) throws Throwable {
+    policy.onCall();
+
+    final var delay = policy.delayNanos();
+    final var call = new Call();
+    if (delay < 0 || !attempt(joinPoint, policy, call, true)) {
+      final var start = System.nanoTime();
+      final var result = joinPoint.proceed();
+      policy.record(System.nanoTime() - start);
+      return result;
+    }
+
+    try {
+      return call.result.get(delay, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      if (!call.result.isDone() && this.bulkheads.hasSpareCapacity(namespace)
+          && policy.tryHedge()) {
+        attempt(joinPoint, policy, call, false);
+      }
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+
+    try {
+      return call.result.get();
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+  }
+
+  private boolean attempt(
+      final ProceedingJoinPoint joinPoint,
+      final HedgePolicy policy,
+      final Call call,
+      final boolean first
+  ) {
+    call.pending.incrementAndGet();
+    try {
+      this.executor.execute(() -> {
+        final var start = System.nanoTime();
+        try {
+          final var result = joinPoint.proceed();
+          if (first) {
+            policy.record(System.nanoTime() - start);
+          }
+          call.result.complete(result);
+        } catch (Throwable t) {
+          call.fail(t, first);
+        }
+      });
+      return true;
+    } catch (RejectedExecutionException e) {
+      if (first) {
+        call.pending.decrementAndGet();
+      } else {
+        // completes the call if the first attempt failed meanwhile
+        call.fail(e, false);
+      }
+      return false;
+    }
+  }
+
+  private Optional<HedgePolicy> policyOf(final String namespace) {
+    return this.policies.computeIfAbsent(namespace, it ->
+        Optional.ofNullable(this.properties.specs().get(it))
+            .map(spec -> new HedgePolicy(spec.percentile(), spec.budget())));
+  }
+
+  private static class Call {
+
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile Throwable firstError;
+
+    void fail(final Throwable error, final boolean first) {
+      if (first) {
+        this.firstError = error;
+      }
+      if (this.pending.decrementAndGet() == 0) {
+        this.result.completeExceptionally(this.firstError != null ? this.firstError : error);
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+
+/**
+ * Meters the HTTP client shared by the rest clients: the requests in flight of each namespace and
+ * the threads of the client's executor. Bound to the application's registry when there is one.
+ */
+public class HttpClientMetrics implements MeterBinder {
+
+  private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+  private final ExecutorService executor;
+  private volatile MeterRegistry registry;
+
+  public HttpClientMetrics(final ExecutorService executor) {
+    this.executor = executor;
+  }
+
+  public ExecutorService executor() {
+    return this.executor;
+  }
+
+  public ClientHttpRequestInterceptor inFlight(final String namespace) {
+    final var requests = this.inFlight.computeIfAbsent(namespace, it -> {
+      final var counter = new AtomicInteger();
+      final var registry = this.registry;
+      if (registry != null) {
+        register(registry, it, counter);
+      }
+      return counter;
+    });
+
+    return (request, body, execution) -> {
+      requests.incrementAndGet();
+      try {
+        return execution.execute(request, body);
+      } finally {
+        requests.decrementAndGet();
+      }
+    };
+  }
+
+  public int inFlightOf(final String namespace) {
+    final var requests = this.inFlight.get(namespace);
+    return requests == null ? 0 : requests.get();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    this.registry = registry;
+    this.inFlight.forEach((namespace, requests) -> register(registry, namespace, requests));
+    new ExecutorServiceMetrics(this.executor, "http-client", List.of()).bindTo(registry);
+  }
+
+  private static void register(
+      final MeterRegistry registry,
+      final String namespace,
+      final AtomicInteger requests
+  ) {
+    Gauge.builder("http.client.requests.in.flight", requests, AtomicInteger::get)
+        .description("Requests awaiting a response")
+        .tag("namespace", namespace)
+        .register(registry);
+  }
+}
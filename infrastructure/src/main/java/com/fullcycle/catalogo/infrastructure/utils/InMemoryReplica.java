@@ -0,0 +1,160 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Local copy of a small index. It is filled by {@link #reload} and kept current by the writes that
+ * go through this instance; a write made while a reload is running wins over the reloaded value.
+ */
+public class InMemoryReplica<T> {
+
+  private final Function<T, String> idOf;
+  private final ReadWriteLock lock;
+
+  private volatile Map<String, T> items;
+  private volatile Set<String> written;
+  private volatile boolean loaded;
+
+  public InMemoryReplica(final Function<T, String> idOf) {
+    this.idOf = Objects.requireNonNull(idOf);
+    this.lock = new ReentrantReadWriteLock();
+    this.items = new ConcurrentHashMap<>();
+  }
+
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  public synchronized void reload(final Supplier<? extends Collection<T>> source) {
+    final var writtenWhileLoading = ConcurrentHashMap.<String>newKeySet();
+    exclusively(() -> this.written = writtenWhileLoading);
+
+    try {
+      final var next = new ConcurrentHashMap<String, T>();
+      source.get().forEach(it -> next.put(idOf.apply(it), it));
+
+      exclusively(() -> {
+        writtenWhileLoading.forEach(id -> {
+          final var current = this.items.get(id);
+          if (current != null) {
+            next.put(id, current);
+          } else {
+            next.remove(id);
+          }
+        });
+        this.items = next;
+        this.loaded = true;
+      });
+    } finally {
+      exclusively(() -> this.written = null);
+    }
+  }
+
+  public void put(final T item) {
+    write(idOf.apply(item), id -> this.items.put(id, item));
+  }
+
+  public void putAll(final Collection<T> items) {
+    items.forEach(this::put);
+  }
+
+  public void remove(final String id) {
+    write(id, this.items::remove);
+  }
+
+  public void removeAll(final Collection<String> ids) {
+    ids.forEach(this::remove);
+  }
+
+  public Optional<T> get(final String id) {
+    return Optional.ofNullable(this.items.get(id));
+  }
+
+  public List<T> getAll(final Collection<String> ids) {
+    final var current = this.items;
+    return ids.stream()
+        .map(current::get)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  public Pagination<T> search(
+      final Predicate<T> filter,
+      final Comparator<T> order,
+      final int page,
+      final int perPage
+  ) {
+    final var matches = this.items.values().stream()
+        .filter(filter)
+        .sorted(order)
+        .toList();
+
+    final var data = matches.stream()
+        .skip((long) page * perPage)
+        .limit(perPage)
+        .toList();
+
+    return new Pagination<>(page, perPage, matches.size(), data);
+  }
+
+  /**
+   * Mirrors {@link SearchQueries#searchAsYouType}: a value matches when it has every term but the
+   * last as a token, and a token starting with the last term.
+   */
+  public static boolean matchesAsYouType(final String terms, final String... values) {
+    final var queryTokens = InMemorySearchIndex.tokens(terms);
+    if (queryTokens.isEmpty()) {
+      return true;
+    }
+
+    final var whole = queryTokens.subList(0, queryTokens.size() - 1);
+    final var prefix = queryTokens.get(queryTokens.size() - 1);
+
+    return Arrays.stream(values)
+        .filter(Objects::nonNull)
+        .map(InMemorySearchIndex::tokens)
+        .anyMatch(tokens -> tokens.containsAll(whole)
+            && tokens.stream().anyMatch(token -> token.startsWith(prefix)));
+  }
+
+  private void write(final String id, final Consumer<String> change) {
+    this.lock.readLock().lock();
+    try {
+      change.accept(id);
+      final var current = this.written;
+      if (current != null) {
+        current.add(id);
+      }
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private void exclusively(final Runnable action) {
+    this.lock.writeLock().lock();
+    try {
+      action.run();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+}
@@ -0,0 +1,379 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process search engine: an inverted index per keyword field, a token index over the text
+ * fields answering the as-you-type semantics of {@link SearchQueries#searchAsYouType} (though the
+ * terms may match across fields, since the fields share the index), and a sorted view per sortable
+ * field, so a page is read by walking the view instead of sorting every match.
+ */
+public class InMemorySearchIndex<T> {
+
+  private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  // below total / ratio matches it is cheaper to sort the matches than to walk the sorted view
+  private static final int SORT_MATCHES_RATIO = 8;
+
+  private final Function<T, String> idOf;
+  private final List<Function<T, String>> textOf;
+  private final Map<String, Function<T, Collection<String>>> keywordsOf;
+  // sortable fields, each order broken by id
+  private final Map<String, Comparator<T>> sorts;
+
+  private final ReadWriteLock lock;
+  private final Map<String, T> items;
+  private final NavigableSet<T> byId;
+  private final NavigableMap<String, Set<String>> tokens;
+  private final Map<String, Map<String, Set<String>>> keywords;
+  private final Map<String, NavigableSet<T>> sorted;
+
+  private InMemorySearchIndex(final Builder<T> builder) {
+    this.idOf = builder.idOf;
+    this.textOf = List.copyOf(builder.textOf);
+    this.keywordsOf = Map.copyOf(builder.keywordsOf);
+    this.sorts = builder.sorts.entrySet().stream()
+        .collect(Collectors.toUnmodifiableMap(Entry::getKey,
+            it -> it.getValue().thenComparing(this.idOf)));
+
+    this.lock = new ReentrantReadWriteLock();
+    this.items = new HashMap<>();
+    this.byId = new TreeSet<>(Comparator.comparing(this.idOf));
+    this.tokens = new TreeMap<>();
+    this.keywords = new HashMap<>();
+    this.sorted = new HashMap<>();
+
+    this.keywordsOf.keySet().forEach(it -> this.keywords.put(it, new HashMap<>()));
+    this.sorts.forEach((name, order) -> this.sorted.put(name, new TreeSet<>(order)));
+  }
+
+  public static <T> Builder<T> builder(final Function<T, String> idOf) {
+    return new Builder<>(idOf);
+  }
+
+  public static List<String> tokens(final String value) {
+    if (value == null) {
+      return List.of();
+    }
+    return TOKEN_SEPARATOR.splitAsStream(value.toLowerCase(Locale.ROOT))
+        .filter(it -> !it.isEmpty())
+        .toList();
+  }
+
+  public int size() {
+    return read(this.items::size);
+  }
+
+  public void put(final T item) {
+    write(() -> {
+      unindex(this.items.get(this.idOf.apply(item)));
+      index(item);
+    });
+  }
+
+  public void putAll(final Collection<T> items) {
+    write(() -> items.forEach(item -> {
+      unindex(this.items.get(this.idOf.apply(item)));
+      index(item);
+    }));
+  }
+
+  public void remove(final String id) {
+    write(() -> unindex(this.items.get(id)));
+  }
+
+  public void removeAll(final Collection<String> ids) {
+    write(() -> ids.forEach(id -> unindex(this.items.get(id))));
+  }
+
+  public Optional<T> get(final String id) {
+    return read(() -> Optional.ofNullable(this.items.get(id)));
+  }
+
+  public List<T> getAll(final Collection<String> ids) {
+    return read(() -> ids.stream()
+        .map(this.items::get)
+        .filter(Objects::nonNull)
+        .toList());
+  }
+
+  public Query query() {
+    return new Query();
+  }
+
+  private void index(final T item) {
+    final var id = this.idOf.apply(item);
+    this.items.put(id, item);
+    this.byId.add(item);
+
+    textTokens(item).forEach(token ->
+        this.tokens.computeIfAbsent(token, k -> new HashSet<>()).add(id));
+
+    this.keywordsOf.forEach((field, valuesOf) -> {
+      final var postings = this.keywords.get(field);
+      values(item, valuesOf).forEach(value ->
+          postings.computeIfAbsent(value, k -> new HashSet<>()).add(id));
+    });
+
+    this.sorted.values().forEach(view -> view.add(item));
+  }
+
+  private void unindex(final T item) {
+    if (item == null) {
+      return;
+    }
+
+    final var id = this.idOf.apply(item);
+    this.items.remove(id);
+    this.byId.remove(item);
+
+    textTokens(item).forEach(token -> removePosting(this.tokens, token, id));
+
+    this.keywordsOf.forEach((field, valuesOf) -> {
+      final var postings = this.keywords.get(field);
+      values(item, valuesOf).forEach(value -> removePosting(postings, value, id));
+    });
+
+    this.sorted.values().forEach(view -> view.remove(item));
+  }
+
+  private Stream<String> textTokens(final T item) {
+    return this.textOf.stream()
+        .map(it -> it.apply(item))
+        .flatMap(it -> tokens(it).stream())
+        .distinct();
+  }
+
+  private static <T> Stream<String> values(
+      final T item,
+      final Function<T, Collection<String>> valuesOf
+  ) {
+    final var values = valuesOf.apply(item);
+    return values == null ? Stream.empty() : values.stream().filter(Objects::nonNull);
+  }
+
+  private static void removePosting(
+      final Map<String, Set<String>> postings,
+      final String key,
+      final String id
+  ) {
+    final var ids = postings.get(key);
+    if (ids != null && ids.remove(id) && ids.isEmpty()) {
+      postings.remove(key);
+    }
+  }
+
+  private <R> R read(final Supplier<R> action) {
+    this.lock.readLock().lock();
+    try {
+      return action.get();
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private void write(final Runnable action) {
+    this.lock.writeLock().lock();
+    try {
+      action.run();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public final class Query {
+
+    private final Map<String, Collection<String>> filters = new LinkedHashMap<>();
+    private String terms;
+    private String sort;
+    private boolean descending;
+    private T after;
+
+    private Query() {
+    }
+
+    public Query terms(final String terms) {
+      this.terms = terms;
+      return this;
+    }
+
+    /**
+     * Keeps the items having at least one of the values in the keyword field, ignored when there
+     * are no values.
+     */
+    public Query filter(final String field, final Collection<String> values) {
+      if (values != null && !values.isEmpty()) {
+        this.filters.put(field, values);
+      }
+      return this;
+    }
+
+    /**
+     * Orders by one of the sortable fields; an unknown field orders by id.
+     */
+    public Query sort(final String field, final boolean descending) {
+      this.sort = field;
+      this.descending = descending;
+      return this;
+    }
+
+    /**
+     * Starts the page right past the item in the (sort, id) order, the page number is kept but no
+     * longer skips, as the {@code search_after} of Elasticsearch.
+     */
+    public Query after(final T item) {
+      this.after = item;
+      return this;
+    }
+
+    public Pagination<T> page(final int page, final int perPage) {
+      return read(() -> {
+        final var matches = matches();
+        final var total = matches == null ? items.size() : matches.size();
+        final var offset = after != null ? 0 : (long) Math.max(page, 0) * perPage;
+
+        final Stream<T> ordered;
+        if (matches != null && (long) matches.size() * SORT_MATCHES_RATIO < items.size()) {
+          final var order = order();
+          ordered = matches.stream().map(items::get)
+              .filter(it -> after == null || order.compare(it, after) > 0)
+              .sorted(order);
+        } else {
+          final var view = view();
+          ordered = (after != null ? view.tailSet(after, false) : view).stream()
+              .filter(it -> matches == null || matches.contains(idOf.apply(it)));
+        }
+
+        final var data = ordered.skip(offset).limit(Math.max(perPage, 0)).toList();
+        return new Pagination<>(page, perPage, total, data);
+      });
+    }
+
+    /**
+     * Every filter, every whole term and the prefix of the last term is a clause matching the
+     * union of its posting lists. The matches start from the most selective clause and are
+     * narrowed by the others, so a broad clause is never copied; a clause matching every item is
+     * skipped. Null means every item matches.
+     */
+    private Set<String> matches() {
+      final var clauses = new ArrayList<List<Set<String>>>();
+
+      for (final var filter : this.filters.entrySet()) {
+        final var postings = keywords.get(filter.getKey());
+        if (postings == null) {
+          throw new IllegalArgumentException("Unknown keyword field " + filter.getKey());
+        }
+        clauses.add(filter.getValue().stream()
+            .map(value -> postings.getOrDefault(value, Set.of()))
+            .toList());
+      }
+
+      final var queryTokens = tokens(this.terms);
+      if (!queryTokens.isEmpty()) {
+        final var prefix = queryTokens.get(queryTokens.size() - 1);
+        clauses.add(new ArrayList<>(
+            tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()));
+        queryTokens.subList(0, queryTokens.size() - 1)
+            .forEach(token -> clauses.add(List.of(tokens.getOrDefault(token, Set.of()))));
+      }
+
+      clauses.removeIf(it -> it.stream().anyMatch(ids -> ids.size() == items.size()));
+      if (clauses.isEmpty()) {
+        return null;
+      }
+
+      clauses.sort(Comparator.comparingLong(Query::estimate));
+
+      final var matches = new HashSet<String>();
+      clauses.get(0).forEach(matches::addAll);
+
+      for (final var clause : clauses.subList(1, clauses.size())) {
+        if (matches.isEmpty()) {
+          break;
+        }
+        if (clause.size() == 1) {
+          matches.retainAll(clause.get(0));
+        } else if ((long) matches.size() * clause.size() > estimate(clause)) {
+          final var union = new HashSet<String>();
+          clause.forEach(union::addAll);
+          matches.retainAll(union);
+        } else {
+          matches.removeIf(id -> clause.stream().noneMatch(ids -> ids.contains(id)));
+        }
+      }
+
+      return matches;
+    }
+
+    private static long estimate(final List<Set<String>> clause) {
+      return clause.stream().mapToLong(Set::size).sum();
+    }
+
+    private NavigableSet<T> view() {
+      final var view = this.sort != null ? sorted.getOrDefault(this.sort, byId) : byId;
+      return this.descending ? view.descendingSet() : view;
+    }
+
+    private Comparator<T> order() {
+      final var order = this.sort != null && sorts.containsKey(this.sort)
+          ? sorts.get(this.sort)
+          : Comparator.comparing(idOf);
+      return this.descending ? order.reversed() : order;
+    }
+  }
+
+  public static final class Builder<T> {
+
+    private final Function<T, String> idOf;
+    private final List<Function<T, String>> textOf = new ArrayList<>();
+    private final Map<String, Function<T, Collection<String>>> keywordsOf = new HashMap<>();
+    private final Map<String, Comparator<T>> sorts = new HashMap<>();
+
+    private Builder(final Function<T, String> idOf) {
+      this.idOf = Objects.requireNonNull(idOf);
+    }
+
+    public Builder<T> text(final Function<T, String> field) {
+      this.textOf.add(Objects.requireNonNull(field));
+      return this;
+    }
+
+    public Builder<T> keyword(final String name, final Function<T, Collection<String>> values) {
+      this.keywordsOf.put(name, Objects.requireNonNull(values));
+      return this;
+    }
+
+    public Builder<T> sort(final String name, final Comparator<T> order) {
+      this.sorts.put(name, Objects.requireNonNull(order));
+      return this;
+    }
+
+    public InMemorySearchIndex<T> build() {
+      return new InMemorySearchIndex<>(this);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * The reads and writes a replica gateway shares, on top of an {@link InMemoryReplica} of an index:
+ * writes update the replica once they reached Elasticsearch, and reads go to the fallback until the
+ * first load completes, and for sorts not in {@code sorts}.
+ */
+public class ReplicatedIndex<T> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ReplicatedIndex.class);
+
+  private final String name;
+  private final Function<T, String> idOf;
+  private final Map<String, Comparator<T>> sorts;
+  private final Supplier<? extends Collection<T>> source;
+  private final InMemoryReplica<T> replica;
+
+  public ReplicatedIndex(
+      final String name,
+      final Function<T, String> idOf,
+      final Map<String, Comparator<T>> sorts,
+      final Supplier<? extends Collection<T>> source
+  ) {
+    this.name = Objects.requireNonNull(name);
+    this.idOf = Objects.requireNonNull(idOf);
+    this.sorts = Objects.requireNonNull(sorts);
+    this.source = Objects.requireNonNull(source);
+    this.replica = new InMemoryReplica<>(idOf);
+  }
+
+  public void refresh() {
+    try {
+      this.replica.reload(this.source);
+      LOG.info("Replica of {} reloaded [size:{}]", this.name, this.replica.size());
+    } catch (final Exception e) {
+      LOG.warn("Failed to reload the replica of {}, keeping the current one", this.name, e);
+    }
+  }
+
+  public void saved(final T item) {
+    this.replica.put(item);
+  }
+
+  public void savedAll(final List<T> items) {
+    if (items != null) {
+      this.replica.putAll(items);
+    }
+  }
+
+  public void deleted(final String anId) {
+    if (anId != null) {
+      this.replica.remove(anId);
+    }
+  }
+
+  public void deletedAll(final Set<String> ids) {
+    if (ids != null) {
+      this.replica.removeAll(ids);
+    }
+  }
+
+  public Optional<T> findById(final String anId, final Function<String, Optional<T>> fallback) {
+    if (!this.replica.isLoaded()) {
+      return fallback.apply(anId);
+    }
+    return anId == null ? Optional.empty() : this.replica.get(anId);
+  }
+
+  public List<T> findAllById(final Set<String> ids, final Function<Set<String>, List<T>> fallback) {
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
+    }
+    if (!this.replica.isLoaded()) {
+      return fallback.apply(ids);
+    }
+    return this.replica.getAll(ids);
+  }
+
+  public Pagination<T> findAll(
+      final String sort,
+      final String direction,
+      final int page,
+      final int perPage,
+      final Predicate<T> filter,
+      final Supplier<Pagination<T>> fallback
+  ) {
+    final var order = sort != null ? this.sorts.get(sort) : null;
+    if (!this.replica.isLoaded() || order == null) {
+      return fallback.get();
+    }
+
+    final var descending = Direction.fromString(direction).isDescending();
+    return this.replica.search(
+        filter,
+        (descending ? order.reversed() : order).thenComparing(this.idOf),
+        page,
+        perPage
+    );
+  }
+}
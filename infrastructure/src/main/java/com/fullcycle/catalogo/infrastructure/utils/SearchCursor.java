@@ -0,0 +1,36 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Opaque cursor handed to clients: the sort values of the last hit of a page, used as
+ * {@code search_after} for the next one.
+ */
+public record SearchCursor(
+    @JsonProperty("search_after") List<Object> searchAfter
+) {
+
+  public static SearchCursor decode(final String cursor) {
+    try {
+      final var json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      final var aCursor = Json.readValue(json, SearchCursor.class);
+      if (aCursor.searchAfter() == null || aCursor.searchAfter().isEmpty()) {
+        throw new IllegalArgumentException("empty search_after");
+      }
+      return aCursor;
+    } catch (final RuntimeException e) {
+      throw DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(Json.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,34 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+public final class SearchQueries {
+
+  public static final String SEARCH_SUFFIX = "search";
+
+  private SearchQueries() {
+  }
+
+  /**
+   * Prefix search against the {@code search_as_you_type} subfields: every term must match within a
+   * field, the last one as a token prefix and the others as whole tokens, all served by the term
+   * dictionary.
+   */
+  public static Query searchAsYouType(final String terms, final String... fields) {
+    final var subfields = Arrays.stream(fields)
+        .map(it -> it + "." + SEARCH_SUFFIX)
+        .flatMap(it -> Stream.of(it, it + "._2gram", it + "._3gram"))
+        .toList();
+
+    return QueryBuilders.multiMatch(m -> m
+        .query(terms)
+        .type(TextQueryType.BoolPrefix)
+        .operator(Operator.And)
+        .fields(subfields));
+  }
+}
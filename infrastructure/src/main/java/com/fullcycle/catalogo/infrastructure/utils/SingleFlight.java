@@ -0,0 +1,18 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Collapses concurrent calls of an {@link HttpClient} method for the same id, the first argument,
+ * into one: the callers arriving while it is in flight share its result or exception.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs inside the cache and outside hedging and resilience4j, whose outermost aspect is the retry
+ * at {@code LOWEST_PRECEDENCE - 4}: a caller waiting on an in-flight request holds no bulkhead
+ * permit, is never hedged and its wait is neither retried nor recorded by the circuit breaker.
+ */
+@Aspect
+@Component
+@Order(SingleFlightAspect.ORDER)
+public class SingleFlightAspect {
+
+  public static final int ORDER = HedgingAspect.ORDER - 1;
+
+  private final ConcurrentMap<String, CompletableFuture<Object>> inFlight;
+
+  public SingleFlightAspect() {
+    this.inFlight = new ConcurrentHashMap<>();
+  }
+
+  @Around("@annotation(com.fullcycle.catalogo.infrastructure.utils.SingleFlight) && target(client)")
+  public Object collapse(final ProceedingJoinPoint joinPoint, final HttpClient client)
+      throws Throwable {
+    final var key = client.namespace() + ":" + joinPoint.getArgs()[0];
+    final var call = new CompletableFuture<>();
+
+    final var leader = this.inFlight.putIfAbsent(key, call);
+    if (leader != null) {
+      return await(leader);
+    }
+
+    try {
+      final var result = joinPoint.proceed();
+      call.complete(result);
+      return result;
+    } catch (Throwable t) {
+      call.completeExceptionally(t);
+      throw t;
+    } finally {
+      this.inFlight.remove(key, call);
+    }
+  }
+
+  private static Object await(final CompletableFuture<Object> call) throws Throwable {
+    try {
+      return call.get();
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+  }
+}
@@ -10,6 +10,10 @@ public final class GqlVideoPresenter {
   }
 
   public static GqlVideo present(final ListVideoUseCase.Output out) {
+    return present(out, null);
+  }
+
+  public static GqlVideo present(final ListVideoUseCase.Output out, final String cursor) {
     return new GqlVideo(
         out.id(),
         out.title(),
@@ -28,7 +32,8 @@ public final class GqlVideoPresenter {
         out.castMembersId(),
         out.genresId(),
         formatDate(out.createdAt()),
-        formatDate(out.updatedAt())
+        formatDate(out.updatedAt()),
+        cursor
     );
   }
 
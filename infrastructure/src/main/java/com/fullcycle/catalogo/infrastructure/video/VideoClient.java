@@ -1,9 +1,20 @@
 package com.fullcycle.catalogo.infrastructure.video;
 
 import com.fullcycle.catalogo.infrastructure.video.models.VideoDTO;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface VideoClient {
 
   Optional<VideoDTO> videoOfId(String videoId);
+
+  CompletableFuture<Optional<VideoDTO>> videoOfIdAsync(String videoId);
+
+  Map<String, VideoDTO> videosOfIds(Set<String> videoIds);
+
+  void reloadVideosOfIds(Set<String> videoIds);
+
+  void forgetVideoOfId(String videoId);
 }
@@ -0,0 +1,40 @@
+package com.fullcycle.catalogo.infrastructure.video;
+
+import com.fullcycle.catalogo.application.video.list.ListVideoUseCase;
+import com.fullcycle.catalogo.infrastructure.utils.SearchCursor;
+import java.util.List;
+
+/**
+ * Cursors of the videos listing. {@link VideoElasticsearchGateway} and
+ * {@link VideoInMemoryGateway} sort on the sort field and then the id, so the cursor of a video is
+ * that pair, read from the video itself; the domain only carries it back as the opaque
+ * {@code after} of the next query.
+ */
+public final class VideoCursors {
+
+  private VideoCursors() {
+  }
+
+  /**
+   * Empty for sorts the listing doesn't page by cursor, and for videos missing the sort value.
+   */
+  public static String of(final ListVideoUseCase.Output video, final String sort) {
+    final var value = sortValue(video, sort);
+    return value != null ? new SearchCursor(List.of(value, video.id())).encode() : null;
+  }
+
+  private static Object sortValue(final ListVideoUseCase.Output video, final String sort) {
+    if (sort == null) {
+      return null;
+    }
+    return switch (sort.toLowerCase()) {
+      case "title" -> video.title();
+      case "rating" -> video.rating();
+      case "launched_at" -> video.yearLaunched();
+      case "duration" -> video.duration();
+      case "created_at" -> video.createdAt() != null ? video.createdAt().toString() : null;
+      case "updated_at" -> video.updatedAt() != null ? video.updatedAt().toString() : null;
+      default -> null;
+    };
+  }
+}
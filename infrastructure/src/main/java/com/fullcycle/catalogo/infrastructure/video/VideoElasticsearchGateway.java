@@ -7,15 +7,22 @@ import static com.fullcycle.catalogo.infrastructure.video.VideoQueryBuilder.laun
 import static com.fullcycle.catalogo.infrastructure.video.VideoQueryBuilder.onlyPublished;
 import static com.fullcycle.catalogo.infrastructure.video.VideoQueryBuilder.ratingEquals;
 import static com.fullcycle.catalogo.infrastructure.video.VideoQueryBuilder.titleOrDescriptionContaining;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.fullcycle.catalogo.domain.pagination.Pagination;
 import com.fullcycle.catalogo.domain.video.Video;
 import com.fullcycle.catalogo.domain.video.VideoGateway;
 import com.fullcycle.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.catalogo.infrastructure.utils.SearchCursor;
 import com.fullcycle.catalogo.infrastructure.video.persistence.VideoDocument;
 import com.fullcycle.catalogo.infrastructure.video.persistence.VideoRepository;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -23,6 +30,7 @@ import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchOperations;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -31,14 +39,42 @@ public class VideoElasticsearchGateway implements VideoGateway {
 
   private static final String TITLE_PROP = "title";
   private static final String KEYWORD = ".keyword";
+  private static final String ID_PROP = "id";
+
+  // what Video.with always needs to build a valid video
+  private static final List<String> REQUIRED_SOURCE = List.of(
+      "id", "title", "launched_at", "duration", "rating", "opened", "published", "created_at",
+      "updated_at"
+  );
+
+  // published is recomputed from the media urls, so reading it requires all of them
+  private static final List<String> MEDIA_SOURCE = List.of(
+      "video", "trailer", "banner", "thumbnail", "thumbnailHalf"
+  );
+
+  private static final Map<String, List<String>> OPTIONAL_SOURCE = Map.of(
+      "description", List.of("description"),
+      "video", List.of("video"),
+      "trailer", List.of("trailer"),
+      "banner", List.of("banner"),
+      "thumbnail", List.of("thumbnail"),
+      "thumbnailHalf", List.of("thumbnailHalf"),
+      "published", MEDIA_SOURCE,
+      "categories", List.of("categories"),
+      "castMembers", List.of("cast_members"),
+      "genres", List.of("genres")
+  );
 
   private final VideoRepository videoRepository;
   private final SearchOperations searchOperations;
+  private final int trackTotalHitsUpTo;
 
   public VideoElasticsearchGateway(final VideoRepository videoRepository,
-      final SearchOperations searchOperations) {
+      final SearchOperations searchOperations,
+      @Value("${elasticsearch.track-total-hits-up-to:10000}") final int trackTotalHitsUpTo) {
     this.videoRepository = Objects.requireNonNull(videoRepository);
     this.searchOperations = Objects.requireNonNull(searchOperations);
+    this.trackTotalHitsUpTo = trackTotalHitsUpTo;
   }
 
   @Override
@@ -47,6 +83,15 @@ public class VideoElasticsearchGateway implements VideoGateway {
     return video;
   }
 
+  @Override
+  public List<Video> saveAll(final List<Video> videos) {
+    if (videos == null || videos.isEmpty()) {
+      return List.of();
+    }
+    this.videoRepository.saveAll(videos.stream().map(VideoDocument::from).toList());
+    return videos;
+  }
+
   @Override
   public void deleteById(final String videoId) {
     if (videoId == null || videoId.isBlank()) {
@@ -55,6 +100,14 @@ public class VideoElasticsearchGateway implements VideoGateway {
     this.videoRepository.deleteById(videoId);
   }
 
+  @Override
+  public void deleteAllById(final Set<String> videoIds) {
+    if (videoIds == null || videoIds.isEmpty()) {
+      return;
+    }
+    this.videoRepository.deleteAllById(videoIds);
+  }
+
   @Override
   public Optional<Video> findById(final String videoId) {
     if (videoId == null || videoId.isBlank()) {
@@ -79,13 +132,27 @@ public class VideoElasticsearchGateway implements VideoGateway {
         titleOrDescriptionContaining(aQuery.terms())
     );
 
+    final var direction = Direction.fromString(aQuery.direction());
+    final var sort = Sort.by(direction, buildSort(aQuery.sort())).and(Sort.by(direction, ID_PROP));
+
     final var query = NativeQuery.builder()
         .withQuery(aQueryBuilder.build())
-        .withPageable(PageRequest.of(currentPage, itemsPerPage,
-            Sort.by(Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()))))
-        .build();
+        .withTrackTotalHitsUpTo(this.trackTotalHitsUpTo);
+
+    if (!aQuery.fields().isEmpty()) {
+      query.withSourceFilter(new FetchSourceFilter(sourceIncludes(aQuery.fields()), null));
+    }
 
-    final var res = this.searchOperations.search(query, VideoDocument.class);
+    final var after = isBlank(aQuery.after()) ? null : SearchCursor.decode(aQuery.after());
+    if (after == null) {
+      query.withPageable(PageRequest.of(currentPage, itemsPerPage, sort));
+    } else {
+      // the id in the sort makes every hit's sort values unique, no point in time needed
+      query.withPageable(PageRequest.of(0, itemsPerPage, sort))
+          .withSearchAfter(after.searchAfter());
+    }
+
+    final var res = this.searchOperations.search(query.build(), VideoDocument.class);
     final var total = res.getTotalHits();
     final var videos = res.stream()
         .map(SearchHit::getContent)
@@ -95,6 +162,15 @@ public class VideoElasticsearchGateway implements VideoGateway {
     return new Pagination<>(currentPage, itemsPerPage, total, videos);
   }
 
+  private static String[] sourceIncludes(final Set<String> fields) {
+    final var includes = new LinkedHashSet<>(REQUIRED_SOURCE);
+    fields.stream()
+        .map(OPTIONAL_SOURCE::get)
+        .filter(Objects::nonNull)
+        .forEach(includes::addAll);
+    return includes.toArray(String[]::new);
+  }
+
   private String buildSort(final String sort) {
     if (TITLE_PROP.equalsIgnoreCase(sort)) {
       return sort.concat(KEYWORD);
@@ -1,12 +1,21 @@
 package com.fullcycle.catalogo.infrastructure.video;
 
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
 import com.fullcycle.catalogo.domain.video.Video;
 import com.fullcycle.catalogo.domain.video.VideoGateway;
 import com.fullcycle.catalogo.domain.video.VideoSearchQuery;
-import java.util.Map;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.infrastructure.utils.InMemorySearchIndex;
+import com.fullcycle.catalogo.infrastructure.utils.SearchCursor;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
@@ -14,31 +23,95 @@ import org.springframework.stereotype.Component;
 @Profile("development")
 public class VideoInMemoryGateway implements VideoGateway {
 
-  private final Map<String, Video> db;
+  private static final String PUBLISHED = "published";
+  private static final String CATEGORIES = "categories";
+  private static final String CAST_MEMBERS = "cast_members";
+  private static final String GENRES = "genres";
+  private static final String RATING = "rating";
+  private static final String LAUNCHED_AT = "launched_at";
+
+  private final InMemorySearchIndex<Video> db;
 
   public VideoInMemoryGateway() {
-    this.db = new ConcurrentHashMap<>();
+    this.db = InMemorySearchIndex.builder(Video::id)
+        .text(Video::title)
+        .text(Video::description)
+        .keyword(PUBLISHED, it -> Set.of(String.valueOf(it.published())))
+        .keyword(CATEGORIES, Video::categories)
+        .keyword(CAST_MEMBERS, Video::castMembers)
+        .keyword(GENRES, Video::genres)
+        .keyword(RATING, it -> it.rating() != null ? Set.of(it.rating().getName()) : Set.of())
+        .keyword(LAUNCHED_AT, it -> it.launchedAt() != null
+            ? Set.of(String.valueOf(it.launchedAt().getValue()))
+            : Set.of())
+        .sort("title", comparing(Video::title))
+        .sort(LAUNCHED_AT, comparing(Video::launchedAt, nullsLast(naturalOrder())))
+        .sort("duration", comparing(Video::duration, nullsLast(naturalOrder())))
+        .sort("created_at", comparing(Video::createdAt, nullsLast(naturalOrder())))
+        .sort("updated_at", comparing(Video::updatedAt, nullsLast(naturalOrder())))
+        .build();
   }
 
   @Override
   public Video save(Video video) {
-    this.db.put(video.id(), video);
+    this.db.put(video);
     return video;
   }
 
+  @Override
+  public List<Video> saveAll(final List<Video> videos) {
+    this.db.putAll(videos);
+    return videos;
+  }
+
   @Override
   public void deleteById(String videoId) {
     this.db.remove(videoId);
   }
 
+  @Override
+  public void deleteAllById(final Set<String> ids) {
+    this.db.removeAll(ids);
+  }
+
   @Override
   public Optional<Video> findById(String videoId) {
-    return Optional.ofNullable(this.db.get(videoId));
+    return this.db.get(videoId);
   }
 
   @Override
   public Pagination<Video> findAll(VideoSearchQuery aQuery) {
-    return new Pagination<>(aQuery.page(), aQuery.perPage(), this.db.size(),
-        this.db.values().stream().toList());
+    final var query = this.db.query()
+        .filter(PUBLISHED, Set.of(String.valueOf(true)))
+        .filter(CATEGORIES, aQuery.categories())
+        .filter(CAST_MEMBERS, aQuery.castMembers())
+        .filter(GENRES, aQuery.genres())
+        .filter(RATING, aQuery.rating() != null ? Set.of(aQuery.rating()) : Set.of())
+        .filter(LAUNCHED_AT,
+            aQuery.launchedAt() != null ? Set.of(String.valueOf(aQuery.launchedAt())) : Set.of())
+        .terms(aQuery.terms())
+        .sort(aQuery.sort(), "desc".equalsIgnoreCase(aQuery.direction()));
+
+    if (!isBlank(aQuery.after())) {
+      query.after(cursorOf(aQuery.after()));
+    }
+
+    return query.page(aQuery.page(), aQuery.perPage());
+  }
+
+  /**
+   * The cursor ends with the id of the last video of the previous page, the page resumes right
+   * past its position in the (sort, id) order; a video deleted since then has no position left.
+   */
+  private Video cursorOf(final String after) {
+    final var searchAfter = SearchCursor.decode(after).searchAfter();
+    if (searchAfter.get(searchAfter.size() - 1) instanceof String id) {
+      return this.db.get(id).orElseThrow(VideoInMemoryGateway::invalidCursor);
+    }
+    throw invalidCursor();
+  }
+
+  private static DomainException invalidCursor() {
+    return DomainException.with(new Error("'after' is not a valid cursor"));
   }
 }
@@ -1,5 +1,6 @@
 package com.fullcycle.catalogo.infrastructure.video;
 
+import static com.fullcycle.catalogo.infrastructure.utils.SearchQueries.searchAsYouType;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
 import co.elastic.clients.elasticsearch._types.FieldValue;
@@ -16,9 +17,11 @@ public final class VideoQueryBuilder {
   };
 
   private final List<Query> must;
+  private final List<Query> filter;
 
   public VideoQueryBuilder(final Option... opts) {
     this.must = new ArrayList<>();
+    this.filter = new ArrayList<>();
 
     for (final Option opt : opts) {
       opt.accept(this);
@@ -30,8 +33,20 @@ public final class VideoQueryBuilder {
     return this;
   }
 
+  /**
+   * Adds an exact-match clause that does not take part in scoring, so Elasticsearch can answer it
+   * from its filter cache.
+   */
+  public VideoQueryBuilder filter(final Query aQuery) {
+    this.filter.add(aQuery);
+    return this;
+  }
+
   public Query build() {
-    return QueryBuilders.bool(b -> b.must(must));
+    if (must.isEmpty()) {
+      return QueryBuilders.constantScore(c -> c.filter(f -> f.bool(b -> b.filter(filter))));
+    }
+    return QueryBuilders.bool(b -> b.must(must).filter(filter));
   }
 
   public interface Option extends Consumer<VideoQueryBuilder> {
@@ -39,7 +54,7 @@ public final class VideoQueryBuilder {
   }
 
   public static Option onlyPublished() {
-    return b -> b.must(QueryBuilders.term(t -> t.field("published").value(true)));
+    return b -> b.filter(QueryBuilders.term(t -> t.field("published").value(true)));
   }
 
   public static Option containingCastMembers(final Set<String> members) {
@@ -47,7 +62,7 @@ public final class VideoQueryBuilder {
       return NOOP;
     }
 
-    return b -> b.must(QueryBuilders.terms(
+    return b -> b.filter(QueryBuilders.terms(
         t -> t.field("cast_members").terms(it -> it.value(fieldValues(members)))));
   }
 
@@ -56,7 +71,7 @@ public final class VideoQueryBuilder {
       return NOOP;
     }
 
-    return b -> b.must(QueryBuilders.terms(
+    return b -> b.filter(QueryBuilders.terms(
         t -> t.field("categories").terms(it -> it.value(fieldValues(categories)))));
   }
 
@@ -65,7 +80,7 @@ public final class VideoQueryBuilder {
       return NOOP;
     }
 
-    return b -> b.must(
+    return b -> b.filter(
         QueryBuilders.terms(t -> t.field("genres").terms(it -> it.value(fieldValues(genres)))));
   }
 
@@ -74,7 +89,7 @@ public final class VideoQueryBuilder {
       return NOOP;
     }
 
-    return b -> b.must(QueryBuilders.term(t -> t.field("launched_at").value(launchedAt)));
+    return b -> b.filter(QueryBuilders.term(t -> t.field("launched_at").value(launchedAt)));
   }
 
   public static Option ratingEquals(final String rating) {
@@ -82,7 +97,7 @@ public final class VideoQueryBuilder {
       return NOOP;
     }
 
-    return b -> b.must(QueryBuilders.term(t -> t.field("rating").value(rating)));
+    return b -> b.filter(QueryBuilders.term(t -> t.field("rating").value(rating)));
   }
 
   public static Option titleOrDescriptionContaining(final String terms) {
@@ -90,8 +105,7 @@ public final class VideoQueryBuilder {
       return NOOP;
     }
 
-    return b -> b.must(
-        QueryBuilders.queryString(q -> q.fields("title", "description").query("*" + terms + "*")));
+    return b -> b.must(searchAsYouType(terms, "title", "description"));
   }
 
   private static List<FieldValue> fieldValues(final Set<String> ids) {
@@ -2,12 +2,26 @@ package com.fullcycle.catalogo.infrastructure.video;
 
 import com.fullcycle.catalogo.infrastructure.authentication.GetClientCredentials;
 import com.fullcycle.catalogo.infrastructure.configuration.annotations.Videos;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.RestClientProperties;
+import com.fullcycle.catalogo.infrastructure.utils.AdaptiveBulkhead;
+import com.fullcycle.catalogo.infrastructure.utils.CachedBatchLoader;
+import com.fullcycle.catalogo.infrastructure.utils.CachedClient;
+import com.fullcycle.catalogo.infrastructure.utils.Hedged;
 import com.fullcycle.catalogo.infrastructure.utils.HttpClient;
+import com.fullcycle.catalogo.infrastructure.utils.SingleFlight;
 import com.fullcycle.catalogo.infrastructure.video.models.VideoDTO;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
@@ -15,26 +29,68 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 @Component
-@CacheConfig(cacheNames = "admin-videos")
-public class VideoRestClient implements VideoClient, HttpClient {
+@CacheConfig(cacheNames = VideoRestClient.CACHE)
+public class VideoRestClient implements VideoClient, CachedClient<VideoDTO>, HttpClient {
 
   public static final String NAMESPACE = "videos";
+  public static final String CACHE = "admin-videos";
 
   private final RestClient restClient;
+  private final RestClientProperties properties;
   private final GetClientCredentials getClientCredentials;
+  private final CachedBatchLoader batchLoader;
+  private final ObjectProvider<VideoRestClient> self;
 
   public VideoRestClient(@Videos final RestClient restClient,
-      final GetClientCredentials getClientCredentials) {
+      @Videos final RestClientProperties properties,
+      final GetClientCredentials getClientCredentials,
+      final CachedBatchLoader batchLoader,
+      final ObjectProvider<VideoRestClient> self) {
     this.restClient = restClient;
+    this.properties = properties;
     this.getClientCredentials = getClientCredentials;
+    this.batchLoader = batchLoader;
+    this.self = self;
   }
 
   @Override
-  @Cacheable(key = "#videoId")
-  @Bulkhead(name = NAMESPACE)
+  @Cacheable(key = "#videoId", sync = true)
+  @SingleFlight
+  @Hedged
+  @AdaptiveBulkhead
   @CircuitBreaker(name = NAMESPACE)
   @Retry(name = NAMESPACE)
   public Optional<VideoDTO> videoOfId(String videoId) {
+    return load(videoId);
+  }
+
+  @Override
+  public CompletableFuture<Optional<VideoDTO>> videoOfIdAsync(final String videoId) {
+    return this.batchLoader.loadAsync(this, videoId);
+  }
+
+  @Override
+  public Map<String, VideoDTO> videosOfIds(final Set<String> videoIds) {
+    return this.batchLoader.loadAll(this, videoIds);
+  }
+
+  @Override
+  public void reloadVideosOfIds(final Set<String> videoIds) {
+    this.batchLoader.reloadAll(this, videoIds);
+  }
+
+  @Override
+  public void forgetVideoOfId(final String videoId) {
+    this.batchLoader.put(this, videoId, null);
+  }
+
+  @Override
+  @SingleFlight
+  @Hedged
+  @AdaptiveBulkhead
+  @CircuitBreaker(name = NAMESPACE)
+  @Retry(name = NAMESPACE)
+  public Optional<VideoDTO> load(final String videoId) {
     final var token = this.getClientCredentials.retrieve();
     return doGet(videoId, () ->
         this.restClient.get()
@@ -47,8 +103,44 @@ public class VideoRestClient implements VideoClient, HttpClient {
     );
   }
 
+  @Override
+  @Bulkhead(name = NAMESPACE, type = Bulkhead.Type.THREADPOOL)
+  @TimeLimiter(name = NAMESPACE)
+  public CompletableFuture<Optional<VideoDTO>> loadAsync(final String videoId) {
+    return CompletableFuture.completedFuture(this.self.getObject().load(videoId));
+  }
+
+  @Override
+  @AdaptiveBulkhead
+  @CircuitBreaker(name = NAMESPACE)
+  @Retry(name = NAMESPACE)
+  public Optional<Map<String, VideoDTO>> loadAll(final Set<String> videoIds) {
+    if (this.properties.bulkPath() == null) {
+      return Optional.empty();
+    }
+
+    final var token = this.getClientCredentials.retrieve();
+    final var ids = String.join(",", videoIds);
+    final var videos = doGet(ids, () ->
+        this.restClient.get()
+            .uri(uri -> uri.path(this.properties.bulkPath()).queryParam("ids", ids).build())
+            .header(HttpHeaders.AUTHORIZATION, "bearer " + token)
+            .retrieve()
+            .onStatus(is5xx, a5xxHandler(ids))
+            .body(VideoDTO[].class)
+    ).orElseGet(() -> new VideoDTO[0]);
+
+    return Optional.of(Arrays.stream(videos)
+        .collect(Collectors.toMap(VideoDTO::id, Function.identity())));
+  }
+
   @Override
   public String namespace() {
     return NAMESPACE;
   }
+
+  @Override
+  public String cacheName() {
+    return CACHE;
+  }
 }
@@ -20,6 +20,7 @@ public record GqlVideo(
     Set<String> castMembersId,
     Set<String> genresId,
     String createdAt,
-    String updatedAt
+    String updatedAt,
+    String cursor
 ) {
 }
@@ -1,5 +1,6 @@
 package com.fullcycle.catalogo.infrastructure.video.models;
 
+import com.fullcycle.catalogo.domain.video.Video;
 import java.util.Optional;
 import java.util.Set;
 
@@ -43,4 +44,27 @@ public record VideoDTO(
   public Optional<ImageResourceDTO> getThumbnailHalf() {
     return Optional.ofNullable(thumbnailHalf);
   }
+
+  public Video toVideo() {
+    return Video.with(
+        id(),
+        title(),
+        description(),
+        yearLaunched(),
+        duration(),
+        rating(),
+        opened(),
+        published(),
+        createdAt(),
+        updatedAt(),
+        getVideo().map(VideoResourceDTO::encodedLocation).orElse(""),
+        getTrailer().map(VideoResourceDTO::encodedLocation).orElse(""),
+        getBanner().map(ImageResourceDTO::location).orElse(""),
+        getThumbnail().map(ImageResourceDTO::location).orElse(""),
+        getThumbnailHalf().map(ImageResourceDTO::location).orElse(""),
+        categoriesId(),
+        castMembersId(),
+        genresId()
+    );
+  }
 }
@@ -1,8 +1,97 @@
 package com.fullcycle.catalogo.infrastructure.video.models;
 
+import static com.fullcycle.catalogo.domain.utils.InstantUtils.fromTimestamp;
+import static com.fullcycle.catalogo.domain.utils.InstantUtils.toTimestamp;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.catalogo.domain.video.Rating;
+import com.fullcycle.catalogo.domain.video.Video;
+import java.util.Arrays;
+import java.util.Optional;
 
 public record VideoEvent(
-    @JsonProperty("id") String id
+    @JsonProperty("id") String id,
+    @JsonProperty("title") String title,
+    @JsonProperty("description") String description,
+    @JsonProperty("year_launched") Integer yearLaunched,
+    @JsonProperty("opened") Boolean opened,
+    @JsonProperty("published") Boolean published,
+    @JsonProperty("rating") String rating,
+    @JsonProperty("duration") String duration,
+    @JsonProperty("created_at") Long createdAt,
+    @JsonProperty("updated_at") Long updatedAt
 ) {
-}
\ No newline at end of file
+
+  public VideoEvent(final String id) {
+    this(id, null, null, null, null, null, null, null, null, null);
+  }
+
+  public static VideoEvent from(final Video aVideo) {
+    return new VideoEvent(
+        aVideo.id(),
+        aVideo.title(),
+        aVideo.description(),
+        aVideo.launchedAt() != null ? aVideo.launchedAt().getValue() : null,
+        aVideo.opened(),
+        aVideo.published(),
+        aVideo.rating() != null ? aVideo.rating().name() : null,
+        String.valueOf(aVideo.duration()),
+        toTimestamp(aVideo.createdAt()),
+        toTimestamp(aVideo.updatedAt())
+    );
+  }
+
+  @JsonIgnore
+  public boolean isComplete() {
+    return id != null && title != null && yearLaunched != null && opened != null && published != null
+        && ratingLabel().isPresent() && durationValue().isPresent() && createdAt != null && updatedAt != null;
+  }
+
+  /**
+   * Media resources and the categories, genres and cast members join tables are not part of the
+   * row, so they always come from the admin API; the scalar columns of the row win when complete.
+   */
+  public VideoDTO merge(final VideoDTO dto) {
+    if (!isComplete()) {
+      return dto;
+    }
+    return new VideoDTO(
+        id,
+        title,
+        description,
+        yearLaunched,
+        ratingLabel().get(),
+        durationValue().get(),
+        opened,
+        published,
+        dto.video(),
+        dto.trailer(),
+        dto.banner(),
+        dto.thumbnail(),
+        dto.thumbnailHalf(),
+        dto.categoriesId(),
+        dto.castMembersId(),
+        dto.genresId(),
+        fromTimestamp(createdAt).toString(),
+        fromTimestamp(updatedAt).toString()
+    );
+  }
+
+  // the admin stores the enum constant name (AGE_10) while the catalog works with its label (10)
+  private Optional<String> ratingLabel() {
+    return Arrays.stream(Rating.values())
+        .filter(it -> it.name().equalsIgnoreCase(rating) || it.getName().equalsIgnoreCase(rating))
+        .map(Rating::getName)
+        .findFirst();
+  }
+
+  // decimal columns are only plain numbers when the connector uses decimal.handling.mode=double|string
+  private Optional<Double> durationValue() {
+    try {
+      return Optional.ofNullable(duration).map(Double::valueOf);
+    } catch (final NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+}
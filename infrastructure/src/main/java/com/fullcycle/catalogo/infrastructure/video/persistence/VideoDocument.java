@@ -17,11 +17,17 @@ public class VideoDocument {
 
   @MultiField(
       mainField = @Field(type = FieldType.Text, name = "title"),
-      otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+      otherFields = {
+          @InnerField(suffix = "keyword", type = FieldType.Keyword),
+          @InnerField(suffix = "search", type = FieldType.Search_As_You_Type)
+      }
   )
   private String title;
 
-  @Field(type = FieldType.Text, name = "description")
+  @MultiField(
+      mainField = @Field(type = FieldType.Text, name = "description"),
+      otherFields = @InnerField(suffix = "search", type = FieldType.Search_As_You_Type)
+  )
   private String description;
 
   @Field(type = FieldType.Integer, name = "launched_at")
@@ -114,9 +120,9 @@ public class VideoDocument {
         video.id(),
         video.title(),
         video.description(),
-        video.launchedAt().getValue(),
+        video.launchedAt() != null ? video.launchedAt().getValue() : null,
         video.duration(),
-        video.rating().getName(),
+        video.rating() != null ? video.rating().getName() : null,
         video.opened(),
         video.published(),
         video.createdAt().toString(),
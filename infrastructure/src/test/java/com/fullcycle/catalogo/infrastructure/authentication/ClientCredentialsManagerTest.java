@@ -9,11 +9,16 @@ import com.fullcycle.catalogo.infrastructure.authentication.AuthenticationGatewa
 import com.fullcycle.catalogo.infrastructure.authentication.AuthenticationGateway.RefreshTokenInput;
 import com.fullcycle.catalogo.infrastructure.authentication.ClientCredentialsManager.ClientCredentials;
 import com.fullcycle.catalogo.infrastructure.configuration.properties.KeycloakProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -113,4 +118,116 @@ class ClientCredentialsManagerTest {
     Assertions.assertEquals(expectedAccessToken, actualCredentials.accessToken());
     Assertions.assertEquals(expectedRefreshToken, actualCredentials.refreshToken());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void givenAJwtAccessToken_whenCallsRefresh_shouldScheduleTheNextRefreshBeforeItExpires() {
+    // given
+    final var expectedClientId = "client-id";
+    final var expectedClientSecret = "sad1324213";
+    final var expectedExpiresAt = Instant.now().plusSeconds(300).truncatedTo(ChronoUnit.SECONDS);
+
+    doReturn(expectedClientId).when(keycloakProperties).clientId();
+    doReturn(expectedClientSecret).when(keycloakProperties).clientSecret();
+    doReturn(0.75).when(keycloakProperties).tokenRefreshRatio();
+
+    doReturn(new AuthenticationResult(jwt(expectedExpiresAt), "refresh"))
+        .when(authenticationGateway)
+        .login(new ClientCredentialsInput(expectedClientId, expectedClientSecret));
+
+    // when
+    this.manager.refresh();
+
+    final var actualCredentials = (ClientCredentials) ReflectionTestUtils.getField(this.manager,
+        "credentials");
+
+    // then
+    Assertions.assertEquals(expectedExpiresAt, actualCredentials.expiresAt());
+    Assertions.assertEquals(actualCredentials.refreshAt(), this.manager.nextRefreshAt());
+    Assertions.assertTrue(actualCredentials.refreshAt().isAfter(Instant.now().plusSeconds(200)));
+    Assertions.assertTrue(actualCredentials.refreshAt().isBefore(expectedExpiresAt.minusSeconds(60)));
+  }
+
+  @Test
+  public void givenAnOpaqueAccessToken_whenCallsNextRefreshAt_shouldFallbackToAFixedDelay() {
+    // given
+    ReflectionTestUtils.setField(this.manager, "credentials",
+        new ClientCredentials("client-id", "acc", "ref"));
+
+    // when
+    final var actualNextRefresh = this.manager.nextRefreshAt();
+
+    // then
+    Assertions.assertTrue(actualNextRefresh.isAfter(Instant.now().plusSeconds(170)));
+    Assertions.assertTrue(actualNextRefresh.isBefore(Instant.now().plusSeconds(190)));
+  }
+
+  @Test
+  public void givenAnAlreadyRenewedToken_whenCallsRenew_shouldReturnItWithoutRefreshing() {
+    // given
+    ReflectionTestUtils.setField(this.manager, "credentials",
+        new ClientCredentials("client-id", "renewed", "ref"));
+
+    // when
+    final var actualToken = this.manager.renew("rejected");
+
+    // then
+    Assertions.assertEquals("renewed", actualToken);
+    Mockito.verifyNoInteractions(authenticationGateway);
+  }
+
+  @Test
+  public void givenTheCurrentToken_whenCallsRenew_shouldRefreshIt() {
+    // given
+    final var expectedAccessToken = "access";
+    final var expectedClientId = "client-id";
+    final var expectedClientSecret = "sad1324213";
+
+    ReflectionTestUtils.setField(this.manager, "credentials",
+        new ClientCredentials(expectedClientId, "acc", "ref"));
+
+    doReturn(expectedClientId).when(keycloakProperties).clientId();
+    doReturn(expectedClientSecret).when(keycloakProperties).clientSecret();
+
+    doReturn(new AuthenticationResult(expectedAccessToken, "refresh"))
+        .when(authenticationGateway)
+        .refresh(new RefreshTokenInput(expectedClientId, expectedClientSecret, "ref"));
+
+    // when
+    final var actualToken = this.manager.renew("acc");
+
+    // then
+    Assertions.assertEquals(expectedAccessToken, actualToken);
+  }
+
+  @Test
+  public void givenAnExpiredToken_whenCallsRetrieve_shouldRefreshItFirst() {
+    // given
+    final var expectedAccessToken = "access";
+    final var expectedClientId = "client-id";
+    final var expectedClientSecret = "sad1324213";
+
+    ReflectionTestUtils.setField(this.manager, "credentials",
+        new ClientCredentials(expectedClientId, jwt(Instant.now().minusSeconds(1)), "ref"));
+
+    doReturn(expectedClientId).when(keycloakProperties).clientId();
+    doReturn(expectedClientSecret).when(keycloakProperties).clientSecret();
+
+    doReturn(new AuthenticationResult(expectedAccessToken, "refresh"))
+        .when(authenticationGateway)
+        .refresh(new RefreshTokenInput(expectedClientId, expectedClientSecret, "ref"));
+
+    // when
+    final var actualToken = this.manager.retrieve();
+
+    // then
+    Assertions.assertEquals(expectedAccessToken, actualToken);
+  }
+
+  private static String jwt(final Instant expiresAt) {
+    final var encoder = Base64.getUrlEncoder().withoutPadding();
+    final var header = encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8));
+    final var payload = encoder.encodeToString("{\"exp\":%d,\"azp\":\"fc3-app\"}"
+        .formatted(expiresAt.getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+    return header + "." + payload + ".signature";
+  }
+}
@@ -48,6 +48,44 @@ class CastMemberElasticsearchGatewayTest extends AbstractElasticsearchTest {
     Assertions.assertEquals(gabriel.updatedAt(), actualMember.updatedAt());
   }
 
+  @Test
+  public void givenValidCastMembers_whenCallsSaveAll_shouldPersistThem() {
+    // given
+    final var expectedItems = List.of(Fixture.CastMembers.gabriel(), Fixture.CastMembers.wesley());
+
+    // when
+    final var actualOutput = this.castMemberGateway.saveAll(expectedItems);
+
+    // then
+    Assertions.assertEquals(expectedItems, actualOutput);
+    Assertions.assertEquals(expectedItems.size(), this.castMemberRepository.count());
+
+    expectedItems.forEach(it -> Assertions.assertTrue(this.castMemberRepository.existsById(it.id())));
+  }
+
+  @Test
+  public void givenValidIds_whenCallsDeleteAllById_shouldDeleteThem() {
+    // given
+    final var first = Fixture.CastMembers.gabriel();
+    final var second = Fixture.CastMembers.wesley();
+
+    this.castMemberRepository.saveAll(List.of(CastMemberDocument.from(first), CastMemberDocument.from(second)));
+
+    Assertions.assertEquals(2, this.castMemberRepository.count());
+
+    // when
+    this.castMemberGateway.deleteAllById(Set.of(first.id(), second.id()));
+
+    // then
+    Assertions.assertEquals(0, this.castMemberRepository.count());
+  }
+
+  @Test
+  public void givenEmptyIds_whenCallsDeleteAllById_shouldBeOk() {
+    // when/then
+    Assertions.assertDoesNotThrow(() -> this.castMemberGateway.deleteAllById(Set.of()));
+  }
+
   @Test
   public void givenValidId_whenCallsDeleteById_shouldDeleteIt() {
     // given
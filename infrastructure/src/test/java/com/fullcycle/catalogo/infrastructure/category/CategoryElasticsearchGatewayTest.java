@@ -50,6 +50,44 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
     Assertions.assertEquals(aulas.deletedAt(), actualCategory.deletedAt());
   }
 
+  @Test
+  public void givenValidCategorys_whenCallsSaveAll_shouldPersistThem() {
+    // given
+    final var expectedItems = List.of(Fixture.Categories.aulas(), Fixture.Categories.lives());
+
+    // when
+    final var actualOutput = this.categoryGateway.saveAll(expectedItems);
+
+    // then
+    Assertions.assertEquals(expectedItems, actualOutput);
+    Assertions.assertEquals(expectedItems.size(), this.categoryRepository.count());
+
+    expectedItems.forEach(it -> Assertions.assertTrue(this.categoryRepository.existsById(it.id())));
+  }
+
+  @Test
+  public void givenValidIds_whenCallsDeleteAllById_shouldDeleteThem() {
+    // given
+    final var first = Fixture.Categories.aulas();
+    final var second = Fixture.Categories.lives();
+
+    this.categoryRepository.saveAll(List.of(CategoryDocument.from(first), CategoryDocument.from(second)));
+
+    Assertions.assertEquals(2, this.categoryRepository.count());
+
+    // when
+    this.categoryGateway.deleteAllById(Set.of(first.id(), second.id()));
+
+    // then
+    Assertions.assertEquals(0, this.categoryRepository.count());
+  }
+
+  @Test
+  public void givenEmptyIds_whenCallsDeleteAllById_shouldBeOk() {
+    // when/then
+    Assertions.assertDoesNotThrow(() -> this.categoryGateway.deleteAllById(Set.of()));
+  }
+
   @Test
   public void givenValidId_whenCallsDeleteById_shouldDeleteIt() {
     // given
@@ -0,0 +1,159 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryReplicaGatewayTest {
+
+  @Mock
+  private CategoryElasticsearchGateway elasticsearchGateway;
+
+  @InjectMocks
+  private CategoryReplicaGateway categoryGateway;
+
+  @Test
+  public void givenNotLoadedReplica_whenCallsFindAllById_shouldReadFromElasticsearch() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+
+    when(elasticsearchGateway.findAllById(any())).thenReturn(List.of(aulas));
+
+    // when
+    final var actualOutput = this.categoryGateway.findAllById(Set.of(aulas.id()));
+
+    // then
+    Assertions.assertEquals(List.of(aulas), actualOutput);
+  }
+
+  @Test
+  public void givenLoadedReplica_whenCallsFindAllById_shouldNotCallElasticsearch() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+
+    when(elasticsearchGateway.findAll()).thenReturn(List.of(aulas, lives));
+    this.categoryGateway.refresh();
+
+    // when
+    final var actualOutput = this.categoryGateway.findAllById(Set.of(lives.id()));
+
+    // then
+    Assertions.assertEquals(List.of(lives), actualOutput);
+    verify(elasticsearchGateway, never()).findAllById(any());
+  }
+
+  @Test
+  public void givenLoadedReplica_whenCallsSaveAndDelete_shouldWriteThroughAndUpdateTheReplica() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+
+    when(elasticsearchGateway.findAll()).thenReturn(List.of(aulas));
+    this.categoryGateway.refresh();
+
+    // when
+    this.categoryGateway.save(lives);
+    this.categoryGateway.deleteById(aulas.id());
+
+    // then
+    verify(elasticsearchGateway).save(lives);
+    verify(elasticsearchGateway).deleteById(aulas.id());
+
+    Assertions.assertTrue(this.categoryGateway.findById(aulas.id()).isEmpty());
+    Assertions.assertEquals(lives, this.categoryGateway.findById(lives.id()).orElseThrow());
+  }
+
+  @Test
+  public void givenLoadedReplica_whenCallsFindAll_shouldSearchLocally() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+    final var talks = Fixture.Categories.talks();
+
+    when(elasticsearchGateway.findAll()).thenReturn(List.of(aulas, lives, talks));
+    this.categoryGateway.refresh();
+
+    final var aQuery = new CategorySearchQuery(0, 10, "vivo", "name", "desc");
+
+    // when
+    final var actualOutput = this.categoryGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(2, actualOutput.meta().total());
+    Assertions.assertEquals(List.of(talks, lives), actualOutput.data());
+    verify(elasticsearchGateway, never()).findAll(any());
+  }
+
+  @Test
+  public void givenCategoryWithoutSortValue_whenCallsFindAll_shouldSortItLast() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+    final var neverUpdated = Category.with(lives.id(), lives.name(), lives.description(),
+        lives.active(), lives.createdAt(), null, null);
+
+    when(elasticsearchGateway.findAll()).thenReturn(List.of(neverUpdated, aulas));
+    this.categoryGateway.refresh();
+
+    final var aQuery = new CategorySearchQuery(0, 10, "", "updated_at", "asc");
+
+    // when
+    final var actualOutput = this.categoryGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(List.of(aulas, neverUpdated), actualOutput.data());
+    verify(elasticsearchGateway, never()).findAll(any());
+  }
+
+  @Test
+  public void givenUnknownSort_whenCallsFindAll_shouldReadFromElasticsearch() {
+    // given
+    final var expectedOutput = new Pagination<Category>(0, 10, 0, List.of());
+
+    when(elasticsearchGateway.findAll()).thenReturn(List.of(Fixture.Categories.aulas()));
+    when(elasticsearchGateway.findAll(any())).thenReturn(expectedOutput);
+    this.categoryGateway.refresh();
+
+    final var aQuery = new CategorySearchQuery(0, 10, "", "active", "asc");
+
+    // when
+    final var actualOutput = this.categoryGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertSame(expectedOutput, actualOutput);
+  }
+
+  @Test
+  public void givenNullSort_whenCallsFindAll_shouldReadFromElasticsearch() {
+    // given
+    final var expectedOutput = new Pagination<Category>(0, 10, 0, List.of());
+
+    when(elasticsearchGateway.findAll()).thenReturn(List.of(Fixture.Categories.aulas()));
+    when(elasticsearchGateway.findAll(any())).thenReturn(expectedOutput);
+    this.categoryGateway.refresh();
+
+    final var aQuery = new CategorySearchQuery(0, 10, "", null, "asc");
+
+    // when
+    final var actualOutput = this.categoryGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertSame(expectedOutput, actualOutput);
+  }
+}
@@ -14,12 +14,17 @@ import com.fullcycle.catalogo.domain.Fixture;
 import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.catalogo.infrastructure.authentication.ClientCredentialsManager;
 import com.fullcycle.catalogo.infrastructure.category.models.CategoryDTO;
+import com.github.tomakehurst.wiremock.client.WireMock;
 import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpHeaders;
@@ -125,6 +130,166 @@ public class CategoryRestClientTest extends AbstractRestClientTest {
     verify(1, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id()))));
   }
 
+  @Test
+  public void givenACachedCategory_whenReloaded_shouldReplaceTheCachedCopy() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+
+    final var responseBody = writeValueAsString(new CategoryDTO(
+        aulas.id(),
+        aulas.name(),
+        aulas.description(),
+        aulas.active(),
+        aulas.createdAt(),
+        aulas.updatedAt(),
+        aulas.deletedAt()
+    ));
+
+    final var expectedToken = "access-123";
+    doReturn(expectedToken).when(credentialsManager).retrieve();
+
+    stubFor(
+        get(urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(responseBody)
+            )
+    );
+
+    target.categoryOfId(aulas.id()).get();
+    WireMock.resetAllRequests();
+
+    // when
+    target.reloadCategoriesOfIds(Set.of(aulas.id()));
+
+    // then
+    final var actualCategory = target.categoryOfId(aulas.id()).get();
+    Assertions.assertEquals(aulas.id(), actualCategory.id());
+    Assertions.assertEquals(actualCategory, cache("admin-categories").get(aulas.id()).get());
+
+    verify(1, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id()))));
+  }
+
+  // Async
+  @Test
+  public void givenACategory_whenCallsAsync_shouldCompleteWithItAndCacheIt() throws Exception {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+
+    final var responseBody = writeValueAsString(new CategoryDTO(
+        aulas.id(),
+        aulas.name(),
+        aulas.description(),
+        aulas.active(),
+        aulas.createdAt(),
+        aulas.updatedAt(),
+        aulas.deletedAt()
+    ));
+
+    final var expectedToken = "access-123";
+    doReturn(expectedToken).when(credentialsManager).retrieve();
+
+    stubFor(
+        get(urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+            .withHeader(HttpHeaders.AUTHORIZATION, equalTo("bearer %s".formatted(expectedToken)))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(responseBody)
+            )
+    );
+
+    // when
+    final var actualCategory = target.categoryOfIdAsync(aulas.id()).get(5, TimeUnit.SECONDS).get();
+
+    // then
+    Assertions.assertEquals(aulas.id(), actualCategory.id());
+    Assertions.assertEquals(aulas.name(), actualCategory.name());
+
+    Assertions.assertEquals(actualCategory, cache("admin-categories").get(aulas.id()).get());
+    Assertions.assertEquals(actualCategory, target.categoryOfId(aulas.id()).get());
+
+    verify(1, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id()))));
+  }
+
+  @Test
+  public void givenACategory_whenCallsAsyncAndReceive5xxFromServer_shouldFailWithInternalError() {
+    // given
+    final var expectedId = "456";
+    final var expectedErrorMessage = "Error observed from categories [resourceId:%s] [status:500]".formatted(
+        expectedId);
+
+    final var expectedToken = "access-123";
+    doReturn(expectedToken).when(credentialsManager).retrieve();
+
+    stubFor(
+        get(urlPathEqualTo("/api/categories/%s".formatted(expectedId)))
+            .willReturn(aResponse()
+                .withStatus(500)
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(writeValueAsString(Map.of("message", "Internal Server Error")))
+            )
+    );
+
+    // when
+    final var actualEx = Assertions.assertThrows(ExecutionException.class,
+        () -> target.categoryOfIdAsync(expectedId).get(5, TimeUnit.SECONDS));
+
+    // then
+    Assertions.assertInstanceOf(InternalErrorException.class, actualEx.getCause());
+    Assertions.assertEquals(expectedErrorMessage, actualEx.getCause().getMessage());
+    Assertions.assertNull(cache("admin-categories").get(expectedId));
+
+    verify(2, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(expectedId))));
+  }
+
+  // 401
+  @Test
+  public void givenARejectedToken_whenReceive401FromServer_shouldRenewItAndRetryOnce() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+
+    final var responseBody = writeValueAsString(new CategoryDTO(
+        aulas.id(),
+        aulas.name(),
+        aulas.description(),
+        aulas.active(),
+        aulas.createdAt(),
+        aulas.updatedAt(),
+        aulas.deletedAt()
+    ));
+
+    final var rejectedToken = "access-123";
+    final var expectedToken = "access-456";
+    doReturn(rejectedToken).when(credentialsManager).retrieve();
+    doReturn(expectedToken).when(credentialsManager).renew(rejectedToken);
+
+    stubFor(
+        get(urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+            .withHeader(HttpHeaders.AUTHORIZATION, equalTo("bearer %s".formatted(rejectedToken)))
+            .willReturn(aResponse().withStatus(401))
+    );
+    stubFor(
+        get(urlPathEqualTo("/api/categories/%s".formatted(aulas.id())))
+            .withHeader(HttpHeaders.AUTHORIZATION, equalTo("bearer %s".formatted(expectedToken)))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(responseBody)
+            )
+    );
+
+    // when
+    final var actualCategory = target.categoryOfId(aulas.id()).get();
+
+    // then
+    Assertions.assertEquals(aulas.id(), actualCategory.id());
+
+    verify(2, getRequestedFor(urlPathEqualTo("/api/categories/%s".formatted(aulas.id()))));
+    Mockito.verify(credentialsManager, Mockito.times(1)).renew(rejectedToken);
+  }
+
   // 5XX
   @Test
   public void givenACategory_whenReceive5xxFromServer_shouldReturnInternalError() {
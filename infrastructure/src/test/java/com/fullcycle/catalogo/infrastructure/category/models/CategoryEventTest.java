@@ -0,0 +1,46 @@
+package com.fullcycle.catalogo.infrastructure.category.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+
+class CategoryEventTest {
+
+  @Test
+  public void givenCompleteCategoryEvent_whenCallToCategory_shouldMapEveryColumn() {
+    // given
+    final var expectedId = "123";
+    final var expectedName = "Aulas";
+    final var expectedDescription = "Conteudo gravado";
+    final var expectedUnixTimestamp = 1707086611086071L;
+    final var expectedDate = LocalDateTime.of(2024, 02, 04, 22, 43, 31)
+        .toInstant(ZoneOffset.UTC);
+
+    final var event = new CategoryEvent(expectedId, expectedName, expectedDescription, true,
+        expectedUnixTimestamp, expectedUnixTimestamp, null);
+
+    // when
+    final var actualCategory = event.toCategory();
+
+    // then
+    assertTrue(event.isComplete());
+    assertEquals(expectedId, actualCategory.id());
+    assertEquals(expectedName, actualCategory.name());
+    assertEquals(expectedDescription, actualCategory.description());
+    assertTrue(actualCategory.active());
+    assertEquals(expectedDate, actualCategory.createdAt().truncatedTo(ChronoUnit.SECONDS));
+    assertEquals(expectedDate, actualCategory.updatedAt().truncatedTo(ChronoUnit.SECONDS));
+    assertNull(actualCategory.deletedAt());
+  }
+
+  @Test
+  public void givenEventWithOnlyId_whenCallsIsComplete_shouldReturnFalse() {
+    assertFalse(new CategoryEvent("123").isComplete());
+  }
+}
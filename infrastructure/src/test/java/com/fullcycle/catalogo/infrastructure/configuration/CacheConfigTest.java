@@ -0,0 +1,182 @@
+package com.fullcycle.catalogo.infrastructure.configuration;
+
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.Cache2kProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.Cache2kProperties.CacheSpec;
+import com.fullcycle.catalogo.infrastructure.utils.CachedClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.cache2k.extra.spring.SpringCache2kCacheManager;
+import org.cache2k.operation.CacheInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class CacheConfigTest {
+
+  private SpringCache2kCacheManager cacheManager;
+
+  @AfterEach
+  void tearDown() {
+    if (this.cacheManager != null) {
+      this.cacheManager.destroy();
+    }
+  }
+
+  @Test
+  public void givenConcurrentMisses_whenCallsGet_shouldLoadTheKeyOnce() throws Exception {
+    // given
+    final var loads = new AtomicInteger();
+    final var loading = new CountDownLatch(1);
+    this.cacheManager = cacheManager(new Client("admin-categories", id -> {
+      loads.incrementAndGet();
+      await(loading);
+      return Optional.of("category " + id);
+    }));
+
+    final var cache = this.cacheManager.getCache("admin-categories");
+    final var executor = Executors.newFixedThreadPool(8);
+
+    // when
+    final var futures = IntStream.range(0, 8)
+        .mapToObj(i -> executor.submit(() -> cache.get("1", () -> "unused")))
+        .toList();
+    Thread.sleep(100);
+    loading.countDown();
+
+    // then
+    for (final var future : futures) {
+      Assertions.assertEquals("category 1", future.get(5, TimeUnit.SECONDS));
+    }
+    Assertions.assertEquals(1, loads.get());
+    executor.shutdown();
+  }
+
+  @Test
+  public void givenALoadInFlight_whenAFreshCopyIsPut_shouldNotBeOverwrittenByTheLoad()
+      throws Exception {
+    // given
+    final var loadStarted = new CountDownLatch(1);
+    final var loading = new CountDownLatch(1);
+    this.cacheManager = cacheManager(new Client("admin-categories", id -> {
+      loadStarted.countDown();
+      await(loading);
+      return Optional.of("stale " + id);
+    }));
+
+    final var cache = this.cacheManager.getCache("admin-categories");
+    final var executor = Executors.newFixedThreadPool(2);
+    final var staleRead = executor.submit(() -> cache.get("1", () -> "unused"));
+    Assertions.assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+    // when
+    final var put = executor.submit(() -> cache.put("1", "fresh 1"));
+    Thread.sleep(100);
+    loading.countDown();
+    staleRead.get(5, TimeUnit.SECONDS);
+    put.get(5, TimeUnit.SECONDS);
+
+    // then
+    Assertions.assertEquals("fresh 1", cache.get("1").get());
+    executor.shutdown();
+  }
+
+  @Test
+  public void givenCacheSpecs_whenBuildsTheCaches_shouldFallBackToTheDefaults() {
+    // given
+    final var properties = properties();
+
+    // when
+    this.cacheManager = new CacheConfig().cacheManager(properties, provider());
+
+    // then
+    final var categories = CacheInfo.of(this.cacheManager.getCache("admin-categories").getNativeCache());
+    Assertions.assertEquals(1_000, categories.getEntryCapacity());
+    Assertions.assertEquals(Duration.ofSeconds(300).toMillis(), categories.getExpiryAfterWriteTicks());
+    Assertions.assertTrue(categories.isLoaderPresent());
+
+    final var videos = CacheInfo.of(this.cacheManager.getCache("admin-videos").getNativeCache());
+    Assertions.assertEquals(200, videos.getEntryCapacity());
+    Assertions.assertEquals(Duration.ofSeconds(60).toMillis(), videos.getExpiryAfterWriteTicks());
+
+    Assertions.assertNull(this.cacheManager.getCache("admin-unknown"));
+  }
+
+  @Test
+  public void givenAFailingClient_whenCallsGet_shouldThrowTheClientException() {
+    // given
+    final var expectedError = InternalErrorException.with("Timeout observed from categories");
+    this.cacheManager = cacheManager(new Client("admin-categories", id -> {
+      throw expectedError;
+    }));
+
+    final var cache = this.cacheManager.getCache("admin-categories");
+
+    // when
+    final var actualError = Assertions.assertThrows(RuntimeException.class,
+        () -> cache.get("1", () -> "unused"));
+
+    // then
+    Assertions.assertSame(expectedError, actualError);
+  }
+
+  private static SpringCache2kCacheManager cacheManager(final CachedClient<?>... clients) {
+    return new CacheConfig().cacheManager(properties(), provider(clients));
+  }
+
+  private static Cache2kProperties properties() {
+    final var categories = new CacheSpec();
+    categories.setMaxEntries(1_000);
+    categories.setTtl(300);
+
+    final var properties = new Cache2kProperties();
+    properties.setNames(List.of("admin-categories", "admin-videos"));
+    properties.setMaxEntries(200);
+    properties.setTtl(60);
+    properties.setSpecs(Map.of("admin-categories", categories));
+    return properties;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ObjectProvider<CachedClient<?>> provider(final CachedClient<?>... clients) {
+    final var beanFactory = new StaticListableBeanFactory();
+    for (final var client : clients) {
+      beanFactory.addBean(client.cacheName(), client);
+    }
+    return (ObjectProvider<CachedClient<?>>) (ObjectProvider<?>) beanFactory.getBeanProvider(
+        CachedClient.class);
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record Client(String cacheName, Function<String, Optional<String>> loader)
+      implements CachedClient<String> {
+
+    @Override
+    public Optional<String> load(final String id) {
+      return loader.apply(id);
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> loadAsync(final String id) {
+      return CompletableFuture.completedFuture(load(id));
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.fullcycle.catalogo.infrastructure.configuration.json;
+
+import com.fullcycle.catalogo.infrastructure.genre.models.GenreDTO;
+import com.fullcycle.catalogo.infrastructure.video.models.VideoEvent;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class JsonTest {
+
+  @ParameterizedTest
+  @EnumSource(Json.Accelerator.class)
+  public void givenAnAccelerator_whenWritesAndReadsARecord_shouldKeepItsValues(
+      final Json.Accelerator accelerator
+  ) throws Exception {
+    // given
+    final var mapper = Json.mapper(accelerator);
+    final var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    final var expectedGenre = new GenreDTO("123", "Tecnologia", false, Set.of("1", "2"), now, now,
+        null);
+
+    // when
+    final var json = mapper.writeValueAsString(expectedGenre);
+    final var actualGenre = mapper.readValue(json, GenreDTO.class);
+
+    // then
+    Assertions.assertEquals(expectedGenre, actualGenre);
+    Assertions.assertTrue(json.contains("\"categories_id\""));
+  }
+
+  @Test
+  public void givenNoSystemProperty_whenCallsMapper_shouldUseAfterburner() {
+    // given
+    final var expectedEvent = new VideoEvent("123");
+
+    // when
+    final var actualEvent = Json.readValue(Json.writeValueAsString(expectedEvent),
+        VideoEvent.class);
+
+    // then
+    Assertions.assertEquals(Json.Accelerator.AFTERBURNER, Json.Accelerator.fromSystemProperty());
+    Assertions.assertTrue(Json.mapper().getRegisteredModuleIds().stream()
+        .anyMatch(it -> it.toString().contains("Afterburner")));
+    Assertions.assertEquals(expectedEvent, actualEvent);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "blackbird,BLACKBIRD",
+      "' None ',NONE",
+      "'',AFTERBURNER",
+      "turbo,AFTERBURNER"
+  })
+  public void givenAPropertyValue_whenCallsOf_shouldPickTheAcceleratorOrTheDefault(
+      final String value,
+      final Json.Accelerator expectedAccelerator
+  ) {
+    // when
+    final var actualAccelerator = Json.Accelerator.of(value);
+
+    // then
+    Assertions.assertEquals(expectedAccelerator, actualAccelerator);
+  }
+}
@@ -0,0 +1,109 @@
+package com.fullcycle.catalogo.infrastructure.configuration.security;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtAuthenticationManagerTest {
+
+  private static final List<SimpleGrantedAuthority> AUTHORITIES =
+      List.of(new SimpleGrantedAuthority(Roles.ROLE_SUBSCRIBER));
+
+  @Mock
+  private JwtDecoder jwtDecoder;
+
+  private CachingJwtAuthenticationManager manager;
+
+  @BeforeEach
+  void setUp() {
+    this.manager = new CachingJwtAuthenticationManager(this.jwtDecoder,
+        jwt -> new JwtAuthenticationToken(jwt, AUTHORITIES, jwt.getSubject()), 100, 3600);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.manager.close();
+  }
+
+  @Test
+  public void givenATokenSentTwice_whenCallsAuthenticate_shouldDecodeItOnce() {
+    // given
+    final var expectedToken = "token-123";
+    doReturn(jwt(expectedToken, Instant.now().plusSeconds(300))).when(jwtDecoder).decode(expectedToken);
+
+    final var registry = new SimpleMeterRegistry();
+    this.manager.bindTo(registry);
+
+    // when
+    final var first = this.manager.authenticate(new BearerTokenAuthenticationToken(expectedToken));
+    final var second = this.manager.authenticate(new BearerTokenAuthenticationToken(expectedToken));
+
+    // then
+    Assertions.assertEquals("john", first.getName());
+    Assertions.assertEquals("john", second.getName());
+    Assertions.assertEquals(AUTHORITIES, List.copyOf(second.getAuthorities()));
+    Assertions.assertNotSame(first, second);
+    Assertions.assertEquals(1, this.manager.size());
+
+    verify(jwtDecoder, times(1)).decode(expectedToken);
+    Assertions.assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    Assertions.assertEquals(1.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+  }
+
+  @Test
+  public void givenAnExpiredToken_whenCallsAuthenticate_shouldNotCacheIt() {
+    // given
+    final var expectedToken = "token-123";
+    doReturn(jwt(expectedToken, Instant.now().minusSeconds(10))).when(jwtDecoder).decode(expectedToken);
+
+    // when
+    this.manager.authenticate(new BearerTokenAuthenticationToken(expectedToken));
+    this.manager.authenticate(new BearerTokenAuthenticationToken(expectedToken));
+
+    // then
+    Assertions.assertEquals(0, this.manager.size());
+    verify(jwtDecoder, times(2)).decode(expectedToken);
+  }
+
+  @Test
+  public void givenDifferentTokens_whenCallsAuthenticate_shouldDecodeEachOne() {
+    // given
+    doReturn(jwt("token-1", Instant.now().plusSeconds(300))).when(jwtDecoder).decode("token-1");
+    doReturn(jwt("token-2", Instant.now().plusSeconds(300))).when(jwtDecoder).decode("token-2");
+
+    // when
+    this.manager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+    this.manager.authenticate(new BearerTokenAuthenticationToken("token-2"));
+
+    // then
+    Assertions.assertEquals(2, this.manager.size());
+    verify(jwtDecoder, times(1)).decode("token-1");
+    verify(jwtDecoder, times(1)).decode("token-2");
+  }
+
+  private static Jwt jwt(final String token, final Instant expiresAt) {
+    return Jwt.withTokenValue(token)
+        .header("alg", "RS256")
+        .subject("john")
+        .issuedAt(expiresAt.minusSeconds(600))
+        .expiresAt(expiresAt)
+        .build();
+  }
+}
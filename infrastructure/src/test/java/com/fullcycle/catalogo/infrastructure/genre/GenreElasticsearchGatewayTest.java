@@ -77,6 +77,44 @@ public class GenreElasticsearchGatewayTest extends AbstractElasticsearchTest {
     Assertions.assertEquals(tech.deletedAt(), actualGenre.deletedAt());
   }
 
+  @Test
+  public void givenValidGenres_whenCallsSaveAll_shouldPersistThem() {
+    // given
+    final var expectedItems = List.of(Fixture.Genres.tech(), Fixture.Genres.business());
+
+    // when
+    final var actualOutput = this.genreGateway.saveAll(expectedItems);
+
+    // then
+    Assertions.assertEquals(expectedItems, actualOutput);
+    Assertions.assertEquals(expectedItems.size(), this.genreRepository.count());
+
+    expectedItems.forEach(it -> Assertions.assertTrue(this.genreRepository.existsById(it.id())));
+  }
+
+  @Test
+  public void givenValidIds_whenCallsDeleteAllById_shouldDeleteThem() {
+    // given
+    final var first = Fixture.Genres.tech();
+    final var second = Fixture.Genres.business();
+
+    this.genreRepository.saveAll(List.of(GenreDocument.from(first), GenreDocument.from(second)));
+
+    Assertions.assertEquals(2, this.genreRepository.count());
+
+    // when
+    this.genreGateway.deleteAllById(Set.of(first.id(), second.id()));
+
+    // then
+    Assertions.assertEquals(0, this.genreRepository.count());
+  }
+
+  @Test
+  public void givenEmptyIds_whenCallsDeleteAllById_shouldBeOk() {
+    // when/then
+    Assertions.assertDoesNotThrow(() -> this.genreGateway.deleteAllById(Set.of()));
+  }
+
   @Test
   public void givenValidId_whenCallsDeleteById_shouldDeleteIt() {
     // given
@@ -15,9 +15,13 @@ import com.fullcycle.catalogo.application.genre.get.GetAllGenresByIdUseCase;
 import com.fullcycle.catalogo.application.video.list.ListVideoUseCase;
 import com.fullcycle.catalogo.application.video.save.SaveVideoUseCase;
 import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.castmember.CastMember;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.genre.Genre;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
 import com.fullcycle.catalogo.domain.utils.IdUtils;
 import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.utils.SearchCursor;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
@@ -56,11 +60,12 @@ public class VideoGraphQLControllerTest {
     final var java21 = Fixture.Videos.java21();
     final var systemDesign = Fixture.Videos.systemDesign();
 
-    final var categories = List.of(
-        new GetAllCategoriesByIdUseCase.Output(Fixture.Categories.lives()));
-    final var castMembers = List.of(
-        new GetAllCastMembersByIdUseCase.Output(Fixture.CastMembers.gabriel()));
-    final var genres = List.of(new GetAllGenresByIdUseCase.Output(Fixture.Genres.tech()));
+    final var lives = categoryOutput("lives", Fixture.Categories.lives());
+    final var aulas = categoryOutput("aulas", Fixture.Categories.aulas());
+    final var gabriel = castMemberOutput("gabriel", Fixture.CastMembers.gabriel());
+    final var luiz = castMemberOutput("luiz", Fixture.CastMembers.wesley());
+    final var java = genreOutput("java", Fixture.Genres.tech());
+    final var systemDesignGenre = genreOutput("systemdesign", Fixture.Genres.business());
 
     final var expectedVideos = List.of(
         ListVideoUseCase.Output.from(java21),
@@ -82,9 +87,9 @@ public class VideoGraphQLControllerTest {
         .thenReturn(
             new Pagination<>(expectedPage, expectedPerPage, expectedVideos.size(), expectedVideos));
 
-    when(this.getAllCastMembersByIdUseCase.execute(any())).thenReturn(castMembers);
-    when(this.getAllCategoriesByIdUseCase.execute(any())).thenReturn(categories);
-    when(this.getAllGenresByIdUseCase.execute(any())).thenReturn(genres);
+    when(this.getAllCastMembersByIdUseCase.execute(any())).thenReturn(List.of(gabriel, luiz));
+    when(this.getAllCategoriesByIdUseCase.execute(any())).thenReturn(List.of(lives, aulas));
+    when(this.getAllGenresByIdUseCase.execute(any())).thenReturn(List.of(java, systemDesignGenre));
 
     final var query = """
         {
@@ -140,8 +145,10 @@ public class VideoGraphQLControllerTest {
         .get();
 
     // then
-    compareVideoOutput(categories, castMembers, genres, expectedVideos.get(0), actualVideos.get(0));
-    compareVideoOutput(categories, castMembers, genres, expectedVideos.get(1), actualVideos.get(1));
+    compareVideoOutput(List.of(lives), List.of(gabriel), List.of(java), expectedVideos.get(0),
+        actualVideos.get(0));
+    compareVideoOutput(List.of(aulas), List.of(luiz), List.of(systemDesignGenre),
+        expectedVideos.get(1), actualVideos.get(1));
 
     final var capturer = ArgumentCaptor.forClass(ListVideoUseCase.Input.class);
 
@@ -160,19 +167,33 @@ public class VideoGraphQLControllerTest {
     Assertions.assertEquals(expectedRating, actualQuery.rating());
 
     verify(this.getAllCastMembersByIdUseCase, times(1)).execute(
-        argThat(i -> i.ids().equals(java21.castMembers())));
-    verify(this.getAllCastMembersByIdUseCase, times(1)).execute(
-        argThat(i -> i.ids().equals(systemDesign.castMembers())));
+        argThat(i -> i.ids().equals(Set.of("gabriel", "luiz"))));
 
     verify(this.getAllCategoriesByIdUseCase, times(1)).execute(
-        argThat(i -> i.ids().equals(java21.categories())));
-    verify(this.getAllCategoriesByIdUseCase, times(1)).execute(
-        argThat(i -> i.ids().equals(systemDesign.categories())));
+        argThat(i -> i.ids().equals(Set.of("lives", "aulas"))));
 
     verify(this.getAllGenresByIdUseCase, times(1)).execute(
-        argThat(i -> i.ids().equals(java21.genres())));
-    verify(this.getAllGenresByIdUseCase, times(1)).execute(
-        argThat(i -> i.ids().equals(systemDesign.genres())));
+        argThat(i -> i.ids().equals(Set.of("java", "systemdesign"))));
+  }
+
+  private static GetAllCategoriesByIdUseCase.Output categoryOutput(
+      final String id,
+      final Category aCategory
+  ) {
+    return new GetAllCategoriesByIdUseCase.Output(id, aCategory.name(), aCategory.description());
+  }
+
+  private static GetAllCastMembersByIdUseCase.Output castMemberOutput(
+      final String id,
+      final CastMember aMember
+  ) {
+    return new GetAllCastMembersByIdUseCase.Output(id, aMember.name(), aMember.type(),
+        aMember.createdAt(), aMember.updatedAt());
+  }
+
+  private static GetAllGenresByIdUseCase.Output genreOutput(final String id, final Genre aGenre) {
+    return new GetAllGenresByIdUseCase.Output(id, aGenre.name(), aGenre.active(),
+        aGenre.categories(), aGenre.createdAt(), aGenre.updatedAt(), aGenre.deletedAt());
   }
 
   private static void compareVideoOutput(
@@ -287,6 +308,97 @@ public class VideoGraphQLControllerTest {
     Assertions.assertEquals(expectedRating, actualQuery.rating());
   }
 
+  @Test
+  public void givenAfterCursorWhenCallsListVideosShouldPageWithCursorsAndReturnThem() {
+    // given
+    record VideoCursorOutput(String id, String cursor) {
+
+    }
+
+    final var java21 = Fixture.Videos.java21();
+    final var systemDesign = Fixture.Videos.systemDesign();
+
+    final var expectedAfter = "eyJzZWFyY2hfYWZ0ZXIiOlsiYSIsIjEiXX0";
+    final var expectedFirst = 2;
+
+    final var expectedVideos = List.of(
+        new VideoCursorOutput(java21.id(),
+            new SearchCursor(List.of(java21.title(), java21.id())).encode()),
+        new VideoCursorOutput(systemDesign.id(),
+            new SearchCursor(List.of(systemDesign.title(), systemDesign.id())).encode())
+    );
+
+    when(this.listVideoUseCase.execute(any()))
+        .thenReturn(new Pagination<>(0, expectedFirst, 10,
+            List.of(ListVideoUseCase.Output.from(java21), ListVideoUseCase.Output.from(systemDesign))
+        ));
+
+    final var query = """
+        query AllVideos($after: String, $first: Int) {
+        
+          videos(after: $after, first: $first) {
+            id
+            cursor
+          }
+        }
+        """;
+
+    // when
+    final var res = this.graphql.document(query)
+        .variable("after", expectedAfter)
+        .variable("first", expectedFirst)
+        .execute();
+
+    final var actualVideos = res.path("videos")
+        .entityList(VideoCursorOutput.class)
+        .get();
+
+    // then
+    Assertions.assertEquals(expectedVideos, actualVideos);
+
+    final var capturer = ArgumentCaptor.forClass(ListVideoUseCase.Input.class);
+
+    verify(this.listVideoUseCase, times(1)).execute(capturer.capture());
+
+    final var actualQuery = capturer.getValue();
+    Assertions.assertEquals(expectedAfter, actualQuery.after());
+    Assertions.assertEquals(expectedFirst, actualQuery.perPage());
+  }
+
+  @Test
+  public void givenSelectedFieldsWhenCallsListVideosShouldPassThemToTheUseCase() {
+    // given
+    final var java21 = Fixture.Videos.java21();
+
+    final var expectedFields = Set.of("id", "title", "categories", "genres");
+
+    when(this.listVideoUseCase.execute(any()))
+        .thenReturn(new Pagination<>(0, 10, 1, List.of(ListVideoUseCase.Output.from(java21))));
+
+    final var query = """
+        {
+          videos {
+            id
+            title
+            categoriesId
+            genres {
+              id
+            }
+          }
+        }
+        """;
+
+    // when
+    this.graphql.document(query).execute();
+
+    // then
+    final var capturer = ArgumentCaptor.forClass(ListVideoUseCase.Input.class);
+
+    verify(this.listVideoUseCase, times(1)).execute(capturer.capture());
+
+    Assertions.assertEquals(expectedFields, capturer.getValue().fields());
+  }
+
   @Test
   public void givenVideoInput_whenCallsSaveVideoMutation_shouldPersistAndReturnId() {
     // given
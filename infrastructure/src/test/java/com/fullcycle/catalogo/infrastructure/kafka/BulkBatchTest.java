@@ -0,0 +1,234 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fullcycle.catalogo.application.category.save.SaveAllCategoriesUseCase;
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.exceptions.BulkNotificationException;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.BulkFailureException.FailureDetails;
+
+@ExtendWith(MockitoExtension.class)
+class BulkBatchTest {
+
+  private static final String LISTENER_ID = "kafka-listener-categories";
+
+  @Mock
+  private RetryTopicForwarder retryTopicForwarder;
+
+  @Captor
+  private ArgumentCaptor<Map<ConsumerRecord<String, byte[]>, Exception>> failures;
+
+  private final KeyOrderedExecutor executor = new KeyOrderedExecutor(4);
+
+  private final List<List<Category>> saved = new ArrayList<>();
+  private final List<Set<String>> deleted = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void givenRepeatedUpdatesOfSameId_whenCallsComplete_shouldLoadAndSaveItOnce() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+    final var loads = new AtomicInteger();
+    final Supplier<Optional<Category>> aulasLoader = () -> {
+      loads.incrementAndGet();
+      return Optional.of(aulas);
+    };
+
+    final var batch = newBatch();
+
+    // when
+    batch.save(record(0), aulas.id(), aulasLoader);
+    batch.save(record(1), aulas.id(), aulasLoader);
+    batch.save(record(2), lives.id(), () -> Optional.of(lives));
+    batch.save(record(3), aulas.id(), aulasLoader);
+    batch.complete();
+
+    // then
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertEquals(List.of(List.of(aulas, lives)), saved);
+    Assertions.assertTrue(deleted.isEmpty());
+  }
+
+  @Test
+  public void givenUpdateFollowedByDelete_whenCallsComplete_shouldOnlyDelete() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var loads = new AtomicInteger();
+
+    final var batch = newBatch();
+
+    // when
+    batch.save(record(0), aulas.id(), () -> {
+      loads.incrementAndGet();
+      return Optional.of(aulas);
+    });
+    batch.delete(record(1), aulas.id());
+    batch.complete();
+
+    // then
+    Assertions.assertEquals(0, loads.get());
+    Assertions.assertTrue(saved.isEmpty());
+    Assertions.assertEquals(List.of(Set.of(aulas.id())), deleted);
+  }
+
+  @Test
+  public void givenBulkItemFailure_whenCallsComplete_shouldForwardOnlyLastRecordOfThatId() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+    final var expectedRecord = record(2);
+
+    final var batch = new BulkBatch<Category>(retryTopicForwarder, executor, LISTENER_ID,
+        items -> {
+          throw new BulkFailureException("Bulk operation has failures",
+              Map.of(aulas.id(), new FailureDetails(429, "es_rejected_execution_exception")));
+        },
+        deleted::add);
+
+    // when
+    batch.save(record(0), aulas.id(), () -> Optional.of(aulas));
+    batch.save(record(1), lives.id(), () -> Optional.of(lives));
+    batch.save(expectedRecord, aulas.id(), () -> Optional.of(aulas));
+    batch.complete();
+
+    // then
+    verify(retryTopicForwarder).forward(eq(LISTENER_ID), failures.capture());
+    Assertions.assertEquals(Set.of(expectedRecord), failures.getValue().keySet());
+  }
+
+  @Test
+  public void givenInvalidEntity_whenCallsComplete_shouldForwardOnlyItsRecord() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+    final var expectedRecord = record(0);
+
+    final var batch = new BulkBatch<Category>(retryTopicForwarder, executor, LISTENER_ID,
+        items -> {
+          throw BulkNotificationException.with("Invalid categories",
+              Map.of(aulas.id(), Notification.create(new Error("'name' should not be empty"))));
+        },
+        deleted::add);
+
+    // when
+    batch.save(expectedRecord, aulas.id(), () -> Optional.of(aulas));
+    batch.save(record(1), lives.id(), () -> Optional.of(lives));
+    batch.complete();
+
+    // then
+    verify(retryTopicForwarder).forward(eq(LISTENER_ID), failures.capture());
+    Assertions.assertEquals(Set.of(expectedRecord), failures.getValue().keySet());
+  }
+
+  @Test
+  public void givenInvalidEntityAndBulkItemFailure_whenCallsComplete_shouldForwardBothRecords() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+    final var talks = Fixture.Categories.talks();
+    final var invalidAulas = Category.with(aulas.id(), "", aulas.description(), aulas.active(),
+        aulas.createdAt(), aulas.updatedAt(), aulas.deletedAt());
+    final var invalidRecord = record(0);
+    final var failedRecord = record(1);
+
+    final var categoryGateway = mock(CategoryGateway.class);
+    when(categoryGateway.saveAll(any()))
+        .thenThrow(new BulkFailureException("Bulk operation has failures",
+            Map.of(lives.id(), new FailureDetails(429, "es_rejected_execution_exception"))));
+
+    final var saveAllCategoriesUseCase = new SaveAllCategoriesUseCase(categoryGateway);
+    final var batch = new BulkBatch<Category>(retryTopicForwarder, executor, LISTENER_ID,
+        saveAllCategoriesUseCase::execute, deleted::add);
+
+    // when
+    batch.save(invalidRecord, aulas.id(), () -> Optional.of(invalidAulas));
+    batch.save(failedRecord, lives.id(), () -> Optional.of(lives));
+    batch.save(record(2), talks.id(), () -> Optional.of(talks));
+    batch.complete();
+
+    // then
+    verify(retryTopicForwarder).forward(eq(LISTENER_ID), failures.capture());
+    Assertions.assertEquals(Set.of(invalidRecord, failedRecord), failures.getValue().keySet());
+    Assertions.assertInstanceOf(BulkNotificationException.class,
+        failures.getValue().get(invalidRecord));
+    Assertions.assertInstanceOf(BulkFailureException.class,
+        failures.getValue().get(failedRecord));
+  }
+
+  @Test
+  public void givenLoaderFailure_whenCallsComplete_shouldForwardItAndSaveTheOthers() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+    final var expectedRecord = record(0);
+
+    final var batch = newBatch();
+
+    // when
+    batch.save(expectedRecord, aulas.id(), () -> {
+      throw new IllegalStateException("admin unavailable");
+    });
+    batch.save(record(1), lives.id(), () -> Optional.of(lives));
+    batch.complete();
+
+    // then
+    Assertions.assertEquals(List.of(List.of(lives)), saved);
+    verify(retryTopicForwarder).forward(eq(LISTENER_ID), failures.capture());
+    Assertions.assertEquals(Set.of(expectedRecord), failures.getValue().keySet());
+  }
+
+  @Test
+  public void givenNoFailures_whenCallsComplete_shouldForwardNothing() {
+    // given
+    final var batch = newBatch();
+
+    // when
+    batch.delete(record(0), "123");
+    batch.complete();
+
+    // then
+    verify(retryTopicForwarder).forward(eq(LISTENER_ID), failures.capture());
+    Assertions.assertTrue(failures.getValue().isEmpty());
+    Assertions.assertEquals(List.of(Set.of("123")), deleted);
+  }
+
+  private BulkBatch<Category> newBatch() {
+    return new BulkBatch<>(retryTopicForwarder, executor, LISTENER_ID, saved::add, deleted::add);
+  }
+
+  private static ConsumerRecord<String, byte[]> record(final long offset) {
+    return new ConsumerRecord<>("adm_videos_mysql.adm_videos.categories", 0, offset, null,
+        "{}".getBytes(StandardCharsets.UTF_8));
+  }
+}
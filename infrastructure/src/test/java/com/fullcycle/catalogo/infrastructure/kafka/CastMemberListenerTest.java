@@ -16,6 +16,7 @@ import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.ValuePayload;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -105,7 +106,7 @@ class CastMemberListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
-    verify(castMemberListener, times(expectedMaxAttempts)).onMessage(eq(message), metadata.capture());
+    verify(castMemberListener, times(expectedMaxAttempts)).onMessage(eq(message.getBytes(StandardCharsets.UTF_8)), metadata.capture());
 
     final var allMetas = metadata.getAllValues();
     Assertions.assertEquals(expectedMainTopic, allMetas.get(0).topic());
@@ -113,7 +114,7 @@ class CastMemberListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertEquals(expectedRetry1Topic, allMetas.get(2).topic());
     Assertions.assertEquals(expectedRetry2Topic, allMetas.get(3).topic());
 
-    verify(castMemberListener, times(expectedMaxDLTAttempts)).onDLTMessage(eq(message), metadata.capture());
+    verify(castMemberListener, times(expectedMaxDLTAttempts)).onDLTMessage(eq(message.getBytes(StandardCharsets.UTF_8)), metadata.capture());
 
     Assertions.assertEquals(expectedDLTTopic, metadata.getValue().topic());
   }
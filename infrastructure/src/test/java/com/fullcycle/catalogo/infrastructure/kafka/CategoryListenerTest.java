@@ -1,9 +1,11 @@
 package com.fullcycle.catalogo.infrastructure.kafka;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -11,15 +13,19 @@ import com.fullcycle.catalogo.AbstractEmbeddedKafkaTest;
 import com.fullcycle.catalogo.application.category.delete.DeleteCategoryUseCase;
 import com.fullcycle.catalogo.application.category.save.SaveCategoryUseCase;
 import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.infrastructure.category.CategoryClient;
 import com.fullcycle.catalogo.infrastructure.category.models.CategoryEvent;
 import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.ValuePayload;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -108,7 +114,7 @@ public class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
-    verify(categoryListener, times(expectedMaxAttempts)).onMessage(eq(message), metadata.capture());
+    verify(categoryListener, times(expectedMaxAttempts)).onMessage(eq(message.getBytes(StandardCharsets.UTF_8)), metadata.capture());
 
     final var allMetas = metadata.getAllValues();
     Assertions.assertEquals(expectedMainTopic, allMetas.get(0).topic());
@@ -116,7 +122,7 @@ public class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertEquals(expectedRetry1Topic, allMetas.get(2).topic());
     Assertions.assertEquals(expectedRetry2Topic, allMetas.get(3).topic());
 
-    verify(categoryListener, times(expectedMaxDLTAttempts)).onDLTMessage(eq(message),
+    verify(categoryListener, times(expectedMaxDLTAttempts)).onDLTMessage(eq(message.getBytes(StandardCharsets.UTF_8)),
         metadata.capture());
 
     Assertions.assertEquals(expectedDLTTopic, metadata.getValue().topic());
@@ -147,6 +153,7 @@ public class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
+    verify(categoryClient, times(1)).reloadCategoriesOfIds(eq(Set.of(aulas.id())));
     verify(categoryClient, times(1)).categoryOfId(eq(aulas.id()));
 
     verify(saveCategoryUseCase, times(1)).execute(eq(aulas));
@@ -182,6 +189,43 @@ public class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
     verify(saveCategoryUseCase, times(1)).execute(eq(aulas));
   }
 
+  @Test
+  public void givenCompleteRowImageWhenProcessUpdateShouldNotCallAdminApi() throws Exception {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var aulasEvent = CategoryEvent.from(aulas);
+
+    final var message =
+        Json.writeValueAsString(new MessageValue<>(
+            new ValuePayload<>(aulasEvent, aulasEvent, aSource(), Operation.UPDATE)));
+
+    final var actualCategory = new AtomicReference<Category>();
+    final var latch = new CountDownLatch(1);
+
+    doAnswer(t -> {
+      actualCategory.set(t.getArgument(0));
+      latch.countDown();
+      return aulas;
+    }).when(saveCategoryUseCase).execute(any());
+
+    // when
+    producer().send(new ProducerRecord<>(categoryTopic, message)).get(10, TimeUnit.SECONDS);
+
+    Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
+
+    // then
+    verify(categoryClient, never()).categoryOfId(any());
+    verify(categoryClient, times(1)).cacheCategory(argThat(it -> aulas.id().equals(it.id())));
+    verify(categoryClient, never()).reloadCategoriesOfIds(any());
+
+    Assertions.assertEquals(aulas.id(), actualCategory.get().id());
+    Assertions.assertEquals(aulas.name(), actualCategory.get().name());
+    Assertions.assertEquals(aulas.description(), actualCategory.get().description());
+    Assertions.assertEquals(aulas.active(), actualCategory.get().active());
+    Assertions.assertEquals(aulas.createdAt(), actualCategory.get().createdAt());
+    Assertions.assertEquals(aulas.updatedAt(), actualCategory.get().updatedAt());
+  }
+
   @Test
   public void givenDeleteOperationWhenProcessGoesOKShouldEndTheOperation() throws Exception {
     // given
@@ -205,6 +249,7 @@ public class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
+    verify(categoryClient, times(1)).forgetCategoryOfId(eq(aulas.id()));
     verify(deleteCategoryUseCase, times(1)).execute(eq(aulas.id()));
   }
 }
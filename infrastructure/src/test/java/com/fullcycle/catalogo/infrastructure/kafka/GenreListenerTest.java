@@ -20,7 +20,9 @@ import com.fullcycle.catalogo.infrastructure.genre.models.GenreEvent;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
 import com.fullcycle.catalogo.infrastructure.kafka.models.connect.ValuePayload;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -112,7 +114,7 @@ class GenreListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
-    verify(genreListener, times(expectedMaxAttempts)).onMessage(eq(message), metadata.capture());
+    verify(genreListener, times(expectedMaxAttempts)).onMessage(eq(message.getBytes(StandardCharsets.UTF_8)), metadata.capture());
 
     final var allMetas = metadata.getAllValues();
     Assertions.assertEquals(expectedMainTopic, allMetas.get(0).topic());
@@ -120,7 +122,7 @@ class GenreListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertEquals(expectedRetry1Topic, allMetas.get(2).topic());
     Assertions.assertEquals(expectedRetry2Topic, allMetas.get(3).topic());
 
-    verify(genreListener, times(expectedMaxDLTAttempts)).onDLTMessage(eq(message), metadata.capture());
+    verify(genreListener, times(expectedMaxDLTAttempts)).onDLTMessage(eq(message.getBytes(StandardCharsets.UTF_8)), metadata.capture());
 
     Assertions.assertEquals(expectedDLTTopic, metadata.getValue().topic());
   }
@@ -149,6 +151,7 @@ class GenreListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
+    verify(genreClient, times(1)).reloadGenresOfIds(eq(Set.of(tech.id())));
     verify(genreClient, times(1)).genreOfId(eq(tech.id()));
 
     verify(saveGenreUseCase, times(1)).execute(refEq(new SaveGenreUseCase.Input(
@@ -221,6 +224,7 @@ class GenreListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
+    verify(genreClient, times(1)).forgetGenreOfId(eq(tech.id()));
     verify(deleteGenreUseCase, times(1)).execute(eq(new DeleteGenreUseCase.Input(tech.id())));
   }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class KeyOrderedExecutorTest {
+
+  private final KeyOrderedExecutor executor = new KeyOrderedExecutor(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void givenItemsOfSameKey_whenCallsExecute_shouldKeepTheirOrder() {
+    // given
+    final var items = new ArrayList<String>();
+    for (int i = 0; i < 100; i++) {
+      items.add((i % 3) + ":" + i);
+    }
+
+    final Map<String, List<String>> processed = new ConcurrentHashMap<>();
+
+    // when
+    executor.execute(items, it -> it.split(":")[0], it -> processed
+        .computeIfAbsent(it.split(":")[0], k -> Collections.synchronizedList(new ArrayList<>()))
+        .add(it));
+
+    // then
+    Assertions.assertEquals(3, processed.size());
+    processed.forEach((key, actual) -> Assertions.assertEquals(
+        items.stream().filter(it -> it.startsWith(key + ":")).toList(), actual));
+  }
+
+  @Test
+  public void givenItemsOfDifferentKeys_whenCallsExecute_shouldRunThemInParallel() {
+    // given
+    final var latch = new CountDownLatch(2);
+
+    // when
+    executor.execute(List.of("1", "2"), it -> it, it -> {
+      latch.countDown();
+      try {
+        // each item waits for the other one, it only completes if both run at the same time
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    // then
+    Assertions.assertEquals(0, latch.getCount());
+  }
+}
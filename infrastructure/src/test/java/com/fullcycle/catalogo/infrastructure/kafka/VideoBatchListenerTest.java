@@ -0,0 +1,203 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fullcycle.catalogo.AbstractEmbeddedKafkaTest;
+import com.fullcycle.catalogo.application.video.delete.DeleteAllVideosUseCase;
+import com.fullcycle.catalogo.application.video.delete.DeleteVideoUseCase;
+import com.fullcycle.catalogo.application.video.save.SaveAllVideosUseCase;
+import com.fullcycle.catalogo.application.video.save.SaveVideoUseCase;
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.video.Video;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.MessageValue;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.ValuePayload;
+import com.fullcycle.catalogo.infrastructure.video.VideoClient;
+import com.fullcycle.catalogo.infrastructure.video.models.ImageResourceDTO;
+import com.fullcycle.catalogo.infrastructure.video.models.VideoDTO;
+import com.fullcycle.catalogo.infrastructure.video.models.VideoEvent;
+import com.fullcycle.catalogo.infrastructure.video.models.VideoResourceDTO;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.BulkFailureException.FailureDetails;
+import org.springframework.kafka.listener.adapter.ConsumerRecordMetadata;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "kafka.batch-listener=true")
+class VideoBatchListenerTest extends AbstractEmbeddedKafkaTest {
+
+  @MockBean
+  private DeleteVideoUseCase deleteVideoUseCase;
+
+  @MockBean
+  private SaveVideoUseCase saveVideoUseCase;
+
+  @MockBean
+  private DeleteAllVideosUseCase deleteAllVideosUseCase;
+
+  @MockBean
+  private SaveAllVideosUseCase saveAllVideosUseCase;
+
+  @MockBean
+  private VideoClient videoClient;
+
+  @SpyBean
+  private VideoListener videoListener;
+
+  @Value("${kafka.consumers.videos.topics}")
+  private String videoTopics;
+
+  @Captor
+  private ArgumentCaptor<ConsumerRecordMetadata> metadata;
+
+  @Test
+  public void givenUpdatesAndDeletesWhenBatchModeIsEnabledThenShouldUseBulkOperations()
+      throws Exception {
+    // given
+    final var java21 = Fixture.Videos.java21();
+    final var golang = Fixture.Videos.golang();
+    final var systemDesign = Fixture.Videos.systemDesign();
+
+    final var expectedSavedIds = Set.of(java21.id(), golang.id());
+    final var expectedDeletedIds = Set.of(systemDesign.id());
+
+    final var savedIds = ConcurrentHashMap.<String>newKeySet();
+    final var deletedIds = ConcurrentHashMap.<String>newKeySet();
+    final var latch = new CountDownLatch(3);
+
+    doAnswer(t -> {
+      final List<Video> videos = t.getArgument(0);
+      videos.forEach(it -> {
+        savedIds.add(it.id());
+        latch.countDown();
+      });
+      return videos;
+    }).when(saveAllVideosUseCase).execute(any());
+
+    doAnswer(t -> {
+      final Set<String> ids = t.getArgument(0);
+      ids.forEach(it -> {
+        deletedIds.add(it);
+        latch.countDown();
+      });
+      return null;
+    }).when(deleteAllVideosUseCase).execute(any());
+
+    doReturn(Optional.of(videoDto(java21))).when(videoClient).videoOfId(eq(java21.id()));
+    doReturn(Optional.of(videoDto(golang))).when(videoClient).videoOfId(eq(golang.id()));
+
+    // when
+    producer().send(new ProducerRecord<>(videoTopics, message(java21, Operation.UPDATE)));
+    producer().send(new ProducerRecord<>(videoTopics, message(golang, Operation.CREATE)));
+    producer().send(new ProducerRecord<>(videoTopics, message(systemDesign, Operation.DELETE)))
+        .get(10, TimeUnit.SECONDS);
+
+    Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
+
+    // then
+    Assertions.assertEquals(expectedSavedIds, savedIds);
+    Assertions.assertEquals(expectedDeletedIds, deletedIds);
+
+    verify(saveVideoUseCase, never()).execute(any());
+    verify(deleteVideoUseCase, never()).execute(any());
+    verify(videoListener, never()).onMessage(any(), any());
+  }
+
+  @Test
+  public void givenBulkItemFailureWhenBatchModeIsEnabledThenShouldForwardItToRetryTopic()
+      throws Exception {
+    // given
+    final var expectedRetry0Topic = "adm_videos_mysql.adm_videos.videos-retry-0";
+
+    final var java21 = Fixture.Videos.java21();
+    final var message = message(java21, Operation.UPDATE);
+
+    final var latch = new CountDownLatch(1);
+
+    doAnswer(t -> {
+      throw new BulkFailureException("Bulk operation has failures",
+          Map.of(java21.id(), new FailureDetails(429, "es_rejected_execution_exception")));
+    }).when(saveAllVideosUseCase).execute(anyList());
+
+    doAnswer(t -> {
+      latch.countDown();
+      return new SaveVideoUseCase.Output(java21.id());
+    }).when(saveVideoUseCase).execute(any());
+
+    doReturn(Optional.of(videoDto(java21))).when(videoClient).videoOfId(eq(java21.id()));
+
+    // when
+    producer().send(new ProducerRecord<>(videoTopics, message)).get(10, TimeUnit.SECONDS);
+
+    Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
+
+    // then
+    verify(videoListener, times(1)).onMessage(eq(message.getBytes(StandardCharsets.UTF_8)), metadata.capture());
+    Assertions.assertEquals(expectedRetry0Topic, metadata.getValue().topic());
+  }
+
+  private String message(final Video aVideo, final Operation op) {
+    final var event = new VideoEvent(aVideo.id());
+    return Operation.isDelete(op)
+        ? Json.writeValueAsString(
+            new MessageValue<>(new ValuePayload<>(null, event, aSource(), op)))
+        : Json.writeValueAsString(
+            new MessageValue<>(new ValuePayload<>(event, null, aSource(), op)));
+  }
+
+  private static VideoDTO videoDto(final Video aVideo) {
+    return new VideoDTO(
+        aVideo.id(),
+        aVideo.title(),
+        aVideo.description(),
+        aVideo.launchedAt().getValue(),
+        aVideo.rating().getName(),
+        aVideo.duration(),
+        aVideo.opened(),
+        aVideo.published(),
+        videoResourceDTO(aVideo.video()),
+        videoResourceDTO(aVideo.trailer()),
+        imageResourceDTO(aVideo.banner()),
+        imageResourceDTO(aVideo.thumbnail()),
+        imageResourceDTO(aVideo.thumbnailHalf()),
+        aVideo.categories(),
+        aVideo.castMembers(),
+        aVideo.genres(),
+        aVideo.createdAt().toString(),
+        aVideo.updatedAt().toString()
+    );
+  }
+
+  private static VideoResourceDTO videoResourceDTO(final String data) {
+    return new VideoResourceDTO(IdUtils.uniqueId(), IdUtils.uniqueId(), data, data, data,
+        "processed");
+  }
+
+  private static ImageResourceDTO imageResourceDTO(final String data) {
+    return new ImageResourceDTO(IdUtils.uniqueId(), IdUtils.uniqueId(), data, data);
+  }
+}
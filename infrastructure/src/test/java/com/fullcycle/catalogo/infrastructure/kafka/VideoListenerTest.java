@@ -23,7 +23,9 @@ import com.fullcycle.catalogo.infrastructure.video.models.ImageResourceDTO;
 import com.fullcycle.catalogo.infrastructure.video.models.VideoDTO;
 import com.fullcycle.catalogo.infrastructure.video.models.VideoEvent;
 import com.fullcycle.catalogo.infrastructure.video.models.VideoResourceDTO;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -116,7 +118,7 @@ class VideoListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
-    verify(videoListener, times(expectedMaxAttempts)).onMessage(eq(message), metadata.capture());
+    verify(videoListener, times(expectedMaxAttempts)).onMessage(eq(message.getBytes(StandardCharsets.UTF_8)), metadata.capture());
 
     final var allMetas = metadata.getAllValues();
     Assertions.assertEquals(expectedMainTopic, allMetas.get(0).topic());
@@ -124,7 +126,7 @@ class VideoListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertEquals(expectedRetry1Topic, allMetas.get(2).topic());
     Assertions.assertEquals(expectedRetry2Topic, allMetas.get(3).topic());
 
-    verify(videoListener, times(expectedMaxDLTAttempts)).onDLTMessage(eq(message),
+    verify(videoListener, times(expectedMaxDLTAttempts)).onDLTMessage(eq(message.getBytes(StandardCharsets.UTF_8)),
         metadata.capture());
 
     Assertions.assertEquals(expectedDLTTopic, metadata.getValue().topic());
@@ -156,6 +158,7 @@ class VideoListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
+    verify(videoClient, times(1)).reloadVideosOfIds(eq(Set.of(golang.id())));
     verify(videoClient, times(1)).videoOfId(eq(golang.id()));
 
     verify(saveVideoUseCase, times(1)).execute(refEq(new SaveVideoUseCase.Input(
@@ -252,6 +255,7 @@ class VideoListenerTest extends AbstractEmbeddedKafkaTest {
     Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
     // then
+    verify(videoClient, times(1)).forgetVideoOfId(eq(golang.id()));
     verify(deleteVideoUseCase, times(1)).execute(eq(new DeleteVideoUseCase.Input(golang.id())));
   }
 
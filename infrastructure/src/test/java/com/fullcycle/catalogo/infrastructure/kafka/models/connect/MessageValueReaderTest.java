@@ -0,0 +1,101 @@
+package com.fullcycle.catalogo.infrastructure.kafka.models.connect;
+
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.catalogo.infrastructure.video.models.VideoEvent;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MessageValueReaderTest {
+
+  private static final String SCHEMA = """
+      {"type":"struct","fields":[{"type":"string","optional":false,"field":"op"}],\
+      "optional":false,"name":"adm_videos_mysql.adm_videos.videos.Envelope"}""";
+
+  private final MessageValueReader<VideoEvent> reader =
+      MessageValueReader.of(VideoEvent.class, VideoEvent::new);
+
+  @Test
+  public void givenAnUpdateEnvelope_whenCallsRead_shouldBindAfterAndTheIdOfBefore() {
+    // given
+    final var expectedAfter = VideoEvent.from(Fixture.Videos.systemDesign());
+    final var before = new VideoEvent(expectedAfter.id(), "old title", null, 2020, false, false,
+        "L", "10.0", 1L, 1L);
+
+    final var envelope = envelope(SCHEMA,
+        new ValuePayload<>(expectedAfter, before, aSource(), Operation.UPDATE));
+
+    // when
+    final var actualPayload = this.reader.read(envelope).payload();
+
+    // then
+    Assertions.assertEquals(Operation.UPDATE, actualPayload.operation());
+    Assertions.assertEquals(expectedAfter, actualPayload.after());
+    Assertions.assertEquals(new VideoEvent(expectedAfter.id()), actualPayload.before());
+    Assertions.assertNull(actualPayload.source());
+  }
+
+  @Test
+  public void givenADeleteEnvelope_whenCallsRead_shouldBindTheIdOfBefore() {
+    // given
+    final var expectedId = "123";
+    final var before = VideoEvent.from(Fixture.Videos.java21());
+
+    final var envelope = envelope(null, new ValuePayload<>(null,
+        new VideoEvent(expectedId, before.title(), before.description(), before.yearLaunched(),
+            before.opened(), before.published(), before.rating(), before.duration(),
+            before.createdAt(), before.updatedAt()),
+        aSource(), Operation.DELETE));
+
+    // when
+    final var actualPayload = this.reader.read(envelope).payload();
+
+    // then
+    Assertions.assertEquals(Operation.DELETE, actualPayload.operation());
+    Assertions.assertEquals(new VideoEvent(expectedId), actualPayload.before());
+    Assertions.assertNull(actualPayload.after());
+  }
+
+  @Test
+  public void givenAnEnvelopeWithOpFirst_whenCallsRead_shouldSkipTheRowsTheOpDoesNotUse() {
+    // given
+    final var expectedAfter = VideoEvent.from(Fixture.Videos.golang());
+    final var envelope = """
+        {"payload":{"op":"c","before":{"id":"1","title":"skipped"},"after":%s,\
+        "source":{"name":"admin_mysql","db":"admin_catalogo","table":"videos"}}}"""
+        .formatted(Json.writeValueAsString(expectedAfter))
+        .getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final var actualPayload = this.reader.read(envelope).payload();
+
+    // then
+    Assertions.assertEquals(Operation.CREATE, actualPayload.operation());
+    Assertions.assertEquals(expectedAfter, actualPayload.after());
+    Assertions.assertNull(actualPayload.before());
+  }
+
+  @Test
+  public void givenAnEnvelopeWithoutPayload_whenCallsRead_shouldReturnAnEmptyMessage() {
+    // given
+    final var envelope = "{\"schema\":%s}".formatted(SCHEMA).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final var actualMessage = this.reader.read(envelope);
+
+    // then
+    Assertions.assertNull(actualMessage.payload());
+  }
+
+  private static byte[] envelope(final String schema, final ValuePayload<VideoEvent> payload) {
+    final var json = schema == null
+        ? Json.writeValueAsString(new MessageValue<>(payload))
+        : "{\"schema\":%s,\"payload\":%s}".formatted(schema, Json.writeValueAsString(payload));
+    return json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Source aSource() {
+    return new Source("admin_mysql", "admin_catalogo", "videos");
+  }
+}
@@ -0,0 +1,143 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AimdLimiterTest {
+
+  @Test
+  public void givenAnInitialLimitOutOfBounds_whenCreated_shouldClampTheLimit() {
+    // given
+    final var bulkhead = bulkhead(25);
+
+    // when
+    final var target = new AimdLimiter(bulkhead, 1, 10, 0.9, TimeUnit.SECONDS.toNanos(1));
+
+    // then
+    Assertions.assertEquals(10, target.limit());
+    Assertions.assertEquals(25, bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+  }
+
+  @Test
+  public void givenFastCallsUsingTheLimit_whenSampled_shouldRaiseTheLimitUpToTheMax() {
+    // given
+    final var target = new AimdLimiter(bulkhead(4), 1, 6, 0.9, TimeUnit.SECONDS.toNanos(1));
+
+    // when
+    target.onSample(2, false);
+    target.onSample(3, false);
+    target.onSample(3, false);
+
+    // then
+    Assertions.assertEquals(6, target.limit());
+  }
+
+  @Test
+  public void givenFastCallsFarFromTheLimit_whenSampled_shouldKeepTheLimit() {
+    // given
+    final var target = new AimdLimiter(bulkhead(10), 1, 20, 0.9, TimeUnit.SECONDS.toNanos(1));
+
+    // when
+    target.onSample(1, false);
+    target.onSample(4, false);
+
+    // then
+    Assertions.assertEquals(10, target.limit());
+  }
+
+  @Test
+  public void givenAFailingCall_whenExecuted_shouldBackOffTheLimitAndReleaseThePermit() {
+    // given
+    final var bulkhead = bulkhead(10);
+    final var target = new AimdLimiter(bulkhead, 1, 20, 0.5, TimeUnit.SECONDS.toNanos(1));
+    final var expectedError = InternalErrorException.with("Error observed from fake");
+
+    // when
+    final var actualError = Assertions.assertThrows(InternalErrorException.class,
+        () -> target.execute(() -> {
+          throw expectedError;
+        }));
+
+    // then
+    Assertions.assertSame(expectedError, actualError);
+    Assertions.assertEquals(5, target.limit());
+    Assertions.assertEquals(0, target.inFlight());
+    Assertions.assertEquals(20, bulkhead.getMetrics().getAvailableConcurrentCalls());
+  }
+
+  @Test
+  public void givenASlowCall_whenExecuted_shouldBackOffTheLimitDownToTheMin() throws Throwable {
+    // given
+    final var target = new AimdLimiter(bulkhead(2), 2, 20, 0.5, 0);
+
+    // when
+    final var actualResult = target.execute(() -> "slow");
+
+    // then
+    Assertions.assertEquals("slow", actualResult);
+    Assertions.assertEquals(2, target.limit());
+  }
+
+  @Test
+  public void givenTheLimitInUse_whenExecuted_shouldRejectTheCall() {
+    // given
+    final var target = new AimdLimiter(bulkhead(1), 1, 1, 0.9, TimeUnit.SECONDS.toNanos(1));
+
+    // when
+    final var actualError = Assertions.assertThrows(BulkheadFullException.class,
+        () -> target.execute(() -> target.execute(() -> "resource")));
+
+    // then
+    Assertions.assertEquals("Bulkhead 'fake' is full and does not permit further calls",
+        actualError.getMessage());
+    Assertions.assertEquals(0, target.inFlight());
+  }
+
+  @Test
+  public void givenTheBulkheadInUse_whenExecuted_shouldRejectTheCall() {
+    // given
+    final var bulkhead = bulkhead(1);
+    final var target = new AimdLimiter(bulkhead, 1, 1, 0.9, TimeUnit.SECONDS.toNanos(1));
+    bulkhead.acquirePermission();
+
+    // when
+    final var actualError = Assertions.assertThrows(BulkheadFullException.class,
+        () -> target.execute(() -> "resource"));
+
+    // then
+    Assertions.assertEquals("Bulkhead 'fake' is full and does not permit further calls",
+        actualError.getMessage());
+    Assertions.assertEquals(0, target.inFlight());
+  }
+
+  @Test
+  public void givenCallsInFlight_whenTheLimitShrinks_shouldNotWaitForThemToComplete()
+      throws Throwable {
+    // given
+    final var target = new AimdLimiter(bulkhead(4), 1, 4, 0.5, TimeUnit.SECONDS.toNanos(1));
+
+    // when
+    final var actualResult = target.execute(() -> target.execute(() -> target.execute(() -> {
+      target.onSample(3, true);
+      return Assertions.assertThrows(BulkheadFullException.class,
+          () -> target.execute(() -> "resource"));
+    })));
+
+    // then
+    Assertions.assertNotNull(actualResult);
+    Assertions.assertEquals(0, target.inFlight());
+  }
+
+  private static Bulkhead bulkhead(final int maxConcurrentCalls) {
+    return Bulkhead.of("fake", BulkheadConfig.custom()
+        .maxConcurrentCalls(maxConcurrentCalls)
+        .maxWaitDuration(Duration.ZERO)
+        .build());
+  }
+}
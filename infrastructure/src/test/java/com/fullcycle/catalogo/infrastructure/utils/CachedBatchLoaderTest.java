@@ -0,0 +1,264 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class CachedBatchLoaderTest {
+
+  private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+  private final StaticListableBeanFactory clients = new StaticListableBeanFactory();
+  private final CachedBatchLoader target = new CachedBatchLoader(this.cacheManager, provider(), 4);
+
+  @AfterEach
+  void tearDown() {
+    this.target.destroy();
+  }
+
+  @Test
+  public void givenCachedAndMissingIds_whenCallsLoadAll_shouldFetchOnlyTheMisses() {
+    // given
+    final var client = new FakeClient(Map.of("2", "resource 2", "3", "resource 3"), null);
+    this.cacheManager.getCache(client.cacheName()).put("1", "cached 1");
+
+    // when
+    final var actualResources = this.target.loadAll(client, Set.of("1", "2", "3", "4"));
+
+    // then
+    Assertions.assertEquals(
+        Map.of("1", "cached 1", "2", "resource 2", "3", "resource 3"), actualResources);
+    Assertions.assertEquals(Set.of("2", "3", "4"), client.loaded.keySet());
+
+    final var cache = this.cacheManager.getCache(client.cacheName());
+    Assertions.assertEquals("resource 2", cache.get("2").get());
+    Assertions.assertNull(cache.get("4").get());
+  }
+
+  @Test
+  public void givenABulkEndpoint_whenCallsLoadAll_shouldFetchTheMissesInOneRequest() {
+    // given
+    final var client = new FakeClient(Map.of("2", "resource 2"), Map.of("2", "bulk 2"));
+    this.clients.addBean("fakeClient", client);
+
+    // when
+    final var actualResources = this.target.loadAll(client, Set.of("1", "2"));
+
+    // then
+    Assertions.assertEquals(Map.of("2", "bulk 2"), actualResources);
+    Assertions.assertEquals(1, client.bulkRequests);
+    Assertions.assertTrue(client.loaded.isEmpty());
+
+    final var cache = this.cacheManager.getCache(client.cacheName());
+    Assertions.assertEquals("bulk 2", cache.get("2").get());
+    Assertions.assertNull(cache.get("1").get());
+  }
+
+  @Test
+  public void givenAFailingFetch_whenCallsLoadAll_shouldCacheTheOthersAndThrow() {
+    // given
+    final var expectedError = InternalErrorException.with("Error observed from fake");
+    final var client = new FakeClient(Map.of("2", "resource 2"), null) {
+      @Override
+      public Optional<String> load(final String id) {
+        if ("1".equals(id)) {
+          throw expectedError;
+        }
+        return super.load(id);
+      }
+    };
+
+    // when
+    final var actualError = Assertions.assertThrows(InternalErrorException.class,
+        () -> this.target.loadAll(client, Set.of("1", "2")));
+
+    // then
+    Assertions.assertSame(expectedError, actualError);
+
+    final var cache = this.cacheManager.getCache(client.cacheName());
+    Assertions.assertNull(cache.get("1"));
+    Assertions.assertEquals("resource 2", cache.get("2").get());
+  }
+
+  @Test
+  public void givenCachedIds_whenCallsReloadAll_shouldReplaceTheirCachedCopies() {
+    // given
+    final var client = new FakeClient(Map.of("1", "resource 1"), null);
+    final var cache = this.cacheManager.getCache(client.cacheName());
+    cache.put("1", "cached 1");
+    cache.put("2", "cached 2");
+
+    // when
+    this.target.reloadAll(client, Set.of("1", "2"));
+
+    // then
+    Assertions.assertEquals(Set.of("1", "2"), client.loaded.keySet());
+    Assertions.assertEquals("resource 1", cache.get("1").get());
+    Assertions.assertNull(cache.get("2").get());
+  }
+
+  @Test
+  public void givenAFailingFetch_whenCallsReloadAll_shouldEvictOnlyItsId() {
+    // given
+    final var client = new FakeClient(Map.of("2", "resource 2"), null) {
+      @Override
+      public Optional<String> load(final String id) {
+        if ("1".equals(id)) {
+          throw InternalErrorException.with("Error observed from fake");
+        }
+        return super.load(id);
+      }
+    };
+    final var cache = this.cacheManager.getCache(client.cacheName());
+    cache.put("1", "cached 1");
+    cache.put("2", "cached 2");
+
+    // when
+    this.target.reloadAll(client, Set.of("1", "2"));
+
+    // then
+    Assertions.assertNull(cache.get("1"));
+    Assertions.assertEquals("resource 2", cache.get("2").get());
+  }
+
+  @Test
+  public void givenAFailingBulkEndpoint_whenCallsReloadAll_shouldEvictTheIds() {
+    // given
+    final var client = new FakeClient(Map.of(), Map.of()) {
+      @Override
+      public Optional<Map<String, String>> loadAll(final Set<String> ids) {
+        throw InternalErrorException.with("Error observed from fake");
+      }
+    };
+    final var cache = this.cacheManager.getCache(client.cacheName());
+    cache.put("1", "cached 1");
+
+    // when
+    this.target.reloadAll(client, Set.of("1"));
+
+    // then
+    Assertions.assertNull(cache.get("1"));
+  }
+
+  @Test
+  public void givenADeletedId_whenCallsPut_shouldCacheItsAbsenceWithoutFetching() {
+    // given
+    final var client = new FakeClient(Map.of("1", "resource 1"), null);
+    final var cache = this.cacheManager.getCache(client.cacheName());
+    cache.put("1", "cached 1");
+
+    // when
+    this.target.put(client, "1", null);
+
+    // then
+    Assertions.assertNull(cache.get("1").get());
+    Assertions.assertTrue(client.loaded.isEmpty());
+  }
+
+  @Test
+  public void givenConcurrentAsyncCallsForAnId_whenCallsLoadAsync_shouldShareOneRequest()
+      throws Exception {
+    // given
+    final var response = new CompletableFuture<Optional<String>>();
+    final FakeClient client = new FakeClient(Map.of(), null) {
+      @Override
+      public CompletableFuture<Optional<String>> loadAsync(final String id) {
+        super.loadAsync(id);
+        return response;
+      }
+    };
+
+    // when
+    final var first = this.target.loadAsync(client, "1");
+    final var second = this.target.loadAsync(client, "1");
+    response.complete(Optional.of("resource 1"));
+
+    // then
+    Assertions.assertEquals(Optional.of("resource 1"), first.get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(Optional.of("resource 1"), second.get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, client.asyncRequests);
+
+    final var cache = this.cacheManager.getCache(client.cacheName());
+    Assertions.assertEquals("resource 1", cache.get("1").get());
+
+    // and the next call is served by the cache
+    Assertions.assertEquals(Optional.of("resource 1"), this.target.loadAsync(client, "1").get());
+    Assertions.assertEquals(1, client.asyncRequests);
+  }
+
+  @Test
+  public void givenAFailingAsyncFetch_whenCallsLoadAsync_shouldFailWithItsExceptionAndNotCache() {
+    // given
+    final var expectedError = InternalErrorException.with("Error observed from fake");
+    final var client = new FakeClient(Map.of(), null) {
+      @Override
+      public CompletableFuture<Optional<String>> loadAsync(final String id) {
+        return CompletableFuture.failedFuture(expectedError);
+      }
+    };
+
+    // when
+    final var actualError = Assertions.assertThrows(ExecutionException.class,
+        () -> this.target.loadAsync(client, "1").get(5, TimeUnit.SECONDS));
+
+    // then
+    Assertions.assertSame(expectedError, actualError.getCause());
+    Assertions.assertNull(this.cacheManager.getCache(client.cacheName()).get("1"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private ObjectProvider<CachedClient<?>> provider() {
+    return (ObjectProvider<CachedClient<?>>) (ObjectProvider<?>) this.clients.getBeanProvider(
+        CachedClient.class);
+  }
+
+  static class FakeClient implements CachedClient<String> {
+
+    private final Map<String, String> resources;
+    private final Map<String, String> bulkResources;
+    private final Map<String, Boolean> loaded = new ConcurrentHashMap<>();
+    private int bulkRequests;
+    private int asyncRequests;
+
+    FakeClient(final Map<String, String> resources, final Map<String, String> bulkResources) {
+      this.resources = resources;
+      this.bulkResources = bulkResources;
+    }
+
+    @Override
+    public String cacheName() {
+      return "fake";
+    }
+
+    @Override
+    public Optional<String> load(final String id) {
+      this.loaded.put(id, true);
+      return Optional.ofNullable(this.resources.get(id));
+    }
+
+    @Override
+    public CompletableFuture<Optional<String>> loadAsync(final String id) {
+      this.asyncRequests++;
+      return CompletableFuture.completedFuture(load(id));
+    }
+
+    @Override
+    public Optional<Map<String, String>> loadAll(final Set<String> ids) {
+      if (this.bulkResources == null) {
+        return Optional.empty();
+      }
+      this.bulkRequests++;
+      return Optional.of(this.bulkResources);
+    }
+  }
+}
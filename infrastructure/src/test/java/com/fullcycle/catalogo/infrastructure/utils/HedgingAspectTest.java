@@ -0,0 +1,217 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.ConcurrencyLimitProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.HedgingProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.HedgingProperties.HedgeSpec;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class HedgingAspectTest {
+
+  private HedgingAspect aspect;
+
+  @AfterEach
+  void tearDown() {
+    if (this.aspect != null) {
+      this.aspect.destroy();
+    }
+  }
+
+  @Test
+  public void givenASlowFirstAttempt_whenCallsFetch_shouldReturnTheHedgedResponse() {
+    // given
+    final var client = new FakeClient(call -> call == HedgePolicy.MIN_SAMPLES + 1
+        ? response("slow", 2_000)
+        : response("resource " + call, 5));
+    final var target = proxy(client, 0.9, 1.0);
+    warmUp(target);
+
+    // when
+    final var actualResource = target.fetch("1");
+
+    // then
+    Assertions.assertEquals(Optional.of("resource " + (HedgePolicy.MIN_SAMPLES + 2)),
+        actualResource);
+    Assertions.assertEquals(HedgePolicy.MIN_SAMPLES + 2, client.requests.get());
+  }
+
+  @Test
+  public void givenNoBudget_whenCallsFetch_shouldWaitForTheFirstAttempt() {
+    // given
+    final var client = new FakeClient(call -> call == HedgePolicy.MIN_SAMPLES + 1
+        ? response("slow", 200)
+        : response("resource " + call, 5));
+    final var target = proxy(client, 0.9, 0.0);
+    warmUp(target);
+
+    // when
+    final var actualResource = target.fetch("1");
+
+    // then
+    Assertions.assertEquals(Optional.of("slow"), actualResource);
+    Assertions.assertEquals(HedgePolicy.MIN_SAMPLES + 1, client.requests.get());
+  }
+
+  @Test
+  public void givenABusyPool_whenCallsFetch_shouldWaitForTheFirstAttempt() {
+    // given
+    final var client = new FakeClient(call -> call == HedgePolicy.MIN_SAMPLES + 1
+        ? response("slow", 200)
+        : response("resource " + call, 5));
+    final var target = proxy(client, spec(0.9, 1.0), 1, true);
+    warmUp(target);
+
+    // when
+    final var actualResource = target.fetch("1");
+
+    // then
+    Assertions.assertEquals(Optional.of("slow"), actualResource);
+    Assertions.assertEquals(HedgePolicy.MIN_SAMPLES + 1, client.requests.get());
+  }
+
+  @Test
+  public void givenNoSparePermit_whenCallsFetch_shouldWaitForTheFirstAttempt() {
+    // given
+    final var client = new FakeClient(call -> call == HedgePolicy.MIN_SAMPLES + 1
+        ? response("slow", 200)
+        : response("resource " + call, 5));
+    final var target = proxy(client, spec(0.9, 1.0), 4, false);
+    warmUp(target);
+
+    // when
+    final var actualResource = target.fetch("1");
+
+    // then
+    Assertions.assertEquals(Optional.of("slow"), actualResource);
+    Assertions.assertEquals(HedgePolicy.MIN_SAMPLES + 1, client.requests.get());
+  }
+
+  @Test
+  public void givenAllAttemptsFailing_whenCallsFetch_shouldThrowTheErrorOfTheFirst() {
+    // given
+    final var expectedError = InternalErrorException.with("Error observed from fake");
+    final var client = new FakeClient(call -> {
+      if (call <= HedgePolicy.MIN_SAMPLES) {
+        return response("resource " + call, 5);
+      }
+      if (call == HedgePolicy.MIN_SAMPLES + 1) {
+        sleep(200);
+        throw expectedError;
+      }
+      throw InternalErrorException.with("Error observed from the hedge");
+    });
+    final var target = proxy(client, 0.9, 1.0);
+    warmUp(target);
+
+    // when
+    final var actualError = Assertions.assertThrows(InternalErrorException.class,
+        () -> target.fetch("1"));
+
+    // then
+    Assertions.assertSame(expectedError, actualError);
+    Assertions.assertEquals(HedgePolicy.MIN_SAMPLES + 2, client.requests.get());
+  }
+
+  @Test
+  public void givenANamespaceWithoutSpec_whenCallsFetch_shouldNotHedge() {
+    // given
+    final var client = new FakeClient(call -> response("resource " + call, 0));
+    final var target = proxy(client, null);
+
+    // when
+    for (int i = 0; i < HedgePolicy.MIN_SAMPLES * 2; i++) {
+      target.fetch("1");
+    }
+
+    // then
+    Assertions.assertEquals(HedgePolicy.MIN_SAMPLES * 2, client.requests.get());
+  }
+
+  private static void warmUp(final FakeClient target) {
+    for (int i = 0; i < HedgePolicy.MIN_SAMPLES; i++) {
+      target.fetch("1");
+    }
+  }
+
+  private static Optional<String> response(final String resource, final long latencyMillis) {
+    sleep(latencyMillis);
+    return Optional.of(resource);
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private FakeClient proxy(final FakeClient client, final double percentile, final double budget) {
+    return proxy(client, spec(percentile, budget));
+  }
+
+  private FakeClient proxy(final FakeClient client, final HedgeSpec spec) {
+    return proxy(client, spec, 32, true);
+  }
+
+  private FakeClient proxy(
+      final FakeClient client,
+      final HedgeSpec spec,
+      final int maxThreads,
+      final boolean spareCapacity
+  ) {
+    final var properties = new HedgingProperties();
+    if (spec != null) {
+      properties.setSpecs(Map.of(client.namespace(), spec));
+    }
+    properties.setMaxThreads(maxThreads);
+    final var bulkheads = new AdaptiveBulkheadAspect(BulkheadRegistry.ofDefaults(),
+        new ConcurrencyLimitProperties()) {
+      @Override
+      public boolean hasSpareCapacity(final String namespace) {
+        return spareCapacity;
+      }
+    };
+    this.aspect = new HedgingAspect(properties, bulkheads);
+
+    final var factory = new AspectJProxyFactory(client);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(this.aspect);
+    return factory.getProxy();
+  }
+
+  private static HedgeSpec spec(final double percentile, final double budget) {
+    final var spec = new HedgeSpec();
+    spec.setPercentile(percentile);
+    spec.setBudget(budget);
+    return spec;
+  }
+
+  static class FakeClient implements HttpClient {
+
+    private final IntFunction<Optional<String>> response;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    FakeClient(final IntFunction<Optional<String>> response) {
+      this.response = response;
+    }
+
+    @Override
+    public String namespace() {
+      return "fake";
+    }
+
+    @Hedged
+    public Optional<String> fetch(final String id) {
+      return this.response.apply(this.requests.incrementAndGet());
+    }
+  }
+}
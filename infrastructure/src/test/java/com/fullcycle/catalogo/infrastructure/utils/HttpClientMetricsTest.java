@@ -0,0 +1,69 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class HttpClientMetricsTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final HttpClientMetrics target = new HttpClientMetrics(this.executor);
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  public void givenARequestInFlight_whenReadsTheGauge_shouldCountItUntilItCompletes()
+      throws Exception {
+    // given
+    final var registry = new SimpleMeterRegistry();
+    this.target.bindTo(registry);
+
+    final var interceptor = this.target.inFlight("categories");
+    final var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/categories/1"));
+
+    // when
+    final var response = interceptor.intercept(request, new byte[0], (req, body) -> {
+      Assertions.assertEquals(1, gauge(registry, "categories"));
+      return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    });
+
+    // then
+    Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+    Assertions.assertEquals(0, gauge(registry, "categories"));
+  }
+
+  @Test
+  public void givenAFailingRequest_whenReadsTheGauge_shouldNotCountIt() {
+    // given
+    final var interceptor = this.target.inFlight("genres");
+    final var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/genres/1"));
+
+    // when
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> interceptor.intercept(request, new byte[0], (req, body) -> {
+          throw new IllegalStateException("connection reset");
+        }));
+
+    // then
+    final var registry = new SimpleMeterRegistry();
+    this.target.bindTo(registry);
+    Assertions.assertEquals(0, gauge(registry, "genres"));
+    Assertions.assertNotNull(registry.find("executor.active").tag("name", "http-client").gauge());
+  }
+
+  private static double gauge(final SimpleMeterRegistry registry, final String namespace) {
+    return registry.get("http.client.requests.in.flight").tag("namespace", namespace).gauge()
+        .value();
+  }
+}
@@ -0,0 +1,92 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.category.Category;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class InMemoryReplicaTest {
+
+  @Test
+  public void givenWriteDuringReload_whenReloadCompletes_shouldKeepTheWrite() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+    final var replica = new InMemoryReplica<>(Category::id);
+
+    // when
+    replica.reload(() -> {
+      replica.remove(aulas.id());
+      replica.put(lives);
+      return List.of(aulas);
+    });
+
+    // then
+    Assertions.assertTrue(replica.isLoaded());
+    Assertions.assertTrue(replica.get(aulas.id()).isEmpty());
+    Assertions.assertEquals(lives, replica.get(lives.id()).orElseThrow());
+  }
+
+  @Test
+  public void givenFailingSource_whenCallsReload_shouldKeepTheCurrentItems() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var replica = new InMemoryReplica<>(Category::id);
+    replica.reload(() -> List.of(aulas));
+
+    // when
+    Assertions.assertThrows(IllegalStateException.class, () -> replica.reload(() -> {
+      throw new IllegalStateException("elasticsearch unavailable");
+    }));
+
+    // then
+    Assertions.assertEquals(List.of(aulas), replica.getAll(Set.of(aulas.id(), "missing")));
+  }
+
+  @Test
+  public void givenItems_whenCallsSearch_shouldFilterSortAndPage() {
+    // given
+    final var aulas = Fixture.Categories.aulas();
+    final var lives = Fixture.Categories.lives();
+    final var talks = Fixture.Categories.talks();
+    final var replica = new InMemoryReplica<>(Category::id);
+    replica.putAll(List.of(aulas, lives, talks));
+
+    // when
+    final var actualOutput = replica.search(
+        it -> !it.id().equals(talks.id()),
+        Comparator.comparing(Category::name).reversed(),
+        0,
+        1
+    );
+
+    // then
+    Assertions.assertEquals(2, actualOutput.meta().total());
+    Assertions.assertEquals(List.of(lives), actualOutput.data());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'',true",
+      "aul,true",
+      "AULAS,true",
+      "grava,true",
+      "las,false",
+      "au xyz,false",
+      "xyz aulas,false",
+      "conteudo grav,true",
+      "aulas grav,false",
+  })
+  public void givenTerms_whenCallsMatchesAsYouType_shouldMatchEveryTokenAndLastTermPrefixInOneValue(
+      final String terms,
+      final boolean expectedMatch
+  ) {
+    Assertions.assertEquals(expectedMatch,
+        InMemoryReplica.matchesAsYouType(terms, "Aulas", "Conteudo gravado"));
+  }
+}
@@ -0,0 +1,135 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import static java.util.Comparator.comparing;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InMemorySearchIndexTest {
+
+  @Test
+  public void givenFewMatches_whenCallsPage_shouldSortTheMatches() {
+    // given
+    final var index = newIndex();
+    index.putAll(IntStream.range(0, 100)
+        .mapToObj(i -> new Item("id-%03d".formatted(i), "item %d".formatted(i),
+            i % 50 == 0 ? "rare" : "common"))
+        .toList());
+
+    // when
+    final var actualOutput = index.query()
+        .filter("tag", Set.of("rare"))
+        .sort("name", true)
+        .page(0, 10);
+
+    // then
+    Assertions.assertEquals(2, actualOutput.meta().total());
+    Assertions.assertEquals(List.of("item 50", "item 0"),
+        actualOutput.data().stream().map(Item::name).toList());
+  }
+
+  @Test
+  public void givenManyMatches_whenCallsPage_shouldWalkTheSortedView() {
+    // given
+    final var index = newIndex();
+    index.putAll(IntStream.range(0, 100)
+        .mapToObj(i -> new Item("id-%03d".formatted(i), "item %03d".formatted(i),
+            i % 2 == 0 ? "even" : "odd"))
+        .toList());
+
+    // when
+    final var actualOutput = index.query()
+        .filter("tag", Set.of("even"))
+        .sort("name", false)
+        .page(2, 3);
+
+    // then
+    Assertions.assertEquals(50, actualOutput.meta().total());
+    Assertions.assertEquals(List.of("item 012", "item 014", "item 016"),
+        actualOutput.data().stream().map(Item::name).toList());
+  }
+
+  @Test
+  public void givenAnItemToStartAfter_whenCallsPage_shouldResumeRightPastItsPosition() {
+    // given
+    final var index = newIndex();
+    index.putAll(IntStream.range(0, 100)
+        .mapToObj(i -> new Item("id-%03d".formatted(i), "item %d".formatted(i / 10),
+            i % 50 < 5 ? "rare" : "common"))
+        .toList());
+    final var after = index.get("id-052").orElseThrow();
+
+    // when
+    final var fewMatches = index.query()
+        .filter("tag", Set.of("rare"))
+        .sort("name", false)
+        .after(after)
+        .page(3, 4);
+    final var manyMatches = index.query()
+        .sort("name", true)
+        .after(after)
+        .page(3, 4);
+
+    // then
+    Assertions.assertEquals(10, fewMatches.meta().total());
+    Assertions.assertEquals(3, fewMatches.meta().currentPage());
+    Assertions.assertEquals(List.of("id-053", "id-054"),
+        fewMatches.data().stream().map(Item::id).toList());
+    Assertions.assertEquals(100, manyMatches.meta().total());
+    Assertions.assertEquals(List.of("id-051", "id-050", "id-049", "id-048"),
+        manyMatches.data().stream().map(Item::id).toList());
+  }
+
+  @Test
+  public void givenManyTerms_whenCallsPage_shouldMatchOnlyItemsHavingEveryTerm() {
+    // given
+    final var index = newIndex();
+    index.put(new Item("1", "Aulas gravadas", "a"));
+    index.put(new Item("2", "Aulas ao vivo", "a"));
+    index.put(new Item("3", "Lives gravadas", "a"));
+
+    // when
+    final var actualOutput = index.query()
+        .terms("aulas grav")
+        .page(0, 10);
+
+    // then
+    Assertions.assertEquals(List.of("Aulas gravadas"),
+        actualOutput.data().stream().map(Item::name).toList());
+  }
+
+  @Test
+  public void givenRemovedAndReplacedItems_whenCallsPage_shouldNotFindTheirOldValues() {
+    // given
+    final var index = newIndex();
+    index.put(new Item("1", "Aulas gravadas", "a"));
+    index.put(new Item("2", "Lives", "a"));
+
+    // when
+    index.put(new Item("1", "Talks", "b"));
+    index.remove("2");
+
+    // then
+    Assertions.assertEquals(0, index.query().terms("aulas").page(0, 10).meta().total());
+    Assertions.assertEquals(0, index.query().filter("tag", Set.of("a")).page(0, 10).meta().total());
+    Assertions.assertEquals(List.of("Talks"),
+        index.query().terms("ta").sort("name", false).page(0, 10).data().stream()
+            .map(Item::name).toList());
+    Assertions.assertEquals(1, index.size());
+  }
+
+  private static InMemorySearchIndex<Item> newIndex() {
+    return InMemorySearchIndex.builder(Item::id)
+        .text(Item::name)
+        .keyword("tag", it -> Set.of(it.tag()))
+        .sort("name", comparing(Item::name))
+        .build();
+  }
+
+  private record Item(String id, String name, String tag) {
+
+  }
+}
@@ -0,0 +1,34 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SearchCursorTest {
+
+  @Test
+  public void givenSortValues_whenEncodeAndDecode_shouldKeepThem() {
+    // given
+    final var expectedSearchAfter = List.<Object>of("Java 21", 1707086611086L, "abc123");
+
+    // when
+    final var actualCursor = SearchCursor.decode(new SearchCursor(expectedSearchAfter).encode());
+
+    // then
+    Assertions.assertEquals(expectedSearchAfter, actualCursor.searchAfter());
+  }
+
+  @Test
+  public void givenInvalidCursor_whenCallsDecode_shouldThrowDomainException() {
+    // given
+    final var expectedErrorMessage = "'after' is not a valid cursor";
+
+    // when
+    final var actualError =
+        Assertions.assertThrows(DomainException.class, () -> SearchCursor.decode("not-a-cursor"));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualError.getMessage());
+  }
+}
@@ -0,0 +1,30 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SearchQueriesTest {
+
+  @Test
+  public void givenFields_whenCallsSearchAsYouType_shouldRequireEveryTermOnTheirShingleSubfields() {
+    // given
+    final var expectedTerms = "system des";
+    final var expectedFields = List.of(
+        "title.search", "title.search._2gram", "title.search._3gram",
+        "description.search", "description.search._2gram", "description.search._3gram"
+    );
+
+    // when
+    final var actualQuery = SearchQueries.searchAsYouType(expectedTerms, "title", "description");
+
+    // then
+    Assertions.assertTrue(actualQuery.isMultiMatch());
+    Assertions.assertEquals(expectedTerms, actualQuery.multiMatch().query());
+    Assertions.assertEquals(TextQueryType.BoolPrefix, actualQuery.multiMatch().type());
+    Assertions.assertEquals(Operator.And, actualQuery.multiMatch().operator());
+    Assertions.assertEquals(expectedFields, actualQuery.multiMatch().fields());
+  }
+}
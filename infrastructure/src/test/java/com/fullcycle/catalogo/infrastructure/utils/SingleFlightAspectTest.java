@@ -0,0 +1,145 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class SingleFlightAspectTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    this.executor = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  public void givenConcurrentCallsForAnId_whenCallsFetch_shouldShareOneRequest() throws Exception {
+    // given
+    final var client = new FakeClient(id -> Optional.of("resource " + id));
+    final var target = proxy(client);
+
+    // when
+    final var calls = submit(8, () -> target.fetch("1"));
+    client.release();
+
+    // then
+    for (final var call : calls) {
+      Assertions.assertEquals(Optional.of("resource 1"), call.get(5, TimeUnit.SECONDS));
+    }
+    Assertions.assertEquals(1, client.requests.get());
+  }
+
+  @Test
+  public void givenConcurrentCallsForDifferentIds_whenCallsFetch_shouldNotShareRequests()
+      throws Exception {
+    // given
+    final var client = new FakeClient(id -> Optional.of("resource " + id));
+    final var target = proxy(client);
+
+    // when
+    final var first = submit(1, () -> target.fetch("1"));
+    final var second = submit(1, () -> target.fetch("2"));
+    client.release();
+
+    // then
+    Assertions.assertEquals(Optional.of("resource 1"), first.get(0).get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(Optional.of("resource 2"), second.get(0).get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(2, client.requests.get());
+  }
+
+  @Test
+  public void givenAFailingRequest_whenCallsFetch_shouldThrowItsExceptionToEveryCaller()
+      throws Exception {
+    // given
+    final var expectedError = InternalErrorException.with("Error observed from fake");
+    final var client = new FakeClient(id -> {
+      throw expectedError;
+    });
+    final var target = proxy(client);
+
+    // when
+    final var calls = submit(4, () -> target.fetch("1"));
+    client.release();
+
+    // then
+    for (final var call : calls) {
+      final var actualError = Assertions.assertThrows(ExecutionException.class,
+          () -> call.get(5, TimeUnit.SECONDS));
+      Assertions.assertSame(expectedError, actualError.getCause());
+    }
+    Assertions.assertEquals(1, client.requests.get());
+
+    // and the failure is not remembered
+    final var actualError = Assertions.assertThrows(InternalErrorException.class,
+        () -> target.fetch("1"));
+    Assertions.assertSame(expectedError, actualError);
+  }
+
+  private List<Future<Optional<String>>> submit(
+      final int callers,
+      final Callable<Optional<String>> call
+  ) throws InterruptedException {
+    final var futures = new ArrayList<Future<Optional<String>>>();
+    for (int i = 0; i < callers; i++) {
+      futures.add(this.executor.submit(call));
+    }
+    // lets every caller reach the in-flight request before it completes
+    Thread.sleep(100);
+    return futures;
+  }
+
+  private static FakeClient proxy(final FakeClient client) {
+    final var factory = new AspectJProxyFactory(client);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new SingleFlightAspect());
+    return factory.getProxy();
+  }
+
+  static class FakeClient implements HttpClient {
+
+    private final Function<String, Optional<String>> response;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    FakeClient(final Function<String, Optional<String>> response) {
+      this.response = response;
+    }
+
+    @Override
+    public String namespace() {
+      return "fake";
+    }
+
+    @SingleFlight
+    public Optional<String> fetch(final String id) throws InterruptedException {
+      this.requests.incrementAndGet();
+      this.released.await(5, TimeUnit.SECONDS);
+      return this.response.apply(id);
+    }
+
+    void release() {
+      this.released.countDown();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.catalogo.infrastructure.video;
 
 import com.fullcycle.catalogo.AbstractElasticsearchTest;
+import com.fullcycle.catalogo.application.video.list.ListVideoUseCase;
 import com.fullcycle.catalogo.domain.Fixture;
 import com.fullcycle.catalogo.domain.utils.IdUtils;
 import com.fullcycle.catalogo.domain.utils.InstantUtils;
@@ -10,6 +11,7 @@ import com.fullcycle.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.catalogo.infrastructure.video.persistence.VideoDocument;
 import com.fullcycle.catalogo.infrastructure.video.persistence.VideoRepository;
 import java.time.Year;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -186,6 +188,44 @@ class VideoElasticsearchGatewayTest extends AbstractElasticsearchTest {
     Assertions.assertEquals(expectedThumbnailHalf, actualVideo.thumbnailHalf());
   }
 
+  @Test
+  public void givenValidVideos_whenCallsSaveAll_shouldPersistThem() {
+    // given
+    final var expectedItems = List.of(Fixture.Videos.java21(), Fixture.Videos.golang());
+
+    // when
+    final var actualOutput = this.videoGateway.saveAll(expectedItems);
+
+    // then
+    Assertions.assertEquals(expectedItems, actualOutput);
+    Assertions.assertEquals(expectedItems.size(), this.videoRepository.count());
+
+    expectedItems.forEach(it -> Assertions.assertTrue(this.videoRepository.existsById(it.id())));
+  }
+
+  @Test
+  public void givenValidIds_whenCallsDeleteAllById_shouldDeleteThem() {
+    // given
+    final var first = Fixture.Videos.java21();
+    final var second = Fixture.Videos.golang();
+
+    this.videoRepository.saveAll(List.of(VideoDocument.from(first), VideoDocument.from(second)));
+
+    Assertions.assertEquals(2, this.videoRepository.count());
+
+    // when
+    this.videoGateway.deleteAllById(Set.of(first.id(), second.id()));
+
+    // then
+    Assertions.assertEquals(0, this.videoRepository.count());
+  }
+
+  @Test
+  public void givenEmptyIds_whenCallsDeleteAllById_shouldBeOk() {
+    // when/then
+    Assertions.assertDoesNotThrow(() -> this.videoGateway.deleteAllById(Set.of()));
+  }
+
   @Test
   public void givenValidId_whenCallsDeleteById_shouldDeleteIt() {
     // given
@@ -647,6 +687,59 @@ class VideoElasticsearchGatewayTest extends AbstractElasticsearchTest {
     }
   }
 
+  @Test
+  public void givenNextCursor_whenCallsFindAllWithAfter_shouldReturnTheFollowingVideos() {
+    // given
+    mockVideos();
+
+    final var expectedPerPage = 2;
+    final var expectedFirstPage = List.of("Golang 1.22", "Java 21");
+    final var expectedSecondPage = List.of("System Design no Mercado Livre na pratica");
+
+    final var firstQuery = new VideoSearchQuery(0, expectedPerPage, "", "title", "asc", null, null,
+        Set.of(), Set.of(), Set.of());
+
+    // when
+    final var firstPage = this.videoGateway.findAll(firstQuery);
+    final var lastVideo = ListVideoUseCase.Output.from(firstPage.data().get(1));
+
+    final var secondQuery = new VideoSearchQuery(0, expectedPerPage, "", "title", "asc", null, null,
+        Set.of(), Set.of(), Set.of(), VideoCursors.of(lastVideo, "title"));
+
+    final var secondPage = this.videoGateway.findAll(secondQuery);
+
+    // then
+    Assertions.assertEquals(expectedFirstPage, firstPage.data().stream().map(Video::title).toList());
+
+    Assertions.assertEquals(expectedSecondPage,
+        secondPage.data().stream().map(Video::title).toList());
+    Assertions.assertEquals(3, secondPage.meta().total());
+  }
+
+  @Test
+  public void givenSelectedFields_whenCallsFindAll_shouldOnlyLoadThem() {
+    // given
+    mockVideos();
+
+    final var aQuery = new VideoSearchQuery(0, 10, "java", "title", "asc", null, null,
+        Set.of(), Set.of(), Set.of(), null, Set.of("title", "categories"));
+
+    // when
+    final var actualOutput = this.videoGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(1, actualOutput.data().size());
+
+    final var actualVideo = actualOutput.data().get(0);
+    final var expectedVideo = Fixture.Videos.java21();
+
+    Assertions.assertEquals(expectedVideo.title(), actualVideo.title());
+    Assertions.assertEquals(expectedVideo.categories(), actualVideo.categories());
+    Assertions.assertNull(actualVideo.description());
+    Assertions.assertNull(actualVideo.video());
+    Assertions.assertTrue(actualVideo.castMembers().isEmpty());
+  }
+
   private void mockVideos() {
     this.videoRepository.save(VideoDocument.from(Fixture.Videos.systemDesign()));
     this.videoRepository.save(VideoDocument.from(Fixture.Videos.golang()));
@@ -0,0 +1,175 @@
+package com.fullcycle.catalogo.infrastructure.video;
+
+import com.fullcycle.catalogo.domain.Fixture;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.video.Video;
+import com.fullcycle.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.catalogo.infrastructure.utils.SearchCursor;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+
+class VideoInMemoryGatewayTest {
+
+  private VideoInMemoryGateway videoGateway;
+
+  @BeforeEach
+  void setUp() {
+    this.videoGateway = new VideoInMemoryGateway();
+    this.videoGateway.saveAll(List.of(
+        Fixture.Videos.systemDesign(),
+        Fixture.Videos.golang(),
+        Fixture.Videos.java21()
+    ));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "'',0,10,3,3,Golang 1.22",
+      "jav,0,10,1,1,Java 21",
+      "vídeo,0,10,2,2,Golang 1.22",
+      "mercado liv,0,10,1,1,System Design no Mercado Livre na pratica",
+      "'',1,1,1,3,Java 21",
+      "'',5,1,0,3,",
+  })
+  public void givenTerms_whenCallsFindAll_shouldMatchSortAndPage(
+      final String expectedTerms,
+      final int expectedPage,
+      final int expectedPerPage,
+      final int expectedItemsCount,
+      final long expectedTotal,
+      final String expectedTitle
+  ) {
+    // given
+    final var aQuery = new VideoSearchQuery(expectedPage, expectedPerPage, expectedTerms, "title",
+        "asc", null, null, Set.of(), Set.of(), Set.of());
+
+    // when
+    final var actualOutput = this.videoGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(expectedPage, actualOutput.meta().currentPage());
+    Assertions.assertEquals(expectedPerPage, actualOutput.meta().perPage());
+    Assertions.assertEquals(expectedTotal, actualOutput.meta().total());
+    Assertions.assertEquals(expectedItemsCount, actualOutput.data().size());
+    if (expectedItemsCount > 0) {
+      Assertions.assertEquals(expectedTitle, actualOutput.data().get(0).title());
+    }
+  }
+
+  @Test
+  public void givenFilters_whenCallsFindAll_shouldReturnOnlyMatchingVideos() {
+    // given
+    final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", "L", 2024,
+        Set.of("meeting", "aulas"), Set.of("wesley"), Set.of("golang"));
+
+    // when
+    final var actualOutput = this.videoGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(1, actualOutput.meta().total());
+    Assertions.assertEquals("Golang 1.22", actualOutput.data().get(0).title());
+  }
+
+  @Test
+  public void givenVideoWithoutRatingAndLaunchYear_whenCallsFindAll_shouldFilterItOut() {
+    // given
+    final var aVideo = Mockito.mock(Video.class);
+    Mockito.when(aVideo.id()).thenReturn("123");
+    Mockito.when(aVideo.title()).thenReturn("Rust 1.75");
+    Mockito.when(aVideo.published()).thenReturn(true);
+
+    // when
+    this.videoGateway.save(aVideo);
+
+    final var allVideos = this.videoGateway.findAll(new VideoSearchQuery(0, 10, "", "launched_at",
+        "asc", null, null, Set.of(), Set.of(), Set.of()));
+    final var ratedVideos = this.videoGateway.findAll(new VideoSearchQuery(0, 10, "", "title",
+        "asc", "L", null, Set.of(), Set.of(), Set.of()));
+
+    // then
+    Assertions.assertEquals(4, allVideos.meta().total());
+    Assertions.assertEquals(aVideo, allVideos.data().get(3));
+    Assertions.assertFalse(ratedVideos.data().contains(aVideo));
+  }
+
+  @Test
+  public void givenDescendingLaunchedAt_whenCallsFindAll_shouldSortByIt() {
+    // given
+    final var aQuery = new VideoSearchQuery(0, 10, "", "launched_at", "desc", null, null,
+        Set.of(), Set.of(), Set.of());
+
+    // when
+    final var actualOutput = this.videoGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(
+        List.of("Golang 1.22", "Java 21", "System Design no Mercado Livre na pratica"),
+        actualOutput.data().stream().map(Video::title).toList());
+  }
+
+  @Test
+  public void givenTheCursorOfAPage_whenCallsFindAll_shouldReturnTheNextOne() {
+    // given
+    final var firstPage = this.videoGateway.findAll(new VideoSearchQuery(0, 1, "", "title", "asc",
+        null, null, Set.of(), Set.of(), Set.of()));
+    final var last = firstPage.data().get(0);
+    final var after = new SearchCursor(List.of(last.title(), last.id())).encode();
+
+    // when
+    final var actualOutput = this.videoGateway.findAll(new VideoSearchQuery(1, 2, "", "title",
+        "asc", null, null, Set.of(), Set.of(), Set.of(), after));
+
+    // then
+    Assertions.assertEquals("Golang 1.22", last.title());
+    Assertions.assertEquals(3, actualOutput.meta().total());
+    Assertions.assertEquals(
+        List.of("Java 21", "System Design no Mercado Livre na pratica"),
+        actualOutput.data().stream().map(Video::title).toList());
+  }
+
+  @Test
+  public void givenACursorOfAnUnknownVideo_whenCallsFindAll_shouldReturnError() {
+    // given
+    final var after = new SearchCursor(List.of("Golang 1.22", "unknown")).encode();
+    final var expectedErrorMessage = "'after' is not a valid cursor";
+
+    // when
+    final var actualError = Assertions.assertThrows(DomainException.class,
+        () -> this.videoGateway.findAll(new VideoSearchQuery(0, 1, "", "title", "asc", null, null,
+            Set.of(), Set.of(), Set.of(), after)));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualError.getErrors().get(0).message());
+  }
+
+  @Test
+  public void givenUpdatedVideo_whenCallsFindAll_shouldSearchItsNewValues() {
+    // given
+    final var golang = Fixture.Videos.golang();
+    this.videoGateway.save(golang);
+
+    final var unpublished = Video.with(golang.id(), "Rust 1.75", golang.description(),
+        golang.launchedAt().getValue(), golang.duration(), golang.rating().getName(),
+        golang.opened(), false, golang.createdAt().toString(), golang.updatedAt().toString(),
+        golang.video(), golang.trailer(), golang.banner(), golang.thumbnail(),
+        golang.thumbnailHalf(), golang.categories(), golang.castMembers(), golang.genres());
+
+    // when
+    this.videoGateway.save(unpublished);
+
+    final var actualOutput = this.videoGateway.findAll(new VideoSearchQuery(0, 10, "", "title",
+        "asc", null, 2024, Set.of(), Set.of(), Set.of()));
+
+    // then
+    Assertions.assertEquals(1, actualOutput.meta().total());
+    Assertions.assertNotEquals(golang.id(), actualOutput.data().get(0).id());
+    Assertions.assertEquals("Rust 1.75", this.videoGateway.findById(golang.id())
+        .orElseThrow().title());
+  }
+}
@@ -0,0 +1,57 @@
+package com.fullcycle.catalogo.infrastructure.video;
+
+import static com.fullcycle.catalogo.infrastructure.video.VideoQueryBuilder.containingGenres;
+import static com.fullcycle.catalogo.infrastructure.video.VideoQueryBuilder.launchedAtEquals;
+import static com.fullcycle.catalogo.infrastructure.video.VideoQueryBuilder.onlyPublished;
+import static com.fullcycle.catalogo.infrastructure.video.VideoQueryBuilder.ratingEquals;
+import static com.fullcycle.catalogo.infrastructure.video.VideoQueryBuilder.titleOrDescriptionContaining;
+
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class VideoQueryBuilderTest {
+
+  @Test
+  public void givenTermsAndFilters_whenCallsBuild_shouldScoreOnlyTheTerms() {
+    // given
+    final var aBuilder = new VideoQueryBuilder(
+        onlyPublished(),
+        containingGenres(Set.of("123")),
+        launchedAtEquals(2024),
+        ratingEquals("L"),
+        titleOrDescriptionContaining("system des")
+    );
+
+    // when
+    final var actualQuery = aBuilder.build();
+
+    // then
+    Assertions.assertTrue(actualQuery.isBool());
+    Assertions.assertEquals(1, actualQuery.bool().must().size());
+    Assertions.assertTrue(actualQuery.bool().must().get(0).isMultiMatch());
+    Assertions.assertEquals(4, actualQuery.bool().filter().size());
+  }
+
+  @Test
+  public void givenOnlyFilters_whenCallsBuild_shouldWrapThemInConstantScore() {
+    // given
+    final var aBuilder = new VideoQueryBuilder(
+        onlyPublished(),
+        containingGenres(Set.of("123")),
+        titleOrDescriptionContaining("")
+    );
+
+    // when
+    final var actualQuery = aBuilder.build();
+
+    // then
+    Assertions.assertTrue(actualQuery.isConstantScore());
+
+    final var actualFilter = actualQuery.constantScore().filter();
+    Assertions.assertTrue(actualFilter.isBool());
+    Assertions.assertTrue(actualFilter.bool().must().isEmpty());
+    Assertions.assertEquals(2, actualFilter.bool().filter().size());
+    Assertions.assertTrue(actualFilter.bool().filter().get(1).isTerms());
+  }
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.catalogo.infrastructure.video.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class VideoEventTest {
+
+  @Test
+  public void givenCompleteVideoEvent_whenCallsMerge_shouldTakeColumnsFromRowAndJoinsFromDto() {
+    // given
+    final var expectedUnixTimestamp = 1707086611086071L;
+    final var expectedDate = "2024-02-04T22:43:31.086Z";
+    final var expectedCategories = Set.of("c1");
+    final var expectedCastMembers = Set.of("m1");
+    final var expectedGenres = Set.of("g1");
+    final var expectedBanner = new ImageResourceDTO("1", "abc", "banner", "/banner");
+
+    final var event = new VideoEvent("123", "Java 21", "Novidades", 2023, true, false, "AGE_10",
+        "120.5", expectedUnixTimestamp, expectedUnixTimestamp);
+
+    final var dto = new VideoDTO("123", "Java 17", "Antigo", 2021, "L", 10.0, false, true,
+        null, null, expectedBanner, null, null, expectedCategories, expectedCastMembers,
+        expectedGenres, "2021-01-01T00:00:00Z", "2021-01-01T00:00:00Z");
+
+    // when
+    final var actualDto = event.merge(dto);
+
+    // then
+    assertTrue(event.isComplete());
+    assertEquals("Java 21", actualDto.title());
+    assertEquals("Novidades", actualDto.description());
+    assertEquals(2023, actualDto.yearLaunched());
+    assertEquals("10", actualDto.rating());
+    assertEquals(120.5, actualDto.duration());
+    assertTrue(actualDto.opened());
+    assertFalse(actualDto.published());
+    assertEquals(expectedDate, actualDto.createdAt());
+    assertEquals(expectedDate, actualDto.updatedAt());
+    assertEquals(expectedBanner, actualDto.banner());
+    assertEquals(expectedCategories, actualDto.categoriesId());
+    assertEquals(expectedCastMembers, actualDto.castMembersId());
+    assertEquals(expectedGenres, actualDto.genresId());
+  }
+
+  @Test
+  public void givenEncodedDecimalDuration_whenCallsMerge_shouldKeepDto() {
+    // given
+    final var event = new VideoEvent("123", "Java 21", "Novidades", 2023, true, false, "L",
+        "AQ==", 1707086611086071L, 1707086611086071L);
+
+    final var dto = new VideoDTO("123", "Java 17", "Antigo", 2021, "L", 10.0, false, true,
+        null, null, null, null, null, Set.of(), Set.of(), Set.of(), "2021-01-01T00:00:00Z",
+        "2021-01-01T00:00:00Z");
+
+    // when
+    final var actualDto = event.merge(dto);
+
+    // then
+    assertFalse(event.isComplete());
+    assertSame(dto, actualDto);
+  }
+}